@@ -0,0 +1,85 @@
+package com.example.bench;
+
+import com.example.model.BuildCategory;
+import com.example.model.Category;
+import com.example.model.CategoryInterface;
+import com.example.model.Family;
+import com.example.model.Game;
+import com.example.model.SerializableColor;
+import com.example.model.Team;
+import com.example.service.GameFactoryService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Fixtures for the JMH benchmarks ({@code -Pjmh}) and the perf regression tests ({@code -Pperf}):
+ * the real game of {@link GameFactoryService} and synthetic, scaled games (many teams / categories)
+ * with deterministic influence (fixed seed). Shared source root {@code src/fixtures/java}.
+ */
+public final class BenchGames {
+
+    private BenchGames() { }
+
+    /** The game as created for a real evening (9 teams, 4 categories, 2 build categories). */
+    public static Game realistic() {
+        Game g = GameFactoryService.newGame("Bench");
+        fillInfluence(g, 42L);
+        return g;
+    }
+
+    /**
+     * Synthetic game: {@code teams} teams in families of three, {@code categories} plain categories
+     * plus the two build categories (classpath CSVs), all with random positive influence.
+     */
+    public static Game synthetic(int teams, int categories) {
+        List<Family> families = new ArrayList<>();
+        List<Team> allTeams = new ArrayList<>();
+        for (int i = 0; i < teams; i++) {
+            if (i % 3 == 0) families.add(new Family("Familie " + (i / 3 + 1), color(i / 3)));
+            Family f = families.get(families.size() - 1);
+            allTeams.add(new Team("Team " + (i + 1), i + 1, color(i), f));
+        }
+
+        List<CategoryInterface> cats = new ArrayList<>();
+        for (int i = 0; i < categories; i++) {
+            cats.add(new Category("Kategorie " + (i + 1), allTeams));
+        }
+        cats.add(new BuildCategory("Revolution", "Aufbau der Revolution", allTeams,
+                "/com/example/csv/revolution.csv", GameFactoryService.materialWorths(), "/com/example/images/revolution", null));
+        cats.add(new BuildCategory("Versailles", "Bau von Versailles", allTeams,
+                "/com/example/csv/versailles.csv", GameFactoryService.materialWorths(), "/com/example/images/versailles", null));
+
+        Game g = new Game("Bench " + teams + "x" + categories, families, cats);
+        fillInfluence(g, 42L);
+        return g;
+    }
+
+    public static BuildCategory firstBuild(Game g) {
+        for (CategoryInterface c : g.getCategories()) {
+            if (c instanceof BuildCategory bc) return bc;
+        }
+        throw new IllegalStateException("no build category");
+    }
+
+    public static List<Team> teams(Game g) {
+        List<Team> out = new ArrayList<>();
+        for (Family f : g.getFamilies()) out.addAll(f.getTeams());
+        return out;
+    }
+
+    private static void fillInfluence(Game g, long seed) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        List<Team> teams = teams(g);
+        for (CategoryInterface c : g.getCategories()) {
+            for (Team t : teams) {
+                c.addInfluence(t, rnd.nextDouble(0.0, 100.0));
+            }
+        }
+    }
+
+    private static SerializableColor color(int i) {
+        return SerializableColor.of255((i * 53) % 256, (i * 97) % 256, (i * 151) % 256);
+    }
+}
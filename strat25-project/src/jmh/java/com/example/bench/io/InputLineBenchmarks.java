@@ -0,0 +1,53 @@
+package com.example.bench.io;
+
+import com.example.net.InputMessage;
+import com.example.net.InputType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Line protocol of the NetInputServer: {@link InputMessage#encodeLine()} / {@link InputMessage#decodeLine(String)}
+ * over the messages the input clients actually send (one of each type, see GameService), in ops/us.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class InputLineBenchmarks {
+
+    private InputMessage[] messages;
+    private String[] lines;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        messages = new InputMessage[] {
+                new InputMessage(InputType.TEAM_PRESTIGE_DELTA).put("teamId", 7).put("delta", 2.5),
+                new InputMessage(InputType.CATEGORY_INFLUENCE_DELTA).put("teamId", 3)
+                        .put("category", "Kirche & Adel").put("delta", -1.25),
+                new InputMessage(InputType.MATERIAL_ADD).put("teamId", 9).put("build", "Versailles")
+                        .put("material", "STEINZIEGEL").put("amount", 12),
+                new InputMessage(InputType.SET_SPEED).put("speed", 1.5),
+                new InputMessage(InputType.SET_PRESTIGE_MULTIPLIER).put("mult", 2.0),
+        };
+        lines = new String[messages.length];
+        for (int i = 0; i < messages.length; i++) lines[i] = messages[i].encodeLine();
+    }
+
+    @Benchmark
+    public String encodeLine() {
+        return messages[cursor++ % messages.length].encodeLine();
+    }
+
+    @Benchmark
+    public InputMessage decodeLine() throws Exception {
+        return InputMessage.decodeLine(lines[cursor++ % lines.length]);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.bench.io;
+
+import com.example.bench.BenchGames;
+import com.example.model.Game;
+
+/** Resolves the {@code game} parameter of the io benchmarks ("realistic" or "TxC"). */
+final class IoFixtures {
+
+    private IoFixtures() { }
+
+    static Game game(String spec) {
+        if ("realistic".equals(spec)) return BenchGames.realistic();
+        int x = spec.indexOf('x');
+        if (x <= 0) throw new IllegalArgumentException("game: " + spec);
+        return BenchGames.synthetic(Integer.parseInt(spec.substring(0, x)), Integer.parseInt(spec.substring(x + 1)));
+    }
+}
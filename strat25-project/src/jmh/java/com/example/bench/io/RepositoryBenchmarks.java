@@ -0,0 +1,107 @@
+package com.example.bench.io;
+
+import com.example.model.Game;
+import com.example.repository.ObjectSerializer;
+import com.example.repository.RepositoryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Save files through the {@link RepositoryService} against a temp directory.
+ *
+ * {@code game}: "realistic" is the evening game, "TxC" a synthetic one with T teams and C categories.
+ * {@code files}: number of backup files of the game (and a tenth of that as further saves), so that
+ * the listings run over a directory as it looks after a few evenings with autosave.
+ *
+ * Run: {@code mvn -Pjmh verify -DskipTests} (results in target/jmh-io.json).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class RepositoryBenchmarks {
+
+    private static final DateTimeFormatter TS = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    @Param({ "realistic", "60x24", "300x96" })
+    public String game;
+
+    @Param({ "10", "5000" })
+    public int files;
+
+    private Path dir;
+    private Game item;
+    private byte[] data;
+    private final ObjectSerializer<Game> serializer = new ObjectSerializer<>();
+    private RepositoryService<Game> repo;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        item = IoFixtures.game(game);
+        data = serializer.toBytes(item);
+        dir = Files.createTempDirectory("strat25-bench");
+        repo = new RepositoryService<>(dir, ".ser", serializer);
+        repo.saveSerialized(item.getName(), data);
+
+        // Backups mit fortlaufendem Zeitstempel (wie sie die Autosaves hinterlassen), Inhalt egal
+        Path backups = Files.createDirectories(dir.resolve("backups").resolve(item.getName()));
+        LocalDateTime ts = LocalDateTime.of(2025, 1, 1, 18, 0);
+        byte[] stub = new byte[64];
+        for (int i = 0; i < files; i++) {
+            Files.write(backups.resolve(item.getName() + "_" + ts.plusMinutes(i).format(TS) + ".ser"), stub);
+        }
+        for (int i = 0; i < files / 10; i++) {
+            Files.write(dir.resolve("Spiel " + i + ".ser"), stub);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> s = Files.walk(dir)) {
+            for (Path p : s.sorted(Comparator.reverseOrder()).toList()) Files.deleteIfExists(p);
+        }
+    }
+
+    @Benchmark
+    public void save() {
+        repo.save(item);
+    }
+
+    /** One file name per second (timestamp), so the backup directory only grows by one file per second. */
+    @Benchmark
+    public void backup() {
+        repo.backup(item);
+    }
+
+    @Benchmark
+    public List<String> listSaves() {
+        return repo.listSaves();
+    }
+
+    @Benchmark
+    public List<String> listBackups() {
+        return repo.listBackups(item.getName());
+    }
+
+    @Benchmark
+    public Game load() throws Exception {
+        return repo.load(item.getName());
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.bench.io;
+
+import com.example.model.Game;
+import com.example.repository.ObjectSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ObjectSerializer}: file save/load and the in-memory variants (what the snapshot path pays).
+ * {@code game} as in {@link RepositoryBenchmarks}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class SerializerBenchmarks {
+
+    @Param({ "realistic", "60x24", "300x96" })
+    public String game;
+
+    private final ObjectSerializer<Game> serializer = new ObjectSerializer<>();
+    private Game item;
+    private byte[] data;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        item = IoFixtures.game(game);
+        data = serializer.toBytes(item);
+        file = Files.createTempFile("strat25-bench", ".ser");
+        serializer.saveBytes(data, file.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void save() {
+        serializer.save(item, file.toString());
+    }
+
+    @Benchmark
+    public Game load() throws Exception {
+        return serializer.load(file.toString());
+    }
+
+    @Benchmark
+    public byte[] toBytes() throws IOException {
+        return serializer.toBytes(item);
+    }
+
+    @Benchmark
+    public Game fromBytes() throws Exception {
+        return serializer.fromBytes(data);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.bench.io;
+
+import com.example.model.Game;
+import com.example.repository.ObjectSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One GameSyncServer/GameSyncClient frame without the socket: Java serialization of the whole game,
+ * {@code int length + payload} through a DataOutputStream, and on the client readInt/readFully +
+ * ObjectInputStream into a {@link Game}. {@code game} as in {@link RepositoryBenchmarks};
+ * gc.alloc.rate.norm of {@code encode} is roughly twice the frame size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class SyncFrameBenchmarks {
+
+    @Param({ "realistic", "60x24", "300x96" })
+    public String game;
+
+    private final ObjectSerializer<Game> serializer = new ObjectSerializer<>();
+    private Game item;
+    private byte[] frame;
+    private final ByteArrayOutputStream wire = new ByteArrayOutputStream(256 * 1024);
+    private final DataOutputStream out = new DataOutputStream(wire);
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        item = IoFixtures.game(game);
+        byte[] payload = serializer.toBytes(item);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + 4);
+        DataOutputStream d = new DataOutputStream(bytes);
+        d.writeInt(payload.length);
+        d.write(payload);
+        d.flush();
+        frame = bytes.toByteArray();
+    }
+
+    /** Server side of one broadcast (per client the same bytes are written again). */
+    @Benchmark
+    public int encode() throws IOException {
+        wire.reset();
+        byte[] payload = serializer.toBytes(item);
+        out.writeInt(payload.length);
+        out.write(payload);
+        out.flush();
+        return wire.size();
+    }
+
+    @Benchmark
+    public Game decode() throws Exception {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame));
+        byte[] buf = new byte[in.readInt()];
+        in.readFully(buf);
+        try (ObjectInputStream oin = new ObjectInputStream(new ByteArrayInputStream(buf))) {
+            return (Game) oin.readObject();
+        }
+    }
+}
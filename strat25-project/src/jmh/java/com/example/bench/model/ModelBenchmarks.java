@@ -0,0 +1,106 @@
+package com.example.bench.model;
+
+import com.example.bench.BenchGames;
+import com.example.model.BackboneCalculator;
+import com.example.model.BuildCategory;
+import com.example.model.CategoryInterface;
+import com.example.model.Game;
+import com.example.model.Material;
+import com.example.model.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of the logic thread (prestige event, material input, phase change, backbone calculator).
+ *
+ * Run: {@code mvn -Pjmh verify -DskipTests} (results incl. gc.alloc.rate.norm in target/jmh-model.json).
+ * {@code teams}/{@code categories} scale the synthetic game; 9x4 is roughly the real evening.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ModelBenchmarks {
+
+    @Param({ "9", "60", "300" })
+    public int teams;
+
+    @Param({ "4", "24", "96" })
+    public int categories;
+
+    private Game game;
+    private CategoryInterface category;
+    private BuildCategory build;
+    private List<Team> teamList;
+    private final Material[] materials = Material.values();
+    private final BackboneCalculator backbone = new BackboneCalculator();
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = BenchGames.synthetic(teams, categories);
+        category = game.getCategories().get(0);
+        build = BenchGames.firstBuild(game);
+        build.nextConstructionPhase();
+        teamList = BenchGames.teams(game);
+    }
+
+    /** Prestige event of one plain category (stream over the influence map, top-3 bonus). */
+    @Benchmark
+    public void categoryAddTimedPrestige() {
+        category.addTimedPrestige(1.0);
+    }
+
+    /** The whole prestige event as fired by the clock: all categories of the game. */
+    @Benchmark
+    public void gameAddTimedPrestige() {
+        game.addTimedPrestige();
+    }
+
+    /** One material input (NetInputServer -> applyInputMessage -> addMaterial). */
+    @Benchmark
+    public void buildAddMaterial() {
+        int i = cursor++;
+        Team t = teamList.get(i % teamList.size());
+        build.addMaterial(t, materials[i % materials.length], 1 + (i & 3));
+    }
+
+    @Benchmark
+    public double backboneInfluence() {
+        int i = cursor++;
+        return backbone.calculateBackboneInfluence(i & 15, (i >> 4) & 7, (i >> 7) & 3, i & 7, (i >> 3) & 3);
+    }
+
+    /**
+     * Phase change (reads the CSV row). The category is swapped for a fresh one before it runs out of
+     * rows; that setup is not measured.
+     */
+    @State(Scope.Thread)
+    public static class PhaseState {
+        BuildCategory build;
+
+        @Setup(Level.Invocation)
+        public void freshIfExhausted(ModelBenchmarks outer) {
+            if (build == null || build.getCurrentPhaseTitle() == null && build.getConstructionPhase() > 0
+                    || build.getConstructionPhase() >= 5) {
+                build = BenchGames.firstBuild(BenchGames.synthetic(outer.teams, 0));
+            }
+        }
+    }
+
+    @Benchmark
+    public void buildNextConstructionPhase(PhaseState s, Blackhole bh) {
+        s.build.nextConstructionPhase();
+        bh.consume(s.build.getCurrentPhaseTitle());
+    }
+}
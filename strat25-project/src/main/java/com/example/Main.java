@@ -0,0 +1,15 @@
+package com.example;
+
+/**
+ * Entry point for launches from the plain classpath (AppCDS archive, jars):
+ * the JDK launcher refuses a main class that extends {@code Application} unless JavaFX is on the
+ * module path, this class does not.
+ */
+public final class Main {
+
+    private Main() { }
+
+    public static void main(String[] args) {
+        Starter.main(args);
+    }
+}
@@ -1,30 +1,56 @@
 package com.example;
 
 import com.example.service.GameService;
-import com.example.service.NodeMode;
 import com.example.view.SceneManager;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 
+import java.time.Duration;
+import java.time.Instant;
+
 public class Starter extends Application {
 
+    /** Für den CDS-Trainingslauf (-Pcds): Launcher anzeigen und sofort beenden. */
+    static final String EXIT_AFTER_LAUNCH = "strat25.exitAfterLaunch";
+
     private GameService gameService;
     private SceneManager sceneManager;
 
     @Override
     public void start(Stage primaryStage) {
+        // GameService ist leichtgewichtig: Repository, Logic-Runtime und Netzwerk entstehen erst,
+        // wenn im Launcher ein Modus oder Spielstand gewählt wird (NodeMode HOST startet dann die Server).
         gameService = new GameService();
         sceneManager = new SceneManager(primaryStage, gameService);
 
-        // Default-Mode zentral setzen: Host -> startet NetInputServer
-        gameService.setNodeMode(NodeMode.HOST);
-
+        primaryStage.setOnShown(e -> {
+            primaryStage.setOnShown(null); // nur der erste Auftritt zählt
+            onLauncherShown();
+        });
         sceneManager.showLauncher(); // erstes Fenster: Neu/Load/Backup
         primaryStage.show();
     }
 
+    /** Eine Zeile zum Vergleichen der Startwege (javafx:run, CDS, jlink-Abbild): Zeit ab Prozessstart + Heap. */
+    private void onLauncherShown() {
+        Runtime rt = Runtime.getRuntime();
+        long usedMb = (rt.totalMemory() - rt.freeMemory()) >> 20;
+        long committedMb = rt.totalMemory() >> 20;
+        ProcessHandle.current().info().startInstant().ifPresent(started ->
+                System.out.println("Startup: Launcher sichtbar nach "
+                        + Duration.between(started, Instant.now()).toMillis() + " ms, Heap "
+                        + usedMb + " MB belegt / " + committedMb + " MB reserviert"));
+        if (Boolean.getBoolean(EXIT_AFTER_LAUNCH))
+            Platform.runLater(Platform::exit);
+    }
+
     @Override
     public void stop() {
+        if (sceneManager != null)
+            sceneManager.shutdown(); // Leinwände: Abos und Render-Timer freigeben
+        if (gameService == null)
+            return;
         try {
             // Laufende Game-Logik beenden
             gameService.stopGame();
@@ -4,12 +4,17 @@ import com.example.model.BuildCategory;
 import com.example.model.CategoryInterface;
 import com.example.model.Game;
 import com.example.service.GameService;
+import com.example.service.PerformanceMonitor;
+import com.example.time.LogicWatchdog;
 import com.example.view.SceneManager;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.CheckBox;
+import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.TitledPane;
 import javafx.scene.layout.VBox;
+import javafx.stage.Screen;
 
 import java.util.*;
 
@@ -30,6 +35,25 @@ public class ControlController {
     private CheckBox endscoreCheckBox;
     @FXML
     private Label statusLabel;
+    @FXML
+    private ComboBox<String> screenSelect;
+    @FXML
+    private ComboBox<String> monitorSelect;
+    @FXML
+    private TitledPane perfPane;
+    @FXML
+    private Label perfLabel;
+
+    // Performance-Panel: Sampling nur solange aufgeklappt
+    private AutoCloseable perfMonitor;
+    // Warnung, wenn der Logic-Thread Ticks verschleppt
+    private AutoCloseable stallSubscription;
+    // Programmatische Auswahl (Leinwand gewechselt) ist keine Benutzerwahl -> Stage nicht verschieben
+    private boolean updatingSelection;
+    // JFR-Dump läuft im Hintergrund; nur auf dem FX-Thread gelesen/geschrieben
+    private boolean dumpingRecording;
+    private static final String STATUS_STYLE = "-fx-font-size:11; -fx-text-fill:#666;";
+    private static final String WARNING_STYLE = "-fx-font-size:11; -fx-text-fill:#c62828; -fx-font-weight:bold;";
 
     // Alle Kategorienamen -> Checkbox
     private final Map<String, CheckBox> categoryChecks = new LinkedHashMap<>();
@@ -92,23 +116,121 @@ public class ControlController {
             }
         }
 
+        setupScreenSelection();
+        setupPerformancePanel();
+        setupStallWarning();
+
         setStatus("Kategorien geladen: " + categoryChecks.size());
     }
 
+    // ---------- Result-Wand ----------
+
+    private void setupScreenSelection() {
+        if (screenSelect == null)
+            return;
+        refreshScreenChoices(0);
+        screenSelect.setOnAction(e -> {
+            if (!updatingSelection)
+                loadSelectionOfScreen(currentScreen());
+        });
+
+        if (monitorSelect != null) {
+            List<String> monitors = new ArrayList<>();
+            for (int i = 0; i < Screen.getScreens().size(); i++)
+                monitors.add("Monitor " + (i + 1));
+            updatingSelection = true;
+            try {
+                monitorSelect.getItems().setAll(monitors);
+                monitorSelect.getSelectionModel().select(0);
+            } finally {
+                updatingSelection = false;
+            }
+            monitorSelect.setOnAction(e -> {
+                if (updatingSelection)
+                    return;
+                int screen = currentScreen();
+                int m = monitorSelect.getSelectionModel().getSelectedIndex();
+                // nur echte Wahl eines anderen Monitors: Verschieben schaltet Vollbild kurz aus
+                if (m >= 0 && m != sceneManager.getResultMonitor(screen))
+                    sceneManager.moveResultToMonitor(screen, m);
+            });
+        }
+    }
+
+    private void refreshScreenChoices(int select) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < sceneManager.getResultScreenCount(); i++)
+            names.add(i == 0 ? "Leinwand 1 (Haupt)" : "Leinwand " + (i + 1));
+        updatingSelection = true;
+        try {
+            screenSelect.getItems().setAll(names);
+            screenSelect.getSelectionModel().select(Math.min(select, names.size() - 1));
+        } finally {
+            updatingSelection = false;
+        }
+    }
+
+    /** Gewählte Leinwand im Steuerfenster (0 = Hauptleinwand). */
+    private int currentScreen() {
+        if (screenSelect == null)
+            return 0;
+        return Math.max(0, screenSelect.getSelectionModel().getSelectedIndex());
+    }
+
+    /** Checkboxen auf die zuletzt übernommene Auswahl der Leinwand setzen. */
+    private void loadSelectionOfScreen(int index) {
+        Set<String> sel = sceneManager.getResultVisibility(index);
+        if (sel != null) {
+            for (Map.Entry<String, CheckBox> e : categoryChecks.entrySet())
+                e.getValue().setSelected(sel.contains(e.getKey()));
+        }
+        if (endscoreCheckBox != null)
+            endscoreCheckBox.setSelected(sceneManager.isResultEndscoreShown(index));
+        if (monitorSelect != null) {
+            updatingSelection = true;
+            try {
+                monitorSelect.getSelectionModel().select(sceneManager.getResultMonitor(index));
+            } finally {
+                updatingSelection = false;
+            }
+        }
+    }
+
+    @FXML
+    private void onAddScreen() {
+        int index = sceneManager.addResultScreen();
+        refreshScreenChoices(index);
+        loadSelectionOfScreen(index);
+        setStatus("Leinwand " + (index + 1) + " geöffnet");
+    }
+
+    @FXML
+    private void onRemoveScreen() {
+        int index = currentScreen();
+        if (index == 0) {
+            setStatus("Die Hauptleinwand kann nicht entfernt werden");
+            return;
+        }
+        sceneManager.removeResultScreen(index);
+        refreshScreenChoices(index - 1);
+        loadSelectionOfScreen(index - 1);
+        setStatus("Leinwand " + (index + 1) + " entfernt");
+    }
+
     @FXML
     private void onOpenResult() {
-        sceneManager.showResultWindow();
+        sceneManager.showResultWindow(currentScreen());
         onApplyVisibility(); // aktuelle Auswahl direkt pushen
     }
 
     @FXML
     private void onToggleFullscreen() {
-        sceneManager.toggleResultFullscreen();
+        sceneManager.toggleResultFullscreen(currentScreen());
     }
 
     @FXML
     private void onHideResult() {
-        sceneManager.hideResultWindow();
+        sceneManager.hideResultWindow(currentScreen());
     }
 
     @FXML
@@ -120,20 +242,150 @@ public class ControlController {
         }
         boolean showEndscore = endscoreCheckBox != null && endscoreCheckBox.isSelected();
 
-        sceneManager.updateResultVisibility(selected, showEndscore);
-        setStatus("Übernommen (" + selected.size() + " Kategorien"
+        int screen = currentScreen();
+        sceneManager.updateResultVisibility(screen, selected, showEndscore);
+        setStatus("Leinwand " + (screen + 1) + ": übernommen (" + selected.size() + " Kategorien"
                 + (showEndscore ? ", Endscores" : "") + ")");
     }
 
     private void setStatus(String txt) {
         if (statusLabel == null)
             return;
-        Platform.runLater(() -> statusLabel.setText(txt));
+        Platform.runLater(() -> {
+            statusLabel.setStyle(STATUS_STYLE);
+            statusLabel.setText(txt);
+        });
+    }
+
+    private void setWarning(String txt) {
+        if (statusLabel == null)
+            return;
+        Platform.runLater(() -> {
+            statusLabel.setStyle(WARNING_STYLE);
+            statusLabel.setText(txt);
+        });
+    }
+
+    // ----- Watchdog: Logic-Thread blockiert -----
+
+    // Abo lebt nur, solange das Fenster angezeigt wird: siehe shutdown()/resume()
+    private void setupStallWarning() {
+        if (statusLabel == null || stallSubscription != null)
+            return;
+        stallSubscription = gameService.getLogicWatchdog().subscribe(this::onStall);
+    }
+
+    private void closeStallWarning() {
+        if (stallSubscription != null) {
+            try { stallSubscription.close(); } catch (Exception ignored) {}
+            stallSubscription = null;
+        }
+    }
+
+    /** Läuft auf dem Watchdog-Thread. Rot nur, solange blockiert; danach normale Statuszeile. */
+    private void onStall(LogicWatchdog.Stall stall) {
+        String where = shortFrame(stall.topFrame());
+        if (stall.ongoing())
+            setWarning(String.format("Logic-Thread blockiert (Tick %.0f ms zu spät) in %s", stall.blockedMillis(), where));
+        else
+            setStatus(String.format("Logic-Thread läuft wieder (war %.0f ms blockiert, zuletzt in %s)", stall.blockedMillis(), where));
+    }
+
+    /** com.example.service.GameService.saveGame -> GameService.saveGame */
+    private static String shortFrame(String frame) {
+        int method = frame.lastIndexOf('.');
+        int cls = method > 0 ? frame.lastIndexOf('.', method - 1) : -1;
+        return frame.substring(cls + 1);
+    }
+
+    // ----- Performance-Panel -----
+
+    private void setupPerformancePanel() {
+        if (perfPane == null)
+            return;
+        perfPane.expandedProperty().addListener((obs, was, expanded) -> {
+            if (expanded)
+                startPerformanceMonitor();
+            else
+                stopPerformanceMonitor();
+        });
+        // Fenster zu -> Sampler-Thread beenden: siehe shutdown()/resume() (Stage wird nur versteckt)
+    }
+
+    private void startPerformanceMonitor() {
+        if (perfMonitor != null)
+            return;
+        perfLabel.setText("Messe ...");
+        // Werte kommen vom Sampler-Thread (1/s), das FX-Update ist nur ein setText
+        perfMonitor = gameService.startPerformanceMonitor(PerformanceMonitor.DEFAULT_PERIOD,
+                s -> Platform.runLater(() -> perfLabel.setText(s.format())));
+    }
+
+    private void stopPerformanceMonitor() {
+        if (perfMonitor != null) {
+            try { perfMonitor.close(); } catch (Exception ignored) {}
+            perfMonitor = null;
+        }
+    }
+
+    /** Fenster versteckt (Schließen versteckt nur) oder App-Ende: Sampler und Watchdog-Abo beenden. Idempotent. */
+    public void shutdown() {
+        stopPerformanceMonitor();
+        closeStallWarning();
+    }
+
+    /** Gegenstück zu {@link #shutdown()}, wenn das Fenster wieder angezeigt wird. */
+    public void resume() {
+        setupStallWarning();
+        if (perfPane != null && perfPane.isExpanded())
+            startPerformanceMonitor();
+    }
+
+    // ----- Flight Recorder (Post-Mortem) -----
+
+    @FXML
+    private void onStartRecording() {
+        try {
+            gameService.startFlightRecording();
+            setStatus("JFR-Aufnahme läuft (letzte 30 min)");
+        } catch (Exception e) {
+            setStatus("JFR-Aufnahme nicht möglich: " + e.getMessage());
+        }
+    }
+
+    @FXML
+    private void onDumpRecording() {
+        if (!gameService.isFlightRecording()) {
+            setStatus("Keine JFR-Aufnahme aktiv");
+            return;
+        }
+        if (dumpingRecording)
+            return;
+        dumpingRecording = true;
+        setStatus("JFR wird gesichert ...");
+        // Bis zu 30 min Daten schreiben dauert -> nicht auf dem FX-Thread
+        Thread t = new Thread(() -> {
+            try {
+                setStatus("JFR gesichert: " + gameService.dumpFlightRecording());
+            } catch (Exception e) {
+                setWarning("JFR sichern fehlgeschlagen: " + e.getMessage());
+            } finally {
+                Platform.runLater(() -> dumpingRecording = false);
+            }
+        }, "jfr-dump");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    @FXML
+    private void onStopRecording() {
+        gameService.stopFlightRecording();
+        setStatus("JFR-Aufnahme beendet");
     }
 
     @FXML
     private void onMinimizeResult() {
-        sceneManager.minimizeResultWindow();
+        sceneManager.minimizeResultWindow(currentScreen());
     }
 
     @FXML
@@ -1,10 +1,16 @@
 package com.example.controller;
 
+import com.example.event.GameChangeSet;
+import com.example.event.GameChangeSet.Aspect;
 import com.example.model.*;
+import com.example.model.GameView.BuildView;
+import com.example.model.GameView.CategoryView;
+import com.example.model.GameView.FamilyView;
+import com.example.model.GameView.TeamView;
 import com.example.service.GameService;
+import com.example.view.LabelText;
 import com.example.view.SceneManager;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import com.example.view.TextFormat;
 import javafx.application.Platform;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleStringProperty;
@@ -16,7 +22,6 @@ import javafx.scene.input.ClipboardContent;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
-import javafx.util.Duration;
 
 
 import java.util.*;
@@ -27,7 +32,11 @@ public class GameController {
     private final GameService gameService;
     private final SceneManager sceneManager;
 
-    private Timeline uiTicker;
+    // Änderungs-Abo (ersetzt den 1s-Ticker): ein gebündelter FX-Aufruf pro Pulse
+    private AutoCloseable changeSubscription;
+
+    // Version des zuletzt angezeigten GameView-Snapshots (unveränderte Frames überspringen)
+    private long lastRenderedVersion = -1L;
 
     public GameController(GameService gameService, SceneManager sceneManager) {
         this.gameService = gameService;
@@ -107,20 +116,30 @@ public class GameController {
     // category multiplier rows (right side)
     private final List<CategoryMultiplierRow> catMultiplierRows = new ArrayList<>();
 
-    // per team tab state
-    private final List<TeamTab> teamTabControls = new ArrayList<>();
+    // Vorformatierte Label-Texte: neu gesetzt nur, wenn sich der angezeigte Text ändert
+    private static final TextFormat FIXED_2 = TextFormat.fixed("", 2, "");
+    private static final TextFormat PERCENT_1 = TextFormat.fixed("", 1, "%");
+    private static final TextFormat FACTOR_2 = TextFormat.fixed("(", 2, "x)");
+    private LabelText timeText, speedText, multiplierText;
+
+    // Team-Tabs sind nur Reiter; EIN gemeinsames Panel wird lazy gebaut und in den gewählten Tab gehängt
+    private TeamPanel teamPanel;
 
     @FXML
     private void initialize() {
+        timeText = new LabelText(timeLabel);
+        speedText = new LabelText(speedLabel);
+        multiplierText = new LabelText(multiplierLabel);
+
         Game g = gameService.getGame();
         if (g != null) {
             gameNameLabel.setText(g.getName());
-            timeLabel.setText(formatSecondsFloor(g.getGameTime().getScaledSeconds()));
-            speedLabel.setText(speedText(g.getGameTime().getGameSpeed()));
+            timeText.set(TextFormat.CLOCK, g.getGameTime().getScaledSeconds());
+            speedText.set(FACTOR_2, g.getGameTime().getGameSpeed());
             speedField.setPromptText("1.0");
             speedField.clear();
 
-            multiplierLabel.setText(multiplierText(g.getPrestigeMultiplier()));
+            multiplierText.set(FACTOR_2, g.getPrestigeMultiplier());
             multiplierField.setPromptText("1.0");
             multiplierField.clear();
         }
@@ -132,24 +151,19 @@ public class GameController {
         stopBtn.setOnAction(e -> {
             gameService.stopGame();
             sceneManager.showLauncher();
-            if (uiTicker != null)
-                uiTicker.stop();
+            unsubscribeChanges();
         });
 
-        // save (läuft auf Logic-Thread; UI via Platform.runLater)
-        saveBtn.setOnAction(e -> gameService.runOnLogic(() -> {
-            try {
-                gameService.pauseGame();
-                gameService.saveGame();
+        // save (Snapshot an der nächsten Tick-Grenze, Schreiben auf dem I/O-Thread; Uhr läuft weiter)
+        saveBtn.setOnAction(e -> gameService.saveGameAsync(false).whenComplete((snap, ex) -> {
+            if (ex == null) {
                 Platform.runLater(() -> info("Game saved."));
-            } catch (Exception ex) {
-                Platform.runLater(() -> error("Saving failed:\n" + ex.getMessage()));
-            } finally {
-                gameService.resumeGame();
+            } else {
+                Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                Platform.runLater(() -> error("Saving failed:\n" + cause.getMessage()));
             }
         }));
 
-        // in initialize() – nach uiTicker.play() o.ä. ist auch ok, Hauptsache gesetzt:
         openControlBtn.setOnAction(e -> sceneManager.showControlWindow());
 
 
@@ -166,7 +180,7 @@ public class GameController {
             @Override
             protected void updateItem(Number item, boolean empty) {
                 super.updateItem(item, empty);
-                setText(empty || item == null ? "" : String.format("%.2f", item.doubleValue()));
+                setText(empty || item == null ? "" : FIXED_2.format(item.doubleValue()));
             }
         });
 
@@ -185,13 +199,8 @@ public class GameController {
                 warn("Bitte zuerst ein Bauspiel rechts auswählen.");
                 return;
             }
-            gameService.runOnLogic(() -> {
-                bc.nextConstructionPhase();
-                Platform.runLater(() -> {
-                    info("Nächste Bauetappe gestartet: " + bc.getName());
-                    refreshBuildSelectionInTabs();
-                });
-            });
+            gameService.requestNextConstructionPhase(bc.getName(),
+                    () -> Platform.runLater(() -> info("Nächste Bauetappe gestartet: " + bc.getName())));
         });
 
         // --- NEW: Calculator wiring ---
@@ -199,188 +208,248 @@ public class GameController {
 
         // build tabs + first fill
         buildTeamTabs();
-        refreshPrestigeTable();
+        refreshPrestigeTable(gameService.getGameView());
         refreshBuildSelectionInTabs(); // sets header & rows
 
         // right: category multipliers UI
         buildCategoryMultiplierControls();
 
-        // UI ticker (1s)
-        if (uiTicker != null)
-            uiTicker.stop();
-        uiTicker = new Timeline(new KeyFrame(Duration.seconds(1), ev -> {
-            Game game = gameService.getGame();
-            if (game != null) {
-                timeLabel.setText(formatSecondsFloor(game.getGameTime().getScaledSeconds()));
-                speedLabel.setText(speedText(game.getGameTime().getGameSpeed()));
-                multiplierLabel.setText(multiplierText(game.getPrestigeMultiplier()));
-
-                // update team tabs (influence + build section)
-                for (TeamTab tt : teamTabControls) {
-                    tt.prestigeValue.setText(String.format("%.2f", tt.team.getPrestige()));
-                    for (InfluenceRow row : tt.influenceRows) {
-                        updateInfluenceRow(row, tt.team, game);
-                    }
-                    updateBuildRows(tt);
-                }
-
-                // right: update category multiplier labels
-                for (CategoryMultiplierRow cmr : catMultiplierRows) {
-                    cmr.currentLabel.setText(multiplierText(cmr.category.getPrestigeMultiplier()));
-                }
-
-                // update family sums
-                refreshPrestigeTable();
+        // Event-getrieben statt 1s-Polling: nur geänderte Aspekte neu zeichnen
+        unsubscribeChanges();
+        changeSubscription = gameService.subscribeChangesFx(this::onGameChanged);
+    }
+
+    /**
+     * Aktualisiert die Anzeigen aus dem Snapshot – nur die als geändert markierten Teile
+     * (FX-Thread, pro Pulse höchstens ein Aufruf).
+     */
+    private void onGameChanged(GameView view, GameChangeSet changes) {
+        if (!view.hasGame() || (view.version() == lastRenderedVersion && changes.isEmpty()))
+            return;
+        lastRenderedVersion = view.version();
+
+        if (changes.has(Aspect.TIME))
+            timeText.set(TextFormat.CLOCK, view.scaledSeconds());
+        if (changes.has(Aspect.SETTINGS)) {
+            speedText.set(FACTOR_2, view.gameSpeed());
+            multiplierText.set(FACTOR_2, view.prestigeMultiplier());
+
+            // right: update category multiplier labels
+            for (CategoryMultiplierRow cmr : catMultiplierRows) {
+                CategoryView cv = view.category(cmr.category.getName());
+                if (cv != null)
+                    cmr.currentText.set(FACTOR_2, cv.prestigeMultiplier());
             }
-        }));
-        uiTicker.setCycleCount(Timeline.INDEFINITE);
-        uiTicker.play();
+        }
+
+        // update visible team only (hidden teams are refreshed when their tab is selected)
+        TeamPanel tp = teamPanel;
+        if (tp != null && tp.team != null) {
+            int teamId = tp.team.getId();
+            if (changes.teamPrestige(teamId))
+                updatePrestigeValue(tp, view);
+            for (InfluenceRow row : tp.influenceRows) {
+                // Anteil hängt an der Summe aller Teams -> ganze Kategorie neu
+                if (changes.categoryInfluence(row.category.getName()))
+                    updateInfluenceRow(row, teamId, view);
+            }
+            BuildCategory selected = getSelectedBuild();
+            if (selected != null && changes.buildLedger(selected.getName()))
+                updateBuildRows(tp, view);
+        }
+
+        // update family sums
+        if (changes.has(Aspect.TEAM_PRESTIGE))
+            refreshPrestigeTable(view);
+    }
+
+    private void unsubscribeChanges() {
+        if (changeSubscription == null)
+            return;
+        try {
+            changeSubscription.close();
+        } catch (Exception ignored) {
+        }
+        changeSubscription = null;
     }
 
     // -------- Build Team Tabs (center) --------
 
+    /**
+     * Baut nur die Reiter (ein Tab pro Team, ohne Inhalt). Die Zeilen existieren genau einmal
+     * im gemeinsamen {@link TeamPanel}, das beim ersten Auswählen gebaut und danach zwischen den
+     * Tabs verschoben wird -> Aufwand wächst nicht mit der Teamanzahl.
+     */
     private void buildTeamTabs() {
         teamsTabs.getTabs().clear();
-        teamTabControls.clear();
+        teamPanel = null;
 
         Game g = gameService.getGame();
         if (g == null || g.getFamilies() == null)
             return;
 
-        List<CategoryInterface> categories = g.getCategories();
-
         for (Family f : g.getFamilies()) {
             if (f.getTeams() == null)
                 continue;
             for (Team t : f.getTeams()) {
                 if (t == null)
                     continue;
-
-                VBox root = new VBox(14);
-                root.setPadding(new Insets(10));
-
-                // Prestige row
-                HBox prestigeRow = new HBox(8);
-                Label prestigeLabel = new Label("Prestige:");
-                Label prestigeValue = new Label(String.format("%.2f", t.getPrestige()));
-                prestigeValue.setStyle("-fx-font-family: monospace;");
-                TextField prestigeDeltaField = new TextField();
-                prestigeDeltaField.setPromptText("+10 or -3");
-                prestigeDeltaField.setPrefWidth(100);
-                Button prestigeAddBtn = new Button("Add");
-                prestigeRow.getChildren().addAll(prestigeLabel, prestigeValue, prestigeDeltaField, prestigeAddBtn);
-                prestigeAddBtn.setOnAction(e -> applyTeamPrestigeDelta(t, prestigeDeltaField));
-                prestigeDeltaField.setOnAction(e -> applyTeamPrestigeDelta(t, prestigeDeltaField));
-                root.getChildren().add(prestigeRow);
-
-                // Section header: Einfluss
-                Label inflHdr = new Label("Einfluss");
-                inflHdr.setStyle("-fx-font-weight: bold;");
-                root.getChildren().add(inflHdr);
-
-                // Influence grid
-                GridPane inflGrid = new GridPane();
-                inflGrid.setHgap(8);
-                inflGrid.setVgap(6);
-                inflGrid.setPadding(new Insets(4));
-
-                int row = 0;
-                inflGrid.add(styledSmall("Kategorie", true), 0, row);
-                inflGrid.add(styledSmall("Einfluss", true), 1, row);
-                inflGrid.add(styledSmall("Anteil", true), 2, row);
-                inflGrid.add(new Label(""), 3, row);
-                inflGrid.add(new Label(""), 4, row);
-                row++;
-
-                List<InfluenceRow> influenceRows = new ArrayList<>();
-                if (categories != null) {
-                    for (CategoryInterface c : categories) {
-                        c.getInfluenceMap().putIfAbsent(t.getId(), 0.0);
-
-                        Label catName = new Label(c.getName());
-                        Label valLbl = new Label();
-                        valLbl.setStyle("-fx-font-family: monospace;");
-                        Label pctLbl = new Label();
-                        pctLbl.setStyle("-fx-font-family: monospace;");
-                        TextField deltaField = new TextField();
-                        deltaField.setPromptText("+5 or -2");
-                        deltaField.setPrefWidth(80);
-                        Button addBtn = new Button("Add");
-
-                        inflGrid.add(catName, 0, row);
-                        inflGrid.add(valLbl, 1, row);
-                        inflGrid.add(pctLbl, 2, row);
-                        inflGrid.add(deltaField, 3, row);
-                        inflGrid.add(addBtn, 4, row);
-
-                        InfluenceRow ir = new InfluenceRow(c, valLbl, pctLbl, deltaField);
-                        influenceRows.add(ir);
-
-                        addBtn.setOnAction(e -> applyInfluenceDelta(t, ir));
-                        deltaField.setOnAction(e -> applyInfluenceDelta(t, ir));
-
-                        row++;
-                    }
-                }
-                root.getChildren().add(inflGrid);
-
-                // Build section
-                Label buildHdr = new Label("Bau – (keine Auswahl)");
-                buildHdr.setStyle("-fx-font-weight: bold;");
-                root.getChildren().add(buildHdr);
-
-                GridPane buildGrid = new GridPane();
-                buildGrid.setHgap(8);
-                buildGrid.setVgap(6);
-                buildGrid.setPadding(new Insets(4));
-
-                int mrow = 0;
-                buildGrid.add(styledSmall("Rohstoff", true), 0, mrow);
-                buildGrid.add(styledSmall("Status", true), 1, mrow);
-                buildGrid.add(new Label(""), 2, mrow);
-                buildGrid.add(new Label(""), 3, mrow);
-                mrow++;
-
-                List<MaterialRow> materialRows = new ArrayList<>();
-                for (Material mat : Material.values()) {
-                    Label matName = new Label(mat.name());
-                    Label status = new Label();
-                    status.setStyle("-fx-font-family: monospace;");
-                    TextField amount = new TextField();
-                    amount.setPromptText("2");
-                    amount.setPrefWidth(70);
-                    Button add = new Button("Add");
-
-                    buildGrid.add(matName, 0, mrow);
-                    buildGrid.add(status, 1, mrow);
-                    buildGrid.add(amount, 2, mrow);
-                    buildGrid.add(add, 3, mrow);
-
-                    MaterialRow mr = new MaterialRow(mat, status, amount);
-                    materialRows.add(mr);
-
-                    add.setOnAction(e -> applyMaterialDelta(t, mr));
-                    amount.setOnAction(e -> applyMaterialDelta(t, mr));
-
-                    mrow++;
-                }
-                root.getChildren().add(buildGrid);
-
-                Tab tab = new Tab(t.getName(), root);
+                Tab tab = new Tab(t.getName());
                 tab.setClosable(false);
+                tab.setUserData(t);
                 teamsTabs.getTabs().add(tab);
-
-                teamTabControls.add(new TeamTab(t, prestigeValue, prestigeDeltaField, influenceRows,
-                        buildHdr, materialRows));
             }
         }
 
+        teamsTabs.getSelectionModel().selectedItemProperty().addListener((obs, o, n) -> {
+            showTeamTab(o, n);
+            // --- NEW: Beim Team-Wechsel TR-Eingaben resetten ---
+            resetCalculatorInputs();
+        });
+
         if (!teamsTabs.getTabs().isEmpty()) {
             teamsTabs.getSelectionModel().select(0);
+            showTeamTab(null, teamsTabs.getSelectionModel().getSelectedItem());
         }
+    }
 
-        // --- NEW: Beim Team-Wechsel TR-Eingaben resetten ---
-        teamsTabs.getSelectionModel().selectedItemProperty().addListener((obs, o, n) -> resetCalculatorInputs());
+    /** Hängt das gemeinsame Panel in den gewählten Tab und bindet es an dessen Team. */
+    private void showTeamTab(Tab oldTab, Tab newTab) {
+        if (oldTab != null)
+            oldTab.setContent(null);
+        if (newTab == null || !(newTab.getUserData() instanceof Team team))
+            return;
+
+        if (teamPanel == null)
+            teamPanel = createTeamPanel(gameService.getGame().getCategories());
+
+        TeamPanel tp = teamPanel;
+        tp.team = team;
+        // Eingaben gehören zum vorherigen Team
+        tp.prestigeDeltaField.clear();
+        tp.influenceRows.forEach(r -> r.deltaField.clear());
+        tp.materialRows.forEach(r -> r.amountField.clear());
+        newTab.setContent(tp.root);
+
+        GameView view = gameService.getGameView();
+        updatePrestigeValue(tp, view);
+        for (InfluenceRow row : tp.influenceRows)
+            updateInfluenceRow(row, team.getId(), view);
+        BuildCategory bc = getSelectedBuild();
+        tp.buildHeader.setText((bc == null) ? "Bau – (keine Auswahl)" : "Bau – " + bc.getName());
+        updateBuildRows(tp, view);
+    }
+
+    private TeamPanel createTeamPanel(List<CategoryInterface> categories) {
+        VBox root = new VBox(14);
+        root.setPadding(new Insets(10));
+        TeamPanel tp = new TeamPanel();
+
+        // Prestige row
+        HBox prestigeRow = new HBox(8);
+        Label prestigeLabel = new Label("Prestige:");
+        tp.prestigeValue.setStyle("-fx-font-family: monospace;");
+        tp.prestigeDeltaField.setPromptText("+10 or -3");
+        tp.prestigeDeltaField.setPrefWidth(100);
+        Button prestigeAddBtn = new Button("Add");
+        prestigeRow.getChildren().addAll(prestigeLabel, tp.prestigeValue, tp.prestigeDeltaField, prestigeAddBtn);
+        prestigeAddBtn.setOnAction(e -> applyTeamPrestigeDelta(tp.team, tp.prestigeDeltaField));
+        tp.prestigeDeltaField.setOnAction(e -> applyTeamPrestigeDelta(tp.team, tp.prestigeDeltaField));
+        root.getChildren().add(prestigeRow);
+
+        // Section header: Einfluss
+        Label inflHdr = new Label("Einfluss");
+        inflHdr.setStyle("-fx-font-weight: bold;");
+        root.getChildren().add(inflHdr);
+
+        // Influence grid
+        GridPane inflGrid = new GridPane();
+        inflGrid.setHgap(8);
+        inflGrid.setVgap(6);
+        inflGrid.setPadding(new Insets(4));
+
+        int row = 0;
+        inflGrid.add(styledSmall("Kategorie", true), 0, row);
+        inflGrid.add(styledSmall("Einfluss", true), 1, row);
+        inflGrid.add(styledSmall("Anteil", true), 2, row);
+        inflGrid.add(new Label(""), 3, row);
+        inflGrid.add(new Label(""), 4, row);
+        row++;
+
+        if (categories != null) {
+            for (CategoryInterface c : categories) {
+                Label catName = new Label(c.getName());
+                Label valLbl = new Label();
+                valLbl.setStyle("-fx-font-family: monospace;");
+                Label pctLbl = new Label();
+                pctLbl.setStyle("-fx-font-family: monospace;");
+                TextField deltaField = new TextField();
+                deltaField.setPromptText("+5 or -2");
+                deltaField.setPrefWidth(80);
+                Button addBtn = new Button("Add");
+
+                inflGrid.add(catName, 0, row);
+                inflGrid.add(valLbl, 1, row);
+                inflGrid.add(pctLbl, 2, row);
+                inflGrid.add(deltaField, 3, row);
+                inflGrid.add(addBtn, 4, row);
+
+                InfluenceRow ir = new InfluenceRow(c, valLbl, pctLbl, deltaField);
+                tp.influenceRows.add(ir);
+
+                addBtn.setOnAction(e -> applyInfluenceDelta(tp.team, ir));
+                deltaField.setOnAction(e -> applyInfluenceDelta(tp.team, ir));
+
+                row++;
+            }
+        }
+        root.getChildren().add(inflGrid);
+
+        // Build section
+        tp.buildHeader.setStyle("-fx-font-weight: bold;");
+        root.getChildren().add(tp.buildHeader);
+
+        GridPane buildGrid = new GridPane();
+        buildGrid.setHgap(8);
+        buildGrid.setVgap(6);
+        buildGrid.setPadding(new Insets(4));
+
+        int mrow = 0;
+        buildGrid.add(styledSmall("Rohstoff", true), 0, mrow);
+        buildGrid.add(styledSmall("Status", true), 1, mrow);
+        buildGrid.add(new Label(""), 2, mrow);
+        buildGrid.add(new Label(""), 3, mrow);
+        mrow++;
+
+        for (Material mat : Material.values()) {
+            Label matName = new Label(mat.name());
+            Label status = new Label();
+            status.setStyle("-fx-font-family: monospace;");
+            TextField amount = new TextField();
+            amount.setPromptText("2");
+            amount.setPrefWidth(70);
+            Button add = new Button("Add");
+
+            buildGrid.add(matName, 0, mrow);
+            buildGrid.add(status, 1, mrow);
+            buildGrid.add(amount, 2, mrow);
+            buildGrid.add(add, 3, mrow);
+
+            MaterialRow mr = new MaterialRow(mat, status, amount);
+            tp.materialRows.add(mr);
+
+            add.setOnAction(e -> applyMaterialDelta(tp.team, mr));
+            amount.setOnAction(e -> applyMaterialDelta(tp.team, mr));
+
+            mrow++;
+        }
+        root.getChildren().add(buildGrid);
+
+        // Panel scrollt bei vielen Kategorien statt den Tab zu sprengen
+        ScrollPane scroll = new ScrollPane(root);
+        scroll.setFitToWidth(true);
+        tp.root = scroll;
+        return tp;
     }
 
     // -------- Actions (Mutationen via Logic-Thread) --------
@@ -475,51 +544,53 @@ public class GameController {
 
     // -------- Updates --------
 
-    private void updateInfluenceRow(InfluenceRow row, Team team, Game game) {
-        if (row == null || team == null || game == null)
+    private void updatePrestigeValue(TeamPanel tp, GameView view) {
+        TeamView tv = view.team(tp.team.getId());
+        if (tv != null) tp.prestigeText.set(FIXED_2, tv.prestige());
+        else tp.prestigeText.text("—");
+    }
+
+    private void updateInfluenceRow(InfluenceRow row, int teamId, GameView view) {
+        if (row == null || view == null)
             return;
-        Map<Integer, Double> map = row.category.getInfluenceMap();
-        if (!map.containsKey(team.getId()))
-            map.put(team.getId(), 0.0);
-        double own = map.getOrDefault(team.getId(), 0.0);
-        double total = 0.0;
-        for (double v : map.values())
-            total += v;
+        CategoryView cv = view.category(row.category.getName());
+        double own = (cv != null) ? cv.influenceOf(teamId) : 0.0;
+        double total = (cv != null) ? cv.totalInfluence() : 0.0;
         double pct = (total > 0.0) ? (own / total) * 100.0 : 0.0;
 
-        row.valueLabel.setText(String.format("%.2f", own));
-        row.percentLabel.setText(String.format("%.1f%%", pct));
+        row.valueText.set(FIXED_2, own);
+        row.percentText.set(PERCENT_1, pct);
     }
 
     private void refreshBuildSelectionInTabs() {
         BuildCategory bc = getSelectedBuild();
         String hdr = (bc == null) ? "Bau – (keine Auswahl)" : "Bau – " + bc.getName();
-        for (TeamTab tt : teamTabControls) {
-            tt.buildHeader.setText(hdr);
-            updateBuildRows(tt);
-        }
+        TeamPanel tp = teamPanel;
+        if (tp == null || tp.team == null)
+            return;
+        tp.buildHeader.setText(hdr);
+        updateBuildRows(tp, gameService.getGameView());
     }
 
-    private void updateBuildRows(TeamTab tt) {
+    private void updateBuildRows(TeamPanel tp, GameView view) {
         BuildCategory bc = getSelectedBuild();
-        if (bc == null) {
-            for (MaterialRow mr : tt.materialRows) {
-                mr.statusLabel.setText("—/— -> —");
+        CategoryView cv = (bc != null) ? view.category(bc.getName()) : null;
+        if (cv == null || cv.build() == null) {
+            for (MaterialRow mr : tp.materialRows) {
+                mr.statusText.text("—/— -> —");
             }
             return;
         }
-        for (MaterialRow mr : tt.materialRows) {
-            updateSingleMaterialRow(mr, bc);
+        for (MaterialRow mr : tp.materialRows) {
+            updateSingleMaterialRow(mr, cv.build());
         }
     }
 
-    private void updateSingleMaterialRow(MaterialRow mr, BuildCategory bc) {
-        Map<Material, Integer> need = bc.getNeededMaterials();
-        Map<Material, Integer> pay = bc.getPayedMaterials();
-        int n = need.getOrDefault(mr.material, 0);
-        int p = pay.getOrDefault(mr.material, 0);
-        int free = Math.max(n - p, 0);
-        mr.statusLabel.setText(String.format("%d/%d -> %d", p, n, free));
+    private void updateSingleMaterialRow(MaterialRow mr, BuildView bv) {
+        int n = bv.neededOf(mr.material);
+        int p = bv.payedOf(mr.material);
+        int free = bv.freeOf(mr.material);
+        mr.statusText.ratio(p, n, free);
     }
 
     // -------- right: category multipliers --------
@@ -535,7 +606,7 @@ public class GameController {
         for (CategoryInterface ci : g.getCategories()) {
             HBox row = new HBox(8);
             Label name = new Label(ci.getName());
-            Label cur = new Label(multiplierText(ci.getPrestigeMultiplier()));
+            Label cur = new Label(FACTOR_2.format(ci.getPrestigeMultiplier()));
             cur.setStyle("-fx-font-family: monospace;");
             TextField inp = new TextField();
             inp.setPromptText("1.0");
@@ -563,7 +634,7 @@ public class GameController {
             double v = Double.parseDouble(txt.replace(',', '.'));
             if (v <= 0)
                 throw new IllegalArgumentException("Multiplier must be > 0");
-            gameService.runOnLogic(() -> cmr.category.setPrestigeMultiplier(v));
+            gameService.requestCategoryMultiplier(cmr.category.getName(), v);
             cmr.input.clear();
         } catch (Exception ex) {
             warn("Ungültiger Multiplikator. Beispiele: 1.0, 2.0, 0.5");
@@ -737,21 +808,13 @@ public class GameController {
         return null;
     }
 
-    private void refreshPrestigeTable() {
-        Game g = gameService.getGame();
-        if (g == null)
+    private void refreshPrestigeTable(GameView view) {
+        if (view == null || !view.hasGame())
             return;
 
         List<FamilyPrestigeRow> rows = new ArrayList<>();
-        if (g.getFamilies() != null) {
-            for (Family f : g.getFamilies()) {
-                double sum = 0.0;
-                if (f.getTeams() != null) {
-                    for (Team t : f.getTeams())
-                        sum += (t != null ? t.getPrestige() : 0.0);
-                }
-                rows.add(new FamilyPrestigeRow(f.getName(), sum));
-            }
+        for (FamilyView f : view.families()) {
+            rows.add(new FamilyPrestigeRow(f.name(), f.prestigeSum()));
         }
         if (prestigeTable.getItems() == null) {
             prestigeTable.getItems().addAll(rows);
@@ -769,23 +832,6 @@ public class GameController {
         return l;
     }
 
-    private static String speedText(double v) {
-        return String.format("(%.2fx)", v);
-    }
-
-    private static String multiplierText(double v) {
-        return String.format("(%.2fx)", v);
-    }
-
-    private static String formatSecondsFloor(double scaledSeconds) {
-        long s = (long) Math.floor(scaledSeconds);
-        long h = s / 3600;
-        s %= 3600;
-        long m = s / 60;
-        s %= 60;
-        return String.format("%02d:%02d:%02d", h, m, s);
-    }
-
     private static void info(String msg) {
         show(Alert.AlertType.INFORMATION, "Info", msg);
     }
@@ -825,29 +871,18 @@ public class GameController {
         }
     }
 
-    // per-team tab bundle
-    private static class TeamTab {
-        final Team team;
-        final Label prestigeValue;
-        final TextField prestigeDeltaField;
-        final List<InfluenceRow> influenceRows;
+    // shared team panel (rows exist once, bound to the team of the selected tab)
+    private static class TeamPanel {
+        Team team; // currently bound team
+        ScrollPane root;
 
-        final Label buildHeader; // "Bau – {Name}"
-        final List<MaterialRow> materialRows;
+        final Label prestigeValue = new Label();
+        final LabelText prestigeText = new LabelText(prestigeValue);
+        final TextField prestigeDeltaField = new TextField();
+        final List<InfluenceRow> influenceRows = new ArrayList<>();
 
-        TeamTab(Team team,
-                Label prestigeValue,
-                TextField prestigeDeltaField,
-                List<InfluenceRow> influenceRows,
-                Label buildHeader,
-                List<MaterialRow> materialRows) {
-            this.team = team;
-            this.prestigeValue = prestigeValue;
-            this.prestigeDeltaField = prestigeDeltaField;
-            this.influenceRows = influenceRows;
-            this.buildHeader = buildHeader;
-            this.materialRows = materialRows;
-        }
+        final Label buildHeader = new Label("Bau – (keine Auswahl)"); // "Bau – {Name}"
+        final List<MaterialRow> materialRows = new ArrayList<>();
     }
 
     // one category (influence) row per team
@@ -855,12 +890,15 @@ public class GameController {
         final CategoryInterface category;
         final Label valueLabel;
         final Label percentLabel;
+        final LabelText valueText, percentText;
         final TextField deltaField;
 
         InfluenceRow(CategoryInterface category, Label valueLabel, Label percentLabel, TextField deltaField) {
             this.category = category;
             this.valueLabel = valueLabel;
             this.percentLabel = percentLabel;
+            this.valueText = new LabelText(valueLabel);
+            this.percentText = new LabelText(percentLabel);
             this.deltaField = deltaField;
         }
     }
@@ -869,11 +907,13 @@ public class GameController {
     private static class MaterialRow {
         final Material material;
         final Label statusLabel; // "gezahlt/benötigt -> frei"
+        final LabelText statusText;
         final TextField amountField;
 
         MaterialRow(Material material, Label statusLabel, TextField amountField) {
             this.material = material;
             this.statusLabel = statusLabel;
+            this.statusText = new LabelText(statusLabel);
             this.amountField = amountField;
         }
     }
@@ -882,11 +922,13 @@ public class GameController {
     private static class CategoryMultiplierRow {
         final CategoryInterface category;
         final Label currentLabel;
+        final LabelText currentText;
         final TextField input;
 
         CategoryMultiplierRow(CategoryInterface category, Label currentLabel, TextField input) {
             this.category = category;
             this.currentLabel = currentLabel;
+            this.currentText = new LabelText(currentLabel);
             this.input = input;
         }
     }
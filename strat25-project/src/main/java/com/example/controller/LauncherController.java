@@ -3,6 +3,7 @@ package com.example.controller;
 import com.example.service.GameService;
 import com.example.service.NodeMode;
 import com.example.view.SceneManager;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
@@ -87,9 +88,9 @@ public class LauncherController {
             });
         }
 
-        // UI initial konsistent setzen
-        applyMode(isSlaveSelected());
-        refreshSaves(); // lädt Saves (nur wenn Host)
+        // UI initial konsistent setzen; Modus/Netzwerk erst bei Benutzeraktion (schneller Start)
+        updateModeUi(isSlaveSelected());
+        Platform.runLater(this::refreshSaves); // Saves lesen, nachdem der Launcher sichtbar ist
     }
 
     private boolean isSlaveSelected() {
@@ -104,7 +105,11 @@ public class LauncherController {
         } else {
             gameService.setNodeMode(NodeMode.HOST);
         }
+        updateModeUi(slave);
+    }
 
+    /** Nur die UI (ohne Netzwerk): Host-/Slave-Elemente an/aus. */
+    private void updateModeUi(boolean slave) {
         // Host-UI
         setDisable(saveNameField, slave);
         setDisable(newBtn, slave);
@@ -152,6 +157,7 @@ public class LauncherController {
         String name = readName();
         if (name.isEmpty()) { warn("Please enter a name for the new game."); return; }
         try {
+            gameService.setNodeMode(NodeMode.HOST); // startet die Host-Server (idempotent)
             gameService.buildNewGame(name);
             sceneManager.showGame();
         } catch (Exception ex) {
@@ -165,6 +171,7 @@ public class LauncherController {
         String name = (selected != null && !selected.isBlank()) ? selected : readName();
         if (name.isEmpty()) { warn("Pick a save from the list or type its name."); return; }
         try {
+            gameService.setNodeMode(NodeMode.HOST);
             gameService.loadGame(name);
             gameService.startGame();
             sceneManager.showGame();
@@ -1,15 +1,23 @@
 package com.example.controller;
 
+import com.example.event.GameChangeSet;
+import com.example.event.GameChangeSet.Aspect;
+import com.example.metrics.jfr.ResultRefreshEvent;
 import com.example.model.BuildCategory;
 import com.example.model.CategoryInterface;
-import com.example.model.Family;
 import com.example.model.Game;
+import com.example.model.GameView;
+import com.example.model.GameView.BuildView;
+import com.example.model.GameView.CategoryView;
+import com.example.model.GameView.FamilyView;
+import com.example.model.GameView.TeamView;
 import com.example.model.Material;
-import com.example.model.Team;
 import com.example.service.GameService;
+import com.example.view.FrameBudgetRenderer;
+import com.example.view.ImageCache;
+import com.example.view.PieChartBinding;
+import com.example.view.PrestigeChartBinding;
 import com.example.view.SceneManager;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.beans.binding.Bindings;
 import javafx.fxml.FXML;
 import javafx.geometry.HPos;
@@ -26,11 +34,14 @@ import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
-import javafx.util.Duration;
+import javafx.stage.Stage;
+import javafx.stage.Window;
 
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 
 public class ResultController {
@@ -67,7 +78,7 @@ public class ResultController {
 
     // ===== Zustand =====
     private BuildCategory activeBuild;
-    private boolean showEndscore;
+    private boolean showEndscore = true; // wie im FXML: Endscore-Bereich sichtbar
 
     // Merker für zuletzt gesetzte Sichtbarkeit (für Force-Refresh)
     private Set<String> lastVisibleCategoryNames = Set.of();
@@ -79,19 +90,34 @@ public class ResultController {
     private String lastImageUrl = null;
     private String lastCenterImgUrl = null;
     private List<String> lastMaterialsLines = List.of();
-    private String lastPieSignature = "";
-    private String lastPrestigeSignature = "";
+    // Zeile pro Material, neu formatiert nur wenn sich gezahlt/benötigt ändert
+    private final String[] materialLineText = new String[Material.values().length];
+    private final long[] materialLineKey = new long[Material.values().length];
+    private PieChartBinding mainPieBinding;
+    private PrestigeChartBinding prestigeBinding;
+    // Version des zuletzt gerenderten GameView-Snapshots (-1 = erzwingen)
+    private long lastRenderedVersion = -1L;
 
     // Extra-Charts Verwaltung + Caches
     private List<String> lastExtraNames = List.of();
     private final Map<String, PieChart>  extraChartsByName      = new LinkedHashMap<>();
     private final Map<String, ImageView> extraIconsByName       = new LinkedHashMap<>();
     private final Map<String, Label>     extraTitlesByName      = new LinkedHashMap<>();
-    private final Map<String, String>    extraPieSignatureByName= new HashMap<>();
+    private final Map<String, PieChartBinding> extraPieBindingsByName = new HashMap<>();
     private final Map<String, String>    extraIconUrlByName     = new HashMap<>();
 
     private Label pieEmptyOverlay;
-    private Timeline ticker;
+
+    // Verteiltes Zeichnen (AnimationTimer + Frame-Budget)
+    private static final String SECTION_BUILD = "build";
+    private static final String SECTION_MAIN_PIE = "mainPie";
+    private static final String SECTION_PRESTIGE = "prestige";
+    private static final String SECTION_EXTRA_CHARTS = "extraCharts";
+    private FrameBudgetRenderer renderer;
+    private GameView renderView = GameView.EMPTY;
+    private final Set<String> dirtyExtraCharts = new LinkedHashSet<>();
+    // Änderungs-Abo (ersetzt den 1s-Ticker)
+    private AutoCloseable changeSubscription;
 
     // ===== Lifecycle =====
     @FXML
@@ -102,10 +128,11 @@ public class ResultController {
         setupPieEmptyOverlay();
         hookRefreshOnWindowShown(); // <<< NEU: beim Anzeigen / Ent-Minimieren hart neu aufbauen
 
-        if (ticker != null) ticker.stop();
-        ticker = new Timeline(new KeyFrame(Duration.seconds(1), e -> safeRefresh()));
-        ticker.setCycleCount(Timeline.INDEFINITE);
-        ticker.play();
+        setupRenderer();
+
+        // Event-getrieben: ein gebündelter Aufruf pro Pulse, nur bei Änderungen
+        unsubscribeChanges();
+        changeSubscription = gameService.subscribeChangesFx(this::safeRefresh);
     }
 
     private void setupImageSizing() {
@@ -115,6 +142,32 @@ public class ResultController {
         phaseImageView.setCache(true);
         phaseImageView.fitWidthProperty().bind(imageHolder.widthProperty());
         phaseImageView.fitHeightProperty().bind(imageHolder.heightProperty());
+
+        // Größere Fläche -> ggf. höher aufgelöste Variante aus dem Cache (Größen-Buckets, kein Dauer-Dekodieren)
+        imageHolder.widthProperty().addListener((obs, o, n) -> resizePhaseImage());
+        imageHolder.heightProperty().addListener((obs, o, n) -> resizePhaseImage());
+    }
+
+    private void resizePhaseImage() {
+        if (phaseImageView == null || lastImageUrl == null) return;
+        phaseImageView.setImage(cachedImage(lastImageUrl, phaseImageView));
+    }
+
+    /** Bild aus dem gemeinsamen Cache, auf die Anzeigegröße des ImageViews (inkl. HiDPI-Skalierung) herunterskaliert. */
+    private static Image cachedImage(String url, ImageView target) {
+        if (url == null) return null;
+        double scale = renderScale(target);
+        return ImageCache.shared().get(url, target.getFitWidth() * scale, target.getFitHeight() * scale);
+    }
+
+    private static void preloadImage(String url, ImageView target) {
+        double scale = renderScale(target);
+        ImageCache.shared().preload(url, target.getFitWidth() * scale, target.getFitHeight() * scale);
+    }
+
+    private static double renderScale(ImageView target) {
+        if (target.getScene() == null || target.getScene().getWindow() == null) return 1.0;
+        return Math.max(1.0, target.getScene().getWindow().getOutputScaleX());
     }
 
     private void setupListViewSizing() {
@@ -131,6 +184,7 @@ public class ResultController {
             influencePieChart.setAnimated(false);
             influencePieChart.prefWidthProperty().bind(pieHolder.widthProperty());
             influencePieChart.prefHeightProperty().bind(pieHolder.heightProperty());
+            mainPieBinding = new PieChartBinding(influencePieChart, this::teamToCssColor);
         }
         if (pieCenterImage != null && pieHolder != null) {
             pieCenterImage.setPreserveRatio(true);
@@ -200,7 +254,7 @@ public class ResultController {
             lastImageUrl = null;
             lastCenterImgUrl = null;
             lastMaterialsLines = List.of();
-            lastPieSignature = "";
+            lastRenderedVersion = -1L;
         }
 
         if (rightBottomBox != null) {
@@ -210,6 +264,7 @@ public class ResultController {
 
         // Linke Seite neu setzen
         List<CategoryInterface> extras = firstFourNonBuildCategories(visibleCategoryNames);
+        lastRenderedVersion = -1L;
         rebuildExtraChartsGridIfNeeded(extras);
 
         safeRefresh();
@@ -224,11 +279,12 @@ public class ResultController {
         lastImageUrl = null;
         lastCenterImgUrl = null;
         lastMaterialsLines = List.of();
-        lastPieSignature = "";
-        lastPrestigeSignature = "";
+        if (mainPieBinding != null) mainPieBinding.reset();
+        if (prestigeBinding != null) prestigeBinding.reset();
+        lastRenderedVersion = -1L;
 
         // Extra-Caches
-        extraPieSignatureByName.clear();
+        extraPieBindingsByName.values().forEach(PieChartBinding::reset);
         extraIconUrlByName.clear();
 
         // Linke Seite anhand zuletzt gemerkter Auswahl neu aufbauen
@@ -240,27 +296,141 @@ public class ResultController {
     }
 
     // ===== Refresh =====
+    /** Harter Refresh (Auswahl geändert, Fenster wieder sichtbar): alles gilt als geändert. */
     private void safeRefresh() {
+        safeRefresh(gameService.getGameView(), GameChangeSet.ALL);
+    }
+
+    private void safeRefresh(GameView view, GameChangeSet changes) {
         try {
-            refreshIfChanged();
+            refreshIfChanged(view, changes);
         } catch (Exception ignored) {}
     }
 
-    private void refreshIfChanged() {
+    private void refreshIfChanged(GameView view, GameChangeSet changes) {
+        // Nur den unveränderlichen Snapshot lesen (kein Zugriff auf vom Logic-Thread veränderte Maps)
+        if (view.version() == lastRenderedVersion && changes.isEmpty()) return; // unverändert
+        lastRenderedVersion = view.version();
+        renderView = view;
+        ResultRefreshEvent jfr = new ResultRefreshEvent();
+        jfr.begin();
+
+        // Nur markieren – gezeichnet wird verteilt über die nächsten Pulses (Frame-Budget)
         final BuildCategory bc = activeBuild;
+        final String bcName = (bc != null) ? bc.getName() : null;
+
+        // Jede Leinwand zeichnet nur, was sie selbst anzeigt (eigene Auswahl, Endscore ggf. ausgeblendet)
+        if (bc == null ? changes.isFullRefresh() : changes.buildLedger(bcName)) {
+            renderer.invalidate(SECTION_BUILD);
+        }
+        if (bc == null ? changes.isFullRefresh() : changes.categoryInfluence(bcName)) {
+            renderer.invalidate(SECTION_MAIN_PIE);
+        }
+        if (showEndscore && changes.has(Aspect.TEAM_PRESTIGE)) {
+            renderer.invalidate(SECTION_PRESTIGE);
+        }
+        for (String catName : extraChartsByName.keySet()) {
+            if (changes.categoryInfluence(catName)) dirtyExtraCharts.add(catName);
+        }
+        if (!dirtyExtraCharts.isEmpty()) {
+            renderer.invalidate(SECTION_EXTRA_CHARTS);
+        }
+
+        jfr.end();
+        if (jfr.shouldCommit()) {
+            jfr.window = windowTitle();
+            jfr.section = "refresh";
+            jfr.viewVersion = view.version();
+            jfr.full = changes.isFullRefresh();
+            jfr.invalidated = String.join(",", renderer.dirtySections());
+            jfr.commit();
+        }
+    }
+
+    // ===== Render-Sektionen (laufen im AnimationTimer, Reihenfolge = Priorität) =====
+    private void setupRenderer() {
+        if (renderer != null) renderer.stop();
+        renderer = new FrameBudgetRenderer(this::isOnScreen);
+        renderer.section(SECTION_BUILD, 0, traced(SECTION_BUILD, () -> {
+            CategoryView bcv = (activeBuild != null) ? renderView.category(activeBuild.getName()) : null;
+            refreshBuildSection(activeBuild, bcv != null ? bcv.build() : null);
+            return true;
+        }));
+        renderer.section(SECTION_MAIN_PIE, 1, traced(SECTION_MAIN_PIE, () -> {
+            CategoryView bcv = (activeBuild != null) ? renderView.category(activeBuild.getName()) : null;
+            rebuildMainInfluencePie(renderView, bcv != null ? bcv.influence() : Map.of());
+            return true;
+        }));
+        renderer.section(SECTION_PRESTIGE, 2, traced(SECTION_PRESTIGE, () -> {
+            rebuildPrestigeChart(renderView);
+            return true;
+        }));
+        // Extra-Charts in Scheiben: ein Chart pro Aufruf
+        renderer.section(SECTION_EXTRA_CHARTS, 3, traced(SECTION_EXTRA_CHARTS, () -> {
+            Iterator<String> it = dirtyExtraCharts.iterator();
+            if (it.hasNext()) {
+                String catName = it.next();
+                it.remove();
+                updateExtraChart(renderView, catName);
+            }
+            return dirtyExtraCharts.isEmpty();
+        }));
+        renderer.start();
+    }
+
+    /** Render-Sektion mit JFR-Event (ResultRefresh, section = Name der Sektion). */
+    private BooleanSupplier traced(String section, BooleanSupplier work) {
+        return () -> {
+            ResultRefreshEvent jfr = new ResultRefreshEvent();
+            jfr.begin();
+            boolean done = work.getAsBoolean();
+            jfr.end();
+            if (jfr.shouldCommit()) {
+                jfr.window = windowTitle();
+                jfr.section = section;
+                jfr.viewVersion = renderView != null ? renderView.version() : -1L;
+                jfr.commit();
+            }
+            return done;
+        };
+    }
+
+    private String windowTitle() {
+        Node anchor = (imageHolder != null) ? imageHolder : activeBuildLabel;
+        Window w = (anchor != null && anchor.getScene() != null) ? anchor.getScene().getWindow() : null;
+        return (w instanceof Stage st) ? st.getTitle() : null;
+    }
+
+    /** Nur zeichnen, wenn das Fenster sichtbar und nicht minimiert ist. */
+    private boolean isOnScreen() {
+        Node anchor = (imageHolder != null) ? imageHolder : activeBuildLabel;
+        if (anchor == null || anchor.getScene() == null) return false;
+        Window w = anchor.getScene().getWindow();
+        if (w == null || !w.isShowing()) return false;
+        return !(w instanceof Stage st && st.isIconified());
+    }
+
+    /** Kosten pro Sektion, verworfene Frames, Frames über Budget. */
+    public FrameBudgetRenderer.Stats getRenderStats() {
+        return renderer != null ? renderer.stats() : null;
+    }
+
+    public void setFrameBudgetMillis(long millis) {
+        if (renderer != null) renderer.setFrameBudget(millis, TimeUnit.MILLISECONDS);
+    }
+
+    /** Überschriften, Phasenbild, Center-Icon und Ressourcenliste des aktiven Bauspiels. */
+    private void refreshBuildSection(BuildCategory bc, BuildView bv) {
 
         // 1) Überschriften
         String displayName = "—";
         if (bc != null) {
-            try {
-                String dn = bc.getDisplayName();
-                displayName = (dn != null && !dn.isBlank()) ? dn : bc.getName();
-            } catch (Throwable ex) {
-                displayName = (bc.getName() != null && !bc.getName().isBlank()) ? bc.getName() : "—";
-            }
+            String dn = (bv != null) ? bv.displayName() : null;
+            displayName = (dn != null && !dn.isBlank()) ? dn
+                    : (bc.getName() != null && !bc.getName().isBlank()) ? bc.getName() : "—";
         }
-        int phase = (bc != null) ? bc.getConstructionPhase() : -1;
-        String phaseTitle = (bc != null) ? nullToDash(bc.getCurrentPhaseTitle()) : "—";
+        int phase = (bv != null) ? bv.constructionPhase() : -1;
+        String phaseTitle = (bv != null) ? nullToDash(bv.phaseTitle()) : "—";
 
         if (!Objects.equals(displayName, lastBuildName)) {
             if (activeBuildLabel != null) activeBuildLabel.setText(displayName);
@@ -274,13 +444,19 @@ public class ResultController {
 
         // 2) Phasenbild
         String imgUrl = null;
-        if (bc != null) {
-            Optional<URL> urlOpt = bc.getCurrentPhaseImageUrl();
+        if (bc != null && phase > 0) {
+            Optional<URL> urlOpt = bc.getPhaseImageUrl(phase);
             if (urlOpt.isPresent()) imgUrl = urlOpt.get().toExternalForm();
         }
         if (!Objects.equals(imgUrl, lastImageUrl)) {
             if (phaseImageView != null) {
-                phaseImageView.setImage(imgUrl == null ? null : new Image(imgUrl, 0, 0, true, true, true));
+                phaseImageView.setImage(cachedImage(imgUrl, phaseImageView));
+
+                // Bild der nächsten Etappe schon im Hintergrund dekodieren
+                if (bc != null && phase > 0) {
+                    bc.getPhaseImageUrl(phase + 1)
+                            .ifPresent(next -> preloadImage(next.toExternalForm(), phaseImageView));
+                }
             }
             lastImageUrl = imgUrl;
         }
@@ -293,13 +469,13 @@ public class ResultController {
         }
         if (!Objects.equals(centerUrl, lastCenterImgUrl)) {
             if (pieCenterImage != null) {
-                pieCenterImage.setImage(centerUrl == null ? null : new Image(centerUrl, true));
+                pieCenterImage.setImage(cachedImage(centerUrl, pieCenterImage));
             }
             lastCenterImgUrl = centerUrl;
         }
 
         // 4) Ressourcenliste
-        List<String> lines = (bc != null) ? buildMaterialsLines(bc) : List.of();
+        List<String> lines = (bv != null) ? buildMaterialsLines(bv) : List.of();
         if (!lines.equals(lastMaterialsLines)) {
             if (materialsList != null) {
                 materialsList.getItems().setAll(lines);
@@ -307,61 +483,14 @@ public class ResultController {
             }
             lastMaterialsLines = lines;
         }
-
-        // 5) Haupt-Pie Daten
-        Map<Integer, Double> infl = (bc != null && bc.getInfluenceMap() != null)
-                ? bc.getInfluenceMap()
-                : Map.of();
-        rebuildMainInfluencePie(infl);
-
-        // 6) Extra-Charts aktualisieren
-        updateExtraChartsData();
-
-        // 7) Prestige-Chart
-        rebuildPrestigeChart();
     }
 
     // ===== Haupt-PieChart =====
-    private void rebuildMainInfluencePie(Map<Integer, Double> influence) {
-        if (influencePieChart == null) return;
-        if (influence == null) influence = Map.of();
-
-        double sum = influence.values().stream().filter(Objects::nonNull).mapToDouble(Double::doubleValue).sum();
-        String signature = influence.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .map(e -> e.getKey() + ":" + String.format(Locale.ROOT, "%.4f", e.getValue() == null ? 0.0 : e.getValue()))
-                .collect(Collectors.joining("|"));
-
-        if (signature.equals(lastPieSignature)) {
-            if (sum <= 0) showPieEmptyOverlay(true);
-            return;
-        }
-        lastPieSignature = signature;
-
-        if (sum <= 0.0) {
-            influencePieChart.getData().clear();
-            showPieEmptyOverlay(true);
-            return;
-        }
-
-        showPieEmptyOverlay(false);
-
-        Map<Integer, Team> teamById = teamMapById();
-        List<PieChart.Data> data = new ArrayList<>();
-        for (Map.Entry<Integer, Double> e : influence.entrySet()) {
-            double val = e.getValue() != null ? e.getValue() : 0.0;
-            if (val <= 0) continue;
-            Team t = teamById.get(e.getKey());
-            String label = (t != null && t.getName() != null) ? t.getName() : ("Team " + e.getKey());
-            data.add(new PieChart.Data(label, val));
-        }
-        influencePieChart.getData().setAll(data);
-
-        for (PieChart.Data d : data) {
-            Team t = findTeamByName(teamById, d.getName());
-            String cssColor = teamToCssColor(t);
-            if (cssColor != null) applySliceColor(d, cssColor);
-        }
+    private void rebuildMainInfluencePie(GameView view, Map<Integer, Double> influence) {
+        if (influencePieChart == null || mainPieBinding == null) return;
+        // Ein Slice pro Team, Werte werden in-place gesetzt (kein Neuaufbau, kein Umfärben)
+        boolean anyData = mainPieBinding.update(view, influence);
+        showPieEmptyOverlay(!anyData);
     }
 
     private void showPieEmptyOverlay(boolean show) {
@@ -394,7 +523,7 @@ public class ResultController {
         extraChartsByName.keySet().removeIf(n -> !names.contains(n));
         extraIconsByName.keySet().removeIf(n -> !names.contains(n));
         extraTitlesByName.keySet().removeIf(n -> !names.contains(n));
-        extraPieSignatureByName.keySet().removeIf(n -> !names.contains(n));
+        extraPieBindingsByName.keySet().removeIf(n -> !names.contains(n));
         extraIconUrlByName.keySet().removeIf(n -> !names.contains(n));
 
         if (extraChartsGrid == null) return;
@@ -402,6 +531,7 @@ public class ResultController {
         extraChartsByName.clear();
         extraIconsByName.clear();
         extraTitlesByName.clear();
+        extraPieBindingsByName.clear();
 
         for (int i = 0; i < names.size(); i++) {
             String catName = names.get(i);
@@ -449,211 +579,70 @@ public class ResultController {
 
             extraChartsGrid.getChildren().add(cell);
             extraChartsByName.put(catName, chart);
+            extraPieBindingsByName.put(catName, new PieChartBinding(chart, this::teamToCssColor));
             extraIconsByName.put(catName, icon);
             extraTitlesByName.put(catName, title);
         }
     }
 
-    private void updateExtraChartsData() {
-        if (extraChartsByName.isEmpty()) return;
-
-        Map<Integer, Team> teamById = teamMapById();
+    private void updateExtraChart(GameView view, String catName) {
         Game g = gameService.getGame();
-        if (g == null) return;
-
-        Map<String, CategoryInterface> byName = new HashMap<>();
-        for (CategoryInterface ci : g.getCategories()) {
-            if (ci != null && ci.getName() != null) byName.put(ci.getName(), ci);
-        }
-
-        for (String catName : extraChartsByName.keySet()) {
-            PieChart chart = extraChartsByName.get(catName);
-            ImageView icon = extraIconsByName.get(catName);
-            Label title = extraTitlesByName.get(catName);
-
-            CategoryInterface ci = byName.get(catName);
-            if (title != null) title.setText(ci != null && ci.getName() != null ? ci.getName() : catName);
-
-            // Icon nur bei geänderter URL setzen
-            if (icon != null) {
-                String url = (ci != null) ? ci.getImageUrl().map(URL::toExternalForm).orElse(null) : null;
-                String lastUrl = extraIconUrlByName.get(catName);
-                if (!Objects.equals(url, lastUrl)) {
-                    icon.setImage(url == null ? null : new Image(url, true));
-                    extraIconUrlByName.put(catName, url);
-                }
-            }
-
-            if (ci == null) {
-                chart.getData().clear();
-                extraPieSignatureByName.remove(catName);
-                continue;
-            }
-
-            Map<Integer, Double> influence = ci.getInfluenceMap();
-            if (influence == null) influence = Map.of();
-
-            double sum = influence.values().stream().filter(Objects::nonNull).mapToDouble(Double::doubleValue).sum();
-            String signature = influence.entrySet().stream()
-                    .sorted(Map.Entry.comparingByKey())
-                    .map(inf -> inf.getKey() + ":" + String.format(Locale.ROOT, "%.4f",
-                            inf.getValue() == null ? 0.0 : inf.getValue()))
-                    .collect(Collectors.joining("|"));
-
-            String lastSig = extraPieSignatureByName.get(catName);
-            if (Objects.equals(signature, lastSig)) {
-                continue; // unverändert
-            }
-            extraPieSignatureByName.put(catName, signature);
-
-            if (sum <= 0.0) {
-                chart.getData().setAll();
-                continue;
-            }
-
-            List<PieChart.Data> data = new ArrayList<>();
-            for (Map.Entry<Integer, Double> inf : influence.entrySet()) {
-                double val = inf.getValue() != null ? inf.getValue() : 0.0;
-                if (val <= 0) continue;
-                Team t = teamById.get(inf.getKey());
-                String label = (t != null && t.getName() != null) ? t.getName() : ("Team " + inf.getKey());
-                data.add(new PieChart.Data(label, val));
+        if (g == null || !extraChartsByName.containsKey(catName)) return;
+
+        // Modell nur für die (unveränderlichen) Bildangaben; Zahlen kommen aus dem Snapshot
+        CategoryInterface ci = null;
+        for (CategoryInterface c : g.getCategories()) {
+            if (c != null && catName.equals(c.getName())) {
+                ci = c;
+                break;
             }
-            chart.getData().setAll(data);
+        }
 
-            for (PieChart.Data d : data) {
-                Team t = findTeamByName(teamById, d.getName());
-                String cssColor = teamToCssColor(t);
-                if (cssColor != null) applySliceColor(d, cssColor);
+        ImageView icon = extraIconsByName.get(catName);
+        Label title = extraTitlesByName.get(catName);
+        if (title != null) title.setText(ci != null && ci.getName() != null ? ci.getName() : catName);
+
+        // Icon nur bei geänderter URL setzen
+        if (icon != null) {
+            String url = (ci != null) ? ci.getImageUrl().map(URL::toExternalForm).orElse(null) : null;
+            String lastUrl = extraIconUrlByName.get(catName);
+            if (!Objects.equals(url, lastUrl)) {
+                icon.setImage(cachedImage(url, icon));
+                extraIconUrlByName.put(catName, url);
             }
         }
-    }
 
-    private void applySliceColor(PieChart.Data d, String cssColor) {
-        d.nodeProperty().addListener((obs, oldNode, node) -> {
-            if (node != null) node.setStyle("-fx-pie-color: " + cssColor + ";");
-        });
-        Node node = d.getNode();
-        if (node != null) node.setStyle("-fx-pie-color: " + cssColor + ";");
+        CategoryView cv = view.category(catName);
+        PieChartBinding binding = extraPieBindingsByName.get(catName);
+        if (binding == null) return;
+        if (ci == null || cv == null) {
+            binding.reset();
+            return;
+        }
+        binding.update(view, cv.influence());
     }
 
     // ===== Prestige (StackedBar) =====
-    private void rebuildPrestigeChart() {
+    private void rebuildPrestigeChart(GameView view) {
         if (prestigeChart == null) return;
-        Game g = gameService.getGame();
-        if (g == null || g.getFamilies() == null) {
-            prestigeChart.getData().clear();
-            return;
-        }
-
-        String sig = g.getFamilies().stream()
-                .filter(Objects::nonNull)
-                .map(f -> {
-                    String fam = f.getName() == null ? "" : f.getName();
-                    double sum = (f.getTeams() == null ? List.<Team>of() : f.getTeams())
-                            .stream().filter(Objects::nonNull)
-                            .mapToDouble(Team::getPrestige).sum();
-                    return fam + ":" + String.format(Locale.ROOT, "%.4f", sum);
-                })
-                .collect(Collectors.joining("|"));
-
-        if (sig.equals(lastPrestigeSignature)) return;
-        lastPrestigeSignature = sig;
-
-        List<Family> families = g.getFamilies();
-        List<String> categories = families.stream()
-                .map(f -> f != null && f.getName() != null ? f.getName() : "—")
-                .toList();
-        if (prestigeYAxis != null)
-            prestigeYAxis.setCategories(javafx.collections.FXCollections.observableArrayList(categories));
-
-        prestigeChart.getData().clear();
-
-        Map<Integer, Team> allTeams = new LinkedHashMap<>();
-        for (Family f : families) {
-            if (f == null || f.getTeams() == null) continue;
-            for (Team t : f.getTeams()) {
-                if (t != null && t.getId() != null) allTeams.put(t.getId(), t);
-            }
-        }
-
-        for (Team team : allTeams.values()) {
-            String seriesName = team.getName() == null ? ("Team " + team.getId()) : team.getName();
-            StackedBarChart.Series<Number, String> series = new StackedBarChart.Series<>();
-            series.setName(seriesName);
-
-            boolean anyData = false;
-            for (Family fam : families) {
-                if (fam == null) continue;
-                double v = 0.0;
-                if (fam.getTeams() != null) {
-                    for (Team ft : fam.getTeams()) {
-                        if (ft != null && Objects.equals(ft.getId(), team.getId())) {
-                            v = Math.max(0.0, ft.getPrestige());
-                            break;
-                        }
-                    }
-                }
-                if (v > 0) {
-                    String cat = fam.getName() == null ? "—" : fam.getName();
-                    series.getData().add(new StackedBarChart.Data<>(v, cat));
-                    anyData = true;
-                }
-            }
-
-            if (anyData) {
-                prestigeChart.getData().add(series);
-            }
-        }
-
-        for (StackedBarChart.Series<Number, String> s : prestigeChart.getData()) {
-            String teamName = s.getName();
-            Team team = findTeamByName(allTeams, teamName);
-            String cssColor = teamToCssColor(team);
-            if (cssColor == null) continue;
-            for (StackedBarChart.Data<Number, String> d : s.getData()) {
-                if (d.getNode() != null) {
-                    d.getNode().setStyle("-fx-bar-fill: " + cssColor + ";");
-                } else {
-                    d.nodeProperty().addListener((obs, oldN, newN) -> {
-                        if (newN != null) newN.setStyle("-fx-bar-fill: " + cssColor + ";");
-                    });
-                }
-            }
+        if (prestigeBinding == null) {
+            prestigeBinding = new PrestigeChartBinding(prestigeChart, prestigeYAxis, this::teamToCssColor);
         }
+        // Serie pro Team bleibt bestehen, nur die Werte wandern
+        prestigeBinding.update(view);
     }
 
     // ===== Hilfen: Teamdaten / Farben =====
-    private Map<Integer, Team> teamMapById() {
-        Game g = gameService.getGame();
-        Map<Integer, Team> map = new HashMap<>();
-        if (g == null || g.getFamilies() == null) return map;
-        for (Family f : g.getFamilies()) {
-            if (f == null || f.getTeams() == null) continue;
-            for (Team t : f.getTeams()) {
-                if (t != null && t.getId() != null) map.put(t.getId(), t);
-            }
-        }
-        return map;
-    }
-
-    private Team findTeamByName(Map<Integer, Team> byId, String name) {
-        if (name == null) return null;
-        for (Team t : byId.values()) {
-            if (t != null && name.equals(t.getName())) return t;
-        }
-        return null;
-    }
-
-    private String teamToCssColor(Team t) {
+    private String teamToCssColor(GameView view, TeamView t) {
         if (t == null) return null;
-        Object sc = t.getColor();
-        String fromSerializable = serializableColorToCss(sc);
+        String fromSerializable = serializableColorToCss(t.color());
         if (fromSerializable != null) return fromSerializable;
-        if (t.getFamily() != null) {
-            Object fc = t.getFamily().getColor();
-            String fromFamily = serializableColorToCss(fc);
-            if (fromFamily != null) return fromFamily;
+        for (FamilyView f : view.families()) {
+            if (Objects.equals(f.name(), t.familyName())) {
+                String fromFamily = serializableColorToCss(f.color());
+                if (fromFamily != null) return fromFamily;
+                break;
+            }
         }
         return null;
     }
@@ -710,19 +699,28 @@ public class ResultController {
     }
 
     // ===== Materialien =====
-    private List<String> buildMaterialsLines(BuildCategory bc) {
-        Map<Material, Integer> need = bc.getNeededMaterials();
-        Map<Material, Integer> pay  = bc.getPayedMaterials();
-
-        return Arrays.stream(Material.values())
-                .map(m -> {
-                    int n = need.getOrDefault(m, 0);
-                    int p = pay.getOrDefault(m, 0);
-                    if (n == 0 && p == 0) return null;
-                    return String.format("%d/%d %s", p, n, m.name());
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+    private List<String> buildMaterialsLines(BuildView bv) {
+        List<String> lines = new ArrayList<>(materialLineText.length);
+        for (Material m : Material.values()) {
+            int n = bv.neededOf(m);
+            int p = bv.payedOf(m);
+            if (n == 0 && p == 0) continue;
+            lines.add(materialLine(m, p, n));
+        }
+        return lines;
+    }
+
+    /** "gezahlt/benötigt NAME"; unchanged numbers return the same String instance. */
+    private String materialLine(Material m, int payed, int needed) {
+        int i = m.ordinal();
+        long key = ((long) payed << 32) | (needed & 0xFFFFFFFFL);
+        String text = materialLineText[i];
+        if (text == null || materialLineKey[i] != key) {
+            text = new StringBuilder(24).append(payed).append('/').append(needed).append(' ').append(m.name()).toString();
+            materialLineText[i] = text;
+            materialLineKey[i] = key;
+        }
+        return text;
     }
 
     private void resizeMaterialsListToFitContent() {
@@ -764,10 +762,25 @@ public class ResultController {
         return (s == null || s.isBlank()) ? "—" : s;
     }
 
+    private void unsubscribeChanges() {
+        if (changeSubscription == null) return;
+        try {
+            changeSubscription.close();
+        } catch (Exception ignored) {}
+        changeSubscription = null;
+    }
+
+    /** Gibt Änderungs-Abo und Render-Timer frei (Fenster versteckt/geschlossen, App-Ende). Idempotent. */
     public void shutdown() {
-        if (ticker != null) {
-            ticker.stop();
-            ticker = null;
-        }
+        unsubscribeChanges();
+        if (renderer != null) renderer.stop();
+    }
+
+    /** Gegenstück zu {@link #shutdown()}, wenn das Fenster wieder angezeigt wird. */
+    public void resume() {
+        if (changeSubscription != null) return;
+        if (renderer != null) renderer.start();
+        changeSubscription = gameService.subscribeChangesFx(this::safeRefresh);
+        forceRefreshAll();
     }
 }
@@ -0,0 +1,136 @@
+package com.example.event;
+
+import com.example.model.GameView;
+import javafx.application.Platform;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * GameChangeBus
+ * ----------------
+ * Purpose:
+ *  - Collects dirty flags from mutations (GameService) and clock ticks (GameClock) on the logic thread.
+ *  - After each batch: publishes the new {@link GameView} (single volatile reference) plus the
+ *    {@link GameChangeSet} to all subscribers.
+ *
+ * Threading:
+ *  - {@link #changes()} / {@link #publish(GameView, GameChangeSet)}: logic thread only.
+ *  - Plain listeners are called on the logic thread (keep them short!).
+ *  - FX listeners are coalesced: all deliveries between two FX pulses are merged into
+ *    ONE Platform.runLater for all FX listeners together.
+ */
+public class GameChangeBus {
+
+    /** Dirty flags of the current batch (logic thread only). */
+    private final GameChangeSet.Builder pending = new GameChangeSet.Builder();
+
+    private volatile GameView current = GameView.EMPTY;
+
+    private final List<GameChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<FxSubscription> fxListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Merged, not yet delivered FX update (null = no runLater scheduled). View and changes travel
+     * together so the FX side never sees a newer view with an older changeset.
+     */
+    private final AtomicReference<Pending> fxPending = new AtomicReference<>();
+
+    private record Pending(GameView view, GameChangeSet changes) {}
+
+    /** Runs the coalesced FX delivery ({@code Platform::runLater}; tests pass their own pulse queue). */
+    private final Executor fx;
+
+    public GameChangeBus() {
+        this(Platform::runLater);
+    }
+
+    GameChangeBus(Executor fx) {
+        this.fx = fx;
+    }
+
+    /** Accumulator for the current batch. Logic thread only. */
+    public GameChangeSet.Builder changes() { return pending; }
+
+    /** True if something was marked since the last publish. Logic thread only. */
+    public boolean hasPendingChanges() { return !pending.isEmpty(); }
+
+    /** Returns and resets the accumulated changes. Logic thread only. */
+    public GameChangeSet drain() { return pending.drain(); }
+
+    /** Latest published snapshot (lock-free). */
+    public GameView current() { return current; }
+
+    /** Stores the snapshot and notifies all subscribers. Logic thread only. */
+    public void publish(GameView view, GameChangeSet changes) {
+        current = view;
+        if (changes == null || changes.isEmpty()) return;
+
+        for (GameChangeListener l : listeners) {
+            try {
+                l.onGameChanged(view, changes);
+            } catch (Throwable t) {
+                t.printStackTrace();
+            }
+        }
+
+        if (!fxListeners.isEmpty()) {
+            Pending before = fxPending.getAndUpdate(
+                    prev -> new Pending(view, prev == null ? changes : prev.changes().merge(changes)));
+            if (before == null) {
+                fx.execute(this::flushFx);
+            }
+        }
+    }
+
+    // ---------- Subscriptions ------------------------------------------------
+
+    /** Listener on the logic thread. */
+    public AutoCloseable subscribe(GameChangeListener listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    /**
+     * Listener on the FX thread. Receives the current snapshot once right away
+     * (with {@link GameChangeSet#ALL}) and afterwards only coalesced changes.
+     */
+    public AutoCloseable subscribeFx(GameChangeListener listener) {
+        FxSubscription sub = new FxSubscription(listener);
+        fxListeners.add(sub);
+        fx.execute(() -> {
+            if (!sub.closed) deliver(sub, current, GameChangeSet.ALL);
+        });
+        return () -> {
+            sub.closed = true;
+            fxListeners.remove(sub);
+        };
+    }
+
+    private void flushFx() {
+        Pending merged = fxPending.getAndSet(null);
+        if (merged == null) return;
+        for (FxSubscription sub : fxListeners) {
+            deliver(sub, merged.view(), merged.changes());
+        }
+    }
+
+    private static void deliver(FxSubscription sub, GameView view, GameChangeSet changes) {
+        try {
+            sub.listener.onGameChanged(view, changes);
+        } catch (Throwable t) {
+            t.printStackTrace();
+        }
+    }
+
+    private static final class FxSubscription {
+        final GameChangeListener listener;
+        volatile boolean closed;
+
+        FxSubscription(GameChangeListener listener) {
+            this.listener = listener;
+        }
+    }
+}
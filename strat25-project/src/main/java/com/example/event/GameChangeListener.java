@@ -0,0 +1,12 @@
+package com.example.event;
+
+import com.example.model.GameView;
+
+/**
+ * Receives a published snapshot together with what changed since the previous delivery.
+ * FX listeners (see {@link GameChangeBus#subscribeFx}) are called on the JavaFX Application Thread.
+ */
+@FunctionalInterface
+public interface GameChangeListener {
+    void onGameChanged(GameView view, GameChangeSet changes);
+}
@@ -0,0 +1,159 @@
+package com.example.event;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * GameChangeSet
+ * ----------------
+ * Immutable set of dirty flags ("what changed") between two published {@link com.example.model.GameView}s.
+ *
+ * Aspects:
+ *  - GAME               : whole game replaced / loaded -> everything is dirty
+ *  - TIME               : playtime advanced
+ *  - SETTINGS           : game speed, prestige multipliers
+ *  - TEAM_PRESTIGE      : prestige of single teams (or all teams)
+ *  - CATEGORY_INFLUENCE : influence map of single categories (build categories included)
+ *  - BUILD_LEDGER       : needed/payed materials or construction phase of single build categories
+ *
+ * Filled on the logic thread through {@link Builder}; merged when deliveries are coalesced.
+ */
+public final class GameChangeSet {
+
+    public enum Aspect { GAME, TIME, SETTINGS, TEAM_PRESTIGE, CATEGORY_INFLUENCE, BUILD_LEDGER }
+
+    public static final GameChangeSet NONE = new Builder().build();
+    public static final GameChangeSet ALL = new Builder().markGame().build();
+
+    private final Set<Aspect> aspects;
+    private final boolean allTeams;
+    private final Set<Integer> teams;
+    private final Set<String> categories;
+    private final Set<String> builds;
+
+    private GameChangeSet(Set<Aspect> aspects, boolean allTeams, Set<Integer> teams,
+                          Set<String> categories, Set<String> builds) {
+        this.aspects = aspects;
+        this.allTeams = allTeams;
+        this.teams = teams;
+        this.categories = categories;
+        this.builds = builds;
+    }
+
+    // ---------- queries ------------------------------------------------------
+
+    public boolean isEmpty() { return aspects.isEmpty(); }
+
+    /** True if the whole game was replaced (everything must be redrawn). */
+    public boolean isFullRefresh() { return aspects.contains(Aspect.GAME); }
+
+    /** True if the aspect changed at all (or the whole game was replaced). */
+    public boolean has(Aspect aspect) {
+        return aspects.contains(aspect) || aspects.contains(Aspect.GAME);
+    }
+
+    public boolean teamPrestige(int teamId) {
+        return isFullRefresh() || allTeams || teams.contains(teamId);
+    }
+
+    public boolean categoryInfluence(String categoryName) {
+        return isFullRefresh() || (categoryName != null && categories.contains(categoryName));
+    }
+
+    public boolean buildLedger(String buildName) {
+        return isFullRefresh() || (buildName != null && builds.contains(buildName));
+    }
+
+    /** Union of both change sets (used when deliveries are coalesced). */
+    public GameChangeSet merge(GameChangeSet other) {
+        if (other == null || other.isEmpty()) return this;
+        if (this.isEmpty()) return other;
+        if (this.isFullRefresh()) return this;
+        if (other.isFullRefresh()) return other;
+        Builder b = new Builder();
+        b.addAll(this);
+        b.addAll(other);
+        return b.build();
+    }
+
+    @Override
+    public String toString() {
+        return "GameChangeSet" + aspects + (allTeams ? "{teams=*" : "{teams=" + teams)
+                + ", categories=" + categories + ", builds=" + builds + "}";
+    }
+
+    // ---------- builder (logic thread only) ----------------------------------
+
+    /** Mutable accumulator. Not thread-safe: use it only on the logic thread. */
+    public static final class Builder {
+        private final EnumSet<Aspect> aspects = EnumSet.noneOf(Aspect.class);
+        private boolean allTeams;
+        private final Set<Integer> teams = new HashSet<>();
+        private final Set<String> categories = new HashSet<>();
+        private final Set<String> builds = new HashSet<>();
+
+        public Builder markGame() { aspects.add(Aspect.GAME); return this; }
+
+        public Builder markTime() { aspects.add(Aspect.TIME); return this; }
+
+        public Builder markSettings() { aspects.add(Aspect.SETTINGS); return this; }
+
+        public Builder markTeamPrestige(int teamId) {
+            aspects.add(Aspect.TEAM_PRESTIGE);
+            teams.add(teamId);
+            return this;
+        }
+
+        public Builder markAllTeamsPrestige() {
+            aspects.add(Aspect.TEAM_PRESTIGE);
+            allTeams = true;
+            return this;
+        }
+
+        public Builder markCategoryInfluence(String categoryName) {
+            if (categoryName == null) return this;
+            aspects.add(Aspect.CATEGORY_INFLUENCE);
+            categories.add(categoryName);
+            return this;
+        }
+
+        public Builder markBuildLedger(String buildName) {
+            if (buildName == null) return this;
+            aspects.add(Aspect.BUILD_LEDGER);
+            builds.add(buildName);
+            return this;
+        }
+
+        public boolean isEmpty() { return aspects.isEmpty(); }
+
+        private void addAll(GameChangeSet cs) {
+            aspects.addAll(cs.aspects);
+            allTeams |= cs.allTeams;
+            teams.addAll(cs.teams);
+            categories.addAll(cs.categories);
+            builds.addAll(cs.builds);
+        }
+
+        public GameChangeSet build() {
+            return new GameChangeSet(
+                    Collections.unmodifiableSet(EnumSet.copyOf(aspects)),
+                    allTeams,
+                    Set.copyOf(teams),
+                    Set.copyOf(categories),
+                    Set.copyOf(builds));
+        }
+
+        /** Returns the accumulated changes and starts over. */
+        public GameChangeSet drain() {
+            GameChangeSet cs = build();
+            aspects.clear();
+            allTeams = false;
+            teams.clear();
+            categories.clear();
+            builds.clear();
+            return cs;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * MetricsRegistry
+ * ----------------
+ * Lightweight in-process metrics: counters, gauges and latency timers, looked up by name.
+ *
+ * - Recording is lock-free: counters are {@link LongAdder}s, timers record into one of several
+ *   {@link LatencyHistogram} stripes (picked by thread id), so the logic thread, the network workers
+ *   and the I/O thread never contend on the same cache lines.
+ * - Look up instruments once and keep the reference in hot paths ({@code timer(name)} is a map lookup).
+ * - Timers are cumulative since start; {@link #snapshot()} merges the stripes (reader pays, not writers).
+ * - {@link #startDump(Path, Duration)} appends a text block per period to a file (post-mortem when the
+ *   host lagged: compare {@code clock.tick}, {@code clock.event.*}, {@code input.apply.*}, {@code save.*}).
+ *
+ * Names used by the runtime: see {@code GameRuntimeService} and {@code GameService}.
+ */
+public final class MetricsRegistry {
+
+    /** Precision of the timer stripes (relative error &lt; 0.8 %, 37 KB per stripe). */
+    private static final int TIMER_SUB_BITS = 7;
+    private static final int STRIPES = Math.min(8, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors())));
+    private static final DateTimeFormatter TS = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, DoubleSupplier> gauges = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+    // ---------- instruments ---------------------------------------------------
+
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, n -> new Counter());
+    }
+
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, n -> new Timer());
+    }
+
+    /** Registers (or replaces) a gauge; the supplier is called on every snapshot (any thread). */
+    public void gauge(String name, DoubleSupplier value) {
+        gauges.put(name, value);
+    }
+
+    public void removeGauge(String name) {
+        gauges.remove(name);
+    }
+
+    /** Monotonic counter. */
+    public static final class Counter {
+        private final LongAdder adder = new LongAdder();
+
+        public void increment() { adder.increment(); }
+
+        public void add(long delta) { adder.add(delta); }
+
+        public long get() { return adder.sum(); }
+    }
+
+    /** Latency timer (nanoseconds), striped by recording thread. */
+    public static final class Timer {
+        private final LatencyHistogram[] stripes = new LatencyHistogram[STRIPES];
+
+        Timer() {
+            for (int i = 0; i < STRIPES; i++) stripes[i] = new LatencyHistogram(TIMER_SUB_BITS);
+        }
+
+        public void record(long nanos) {
+            stripes[(int) Thread.currentThread().threadId() & (STRIPES - 1)].record(nanos);
+        }
+
+        /** Records {@code System.nanoTime() - startNanos}. */
+        public void recordSince(long startNanos) {
+            record(System.nanoTime() - startNanos);
+        }
+
+        /** Merged copy of all stripes. */
+        public LatencyHistogram histogram() {
+            LatencyHistogram merged = new LatencyHistogram(TIMER_SUB_BITS);
+            for (LatencyHistogram h : stripes) merged.add(h);
+            return merged;
+        }
+
+        public TimerStats stats() {
+            LatencyHistogram h = histogram();
+            return new TimerStats(h.count(), h.meanNanos() / 1e3, h.valueAtPercentile(50) / 1e3,
+                    h.valueAtPercentile(99) / 1e3, h.valueAtPercentile(99.9) / 1e3, h.maxNanos() / 1e3);
+        }
+    }
+
+    /** Timer summary in microseconds. */
+    public record TimerStats(long count, double meanMicros, double p50Micros, double p99Micros,
+                             double p999Micros, double maxMicros) { }
+
+    // ---------- reading -------------------------------------------------------
+
+    /** Consistent-enough view of all metrics, sorted by name. */
+    public record Snapshot(LocalDateTime time, Map<String, Long> counters, Map<String, Double> gauges,
+                           Map<String, TimerStats> timers) {
+
+        public String format() {
+            StringBuilder sb = new StringBuilder(1024);
+            sb.append("# ").append(time.format(TS)).append('\n');
+            counters.forEach((n, v) -> sb.append("counter ").append(n).append(' ').append(v).append('\n'));
+            gauges.forEach((n, v) -> sb.append("gauge   ").append(n).append(' ')
+                    .append(String.format(Locale.ROOT, "%.3f", v)).append('\n'));
+            timers.forEach((n, t) -> sb.append(String.format(Locale.ROOT,
+                    "timer   %s count=%d mean=%.1fus p50=%.1fus p99=%.1fus p999=%.1fus max=%.1fus%n",
+                    n, t.count(), t.meanMicros(), t.p50Micros(), t.p99Micros(), t.p999Micros(), t.maxMicros())));
+            return sb.toString();
+        }
+    }
+
+    public Snapshot snapshot() {
+        Map<String, Long> c = new TreeMap<>();
+        counters.forEach((n, v) -> c.put(n, v.get()));
+        Map<String, Double> g = new TreeMap<>();
+        gauges.forEach((n, v) -> {
+            try { g.put(n, v.getAsDouble()); } catch (RuntimeException e) { g.put(n, Double.NaN); }
+        });
+        Map<String, TimerStats> t = new TreeMap<>();
+        timers.forEach((n, v) -> t.put(n, v.stats()));
+        return new Snapshot(LocalDateTime.now(), c, g, t);
+    }
+
+    // ---------- periodic dump -------------------------------------------------
+
+    /** Appends one {@link Snapshot#format()} block to {@code file}. */
+    public void dump(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            w.write(snapshot().format());
+            w.write('\n');
+        }
+    }
+
+    /**
+     * Appends a snapshot to {@code file} every {@code period} on a daemon thread (and a last one on close).
+     * Close the returned handle to stop.
+     */
+    public AutoCloseable startDump(Path file, Duration period) {
+        ScheduledExecutorService ses = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "metrics-dump");
+            t.setDaemon(true);
+            return t;
+        });
+        Runnable write = () -> {
+            try {
+                dump(file);
+            } catch (IOException e) {
+                System.err.println("Metrics dump failed: " + e.getMessage());
+            }
+        };
+        long millis = Math.max(1, period.toMillis());
+        ses.scheduleAtFixedRate(write, millis, millis, TimeUnit.MILLISECONDS);
+        return () -> {
+            ses.shutdown();
+            ses.awaitTermination(2, TimeUnit.SECONDS); // a running dump finishes first
+            write.run();
+        };
+    }
+}
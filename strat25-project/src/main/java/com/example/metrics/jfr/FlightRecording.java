@@ -0,0 +1,75 @@
+package com.example.metrics.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * FlightRecording
+ * ----------------
+ * JDK Flight Recorder session for post-mortems (JDK 21, no extra dependency).
+ *
+ * - JDK "default" settings (&lt; 1 % overhead, safe during a live evening) plus all Strat25 events
+ *   ({@link #EVENTS}) without threshold.
+ * - Kept in a ring buffer on disk (last {@link #MAX_AGE}); {@link #dump(Path)} writes a copy at any time,
+ *   the recording continues.
+ * - Open the .jfr files with JDK Mission Control or {@code jfr print --events com.example.* file.jfr}.
+ */
+public final class FlightRecording implements AutoCloseable {
+
+    public static final Duration MAX_AGE = Duration.ofMinutes(30);
+    private static final DateTimeFormatter TS = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    /** Custom events of the game (all registered with the recording). */
+    public static final List<Class<? extends jdk.jfr.Event>> EVENTS = List.of(
+            GameTickEvent.class, InputAppliedEvent.class, SaveEvent.class,
+            SyncBroadcastEvent.class, ResultRefreshEvent.class);
+
+    private final Recording recording;
+
+    private FlightRecording(Recording recording) {
+        this.recording = recording;
+    }
+
+    /** Starts a new recording. */
+    public static FlightRecording start() throws IOException {
+        if (!FlightRecorder.isAvailable())
+            throw new IllegalStateException("Flight Recorder is not available in this JVM");
+        Recording r;
+        try {
+            r = new Recording(Configuration.getConfiguration("default"));
+        } catch (ParseException e) {
+            throw new IOException("JFR configuration 'default' unreadable", e);
+        }
+        r.setName("strat25");
+        r.setToDisk(true);
+        r.setMaxAge(MAX_AGE);
+        for (Class<? extends jdk.jfr.Event> type : EVENTS) {
+            r.enable(type).withoutThreshold();
+        }
+        r.start();
+        return new FlightRecording(r);
+    }
+
+    /** Writes what was recorded so far to {@code dir/strat25_yyyyMMdd_HHmmss.jfr} (recording continues). */
+    public Path dump(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Path file = dir.resolve("strat25_" + LocalDateTime.now().format(TS) + ".jfr");
+        recording.dump(file);
+        return file;
+    }
+
+    @Override
+    public void close() {
+        recording.close();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** One {@code GameClock} tick on the logic thread (duration = wall time of the tick). */
+@Name("com.example.GameTick")
+@Label("Game Tick")
+@Category({ "Strat25", "Logic" })
+@StackTrace(false)
+public final class GameTickEvent extends jdk.jfr.Event {
+
+    @Label("Game Seconds Advanced")
+    public double gameSeconds;
+
+    @Label("Sub-steps")
+    public int subSteps;
+
+    @Label("Events Fired")
+    @Description("Timed events (prestige, autosave, ...) run during this tick")
+    public int eventsFired;
+
+    @Label("Over Budget")
+    public boolean overBudget;
+
+    @Label("Backlog Seconds")
+    @Description("Game time carried over into the next tick")
+    public double backlogSeconds;
+}
@@ -0,0 +1,22 @@
+package com.example.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/** One input mutation on the logic thread (duration = apply time). */
+@Name("com.example.InputApplied")
+@Label("Input Applied")
+@Category({ "Strat25", "Logic" })
+@StackTrace(false)
+public final class InputAppliedEvent extends jdk.jfr.Event {
+
+    @Label("Input Type")
+    public String inputType;
+
+    @Label("Queue Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    public long queueWait;
+}
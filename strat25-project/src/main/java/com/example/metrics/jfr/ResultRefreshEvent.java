@@ -0,0 +1,34 @@
+package com.example.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A result window on the FX thread: {@code section} is either {@code "refresh"} (a new view arrived,
+ * sections were marked dirty) or the name of the render section that was drawn.
+ */
+@Name("com.example.ResultRefresh")
+@Label("Result Refresh")
+@Category({ "Strat25", "UI" })
+@StackTrace(false)
+public final class ResultRefreshEvent extends jdk.jfr.Event {
+
+    @Label("Window")
+    public String window;
+
+    @Label("Section")
+    public String section;
+
+    @Label("View Version")
+    public long viewVersion;
+
+    @Label("Full Refresh")
+    public boolean full;
+
+    @Label("Invalidated")
+    @Description("Sections marked dirty by this refresh")
+    public String invalidated;
+}
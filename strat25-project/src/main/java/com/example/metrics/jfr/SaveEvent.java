@@ -0,0 +1,28 @@
+package com.example.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** One save or backup file written by the {@code RepositoryService}. */
+@Name("com.example.Save")
+@Label("Save")
+@Category({ "Strat25", "Persistence" })
+@StackTrace(false)
+public final class SaveEvent extends jdk.jfr.Event {
+
+    @Label("Kind")
+    public String kind; // save | backup
+
+    @Label("Name")
+    public String name;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    @Label("Path")
+    public String path;
+}
@@ -0,0 +1,25 @@
+package com.example.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** One {@code GameSyncServer.broadcast} (duration = writing the frame to all clients). */
+@Name("com.example.SyncBroadcast")
+@Label("Sync Broadcast")
+@Category({ "Strat25", "Network" })
+@StackTrace(false)
+public final class SyncBroadcastEvent extends jdk.jfr.Event {
+
+    @Label("Payload")
+    @DataAmount
+    public long payloadBytes;
+
+    @Label("Clients")
+    public int clients;
+
+    @Label("Failures")
+    public int failures;
+}
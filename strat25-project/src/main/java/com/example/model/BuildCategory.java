@@ -130,29 +130,10 @@ public class BuildCategory implements CategoryInterface, Serializable {
     @Override public double getPrestigeMultiplier() { return prestigeMultiplier; }
     @Override public void setPrestigeMultiplier(double prestigeMultiplier) { this.prestigeMultiplier = prestigeMultiplier; }
 
-    /** Optionales statisches Kategorienbild (z. B. für Listen/Icons). */
+    /** Optionales statisches Kategorienbild (z. B. für Listen/Icons). Gecacht im ResourceResolver. */
     @Override
     public Optional<URL> getImageUrl() {
-        if (imageUrlSpec == null || imageUrlSpec.isBlank()) return Optional.empty();
-
-        // 1) Classpath-Ressource (wenn z. B. "/com/example/..." übergeben wurde)
-        try {
-            URL cp = getClass().getResource(imageUrlSpec);
-            if (cp != null) return Optional.of(cp);
-        } catch (Exception ignored) {}
-
-        // 2) Absolute URL (http/https/file etc.)
-        try {
-            return Optional.of(new URL(imageUrlSpec));
-        } catch (Exception ignored) {}
-
-        // 3) Lokaler Dateipfad
-        try {
-            Path p = Path.of(imageUrlSpec);
-            if (Files.exists(p)) return Optional.of(p.toUri().toURL());
-        } catch (Exception ignored) {}
-
-        return Optional.empty();
+        return ResourceResolver.shared().resolveImage(imageUrlSpec);
     }
 
     // --------- Public API ---------
@@ -222,23 +203,12 @@ public class BuildCategory implements CategoryInterface, Serializable {
         }
     }
 
-    /** URL zum Bild der angegebenen Phase (1-basiert), falls vorhanden. */
+    /**
+     * URL zum Bild der angegebenen Phase (1-basiert), falls vorhanden.
+     * Gecacht (auch "nicht gefunden"); neue Dateien im Bilder-Ordner werden per Watch erkannt.
+     */
     public Optional<URL> getPhaseImageUrl(int oneBasedPhase) {
-        // 1) Classpath-Ordner versuchen
-        if (imagesResourceBase != null) {
-            String base = imagesResourceBase.endsWith("/") ? imagesResourceBase : imagesResourceBase + "/";
-            String res = base + oneBasedPhase + ".png";
-            URL url = getClass().getResource(res);
-            if (url != null) return Optional.of(url);
-        }
-        // 2) Dateisystem-Ordner versuchen
-        if (imagesDirPath != null) {
-            try {
-                Path p = imagesDirPath.resolve(oneBasedPhase + ".png");
-                if (Files.exists(p)) return Optional.of(p.toUri().toURL());
-            } catch (Exception ignored) {}
-        }
-        return Optional.empty();
+        return ResourceResolver.shared().resolvePhaseImage(imagesResourceBase, imagesDirPath, oneBasedPhase);
     }
 
     /** URL zum Bild der aktuellen Phase, falls vorhanden. */
@@ -252,8 +222,12 @@ public class BuildCategory implements CategoryInterface, Serializable {
      * falls du im Dateisystem arbeitest.
      */
     public void rebindFilesystemPaths(Path newCsvPath, Path newImagesDirPath) {
+        Path oldImagesDir = this.imagesDirPath;
         this.csvPath = newCsvPath;
         this.imagesDirPath = newImagesDirPath;
+        // gecachte Bild-Lookups beider Ordner verwerfen
+        ResourceResolver.shared().invalidate(oldImagesDir);
+        ResourceResolver.shared().invalidate(newImagesDirPath);
     }
 
     // --------- internals ---------
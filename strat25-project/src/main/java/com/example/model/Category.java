@@ -2,8 +2,6 @@ package com.example.model;
 
 import java.io.Serializable;
 import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
@@ -84,35 +82,10 @@ public class Category implements Serializable, CategoryInterface {
         this.prestigeMultiplier = prestigeMultiplier;
     }
 
-    // Bildauflösung (Classpath -> URL -> Dateipfad)
+    // Bildauflösung (Classpath -> URL -> Dateipfad), gecacht im ResourceResolver
     @Override
     public Optional<URL> getImageUrl() {
-        if (imageUrlSpec == null || imageUrlSpec.isBlank())
-            return Optional.empty();
-
-        // 1) Classpath-Ressource
-        try {
-            URL cp = getClass().getResource(imageUrlSpec);
-            if (cp != null)
-                return Optional.of(cp);
-        } catch (Exception ignored) {
-        }
-
-        // 2) Als absolute URL interpretieren
-        try {
-            return Optional.of(new URL(imageUrlSpec));
-        } catch (Exception ignored) {
-        }
-
-        // 3) Als lokaler Dateipfad interpretieren
-        try {
-            Path p = Path.of(imageUrlSpec);
-            if (Files.exists(p))
-                return Optional.of(p.toUri().toURL());
-        } catch (Exception ignored) {
-        }
-
-        return Optional.empty();
+        return ResourceResolver.shared().resolveImage(imageUrlSpec);
     }
 
     /**
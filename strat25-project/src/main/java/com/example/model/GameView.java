@@ -0,0 +1,194 @@
+package com.example.model;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * GameView
+ * ----------------
+ * Immutable, versioned read snapshot of a {@link Game}.
+ *
+ * Threading:
+ *  - Captured ONLY on the logic thread (see {@link #capture(Game, long)}), after a batch of mutations.
+ *  - Published through a single volatile reference; UI threads read it without locks.
+ *  - Compare {@link #version()} with the last rendered version to skip unchanged frames.
+ *
+ * Nothing in here points back into the mutable model (colors are immutable {@link SerializableColor}s).
+ */
+public final class GameView {
+
+    /** Placeholder before the first publish / while no game is loaded. */
+    public static final GameView EMPTY = new GameView(0L, null, 0.0, 1.0, 1.0,
+            List.of(), List.of(), List.of());
+
+    private final long version;
+    private final String gameName;
+    private final double scaledSeconds;
+    private final double gameSpeed;
+    private final double prestigeMultiplier;
+
+    private final List<FamilyView> families;
+    private final List<TeamView> teams;
+    private final List<CategoryView> categories;
+
+    private final Map<Integer, TeamView> teamById;
+    private final Map<String, CategoryView> categoryByName;
+
+    private GameView(long version, String gameName, double scaledSeconds, double gameSpeed,
+                     double prestigeMultiplier, List<FamilyView> families, List<TeamView> teams,
+                     List<CategoryView> categories) {
+        this.version = version;
+        this.gameName = gameName;
+        this.scaledSeconds = scaledSeconds;
+        this.gameSpeed = gameSpeed;
+        this.prestigeMultiplier = prestigeMultiplier;
+        this.families = families;
+        this.teams = teams;
+        this.categories = categories;
+
+        Map<Integer, TeamView> byId = new HashMap<>();
+        for (TeamView t : teams) byId.put(t.id(), t);
+        this.teamById = Collections.unmodifiableMap(byId);
+
+        Map<String, CategoryView> byName = new LinkedHashMap<>();
+        for (CategoryView c : categories) byName.put(c.name(), c);
+        this.categoryByName = Collections.unmodifiableMap(byName);
+    }
+
+    /**
+     * Copies the current state of the game into a new immutable view.
+     * Must be called on the logic thread (single writer), otherwise the copy may be torn.
+     */
+    public static GameView capture(Game game, long version) {
+        if (game == null) return new GameView(version, null, 0.0, 1.0, 1.0, List.of(), List.of(), List.of());
+
+        GameTime gt = game.getGameTime();
+        double seconds = gt != null ? gt.getScaledSeconds() : 0.0;
+        double speed = gt != null ? gt.getGameSpeed() : 1.0;
+
+        List<FamilyView> families = new ArrayList<>();
+        List<TeamView> teams = new ArrayList<>();
+        if (game.getFamilies() != null) {
+            for (Family f : game.getFamilies()) {
+                if (f == null) continue;
+                List<TeamView> famTeams = new ArrayList<>();
+                double sum = 0.0;
+                if (f.getTeams() != null) {
+                    for (Team t : f.getTeams()) {
+                        if (t == null || t.getId() == null) continue;
+                        TeamView tv = new TeamView(t.getId(), t.getName(), t.getColor(), f.getName(), t.getPrestige());
+                        famTeams.add(tv);
+                        teams.add(tv);
+                        sum += tv.prestige();
+                    }
+                }
+                families.add(new FamilyView(f.getName(), f.getColor(), List.copyOf(famTeams), sum));
+            }
+        }
+
+        List<CategoryView> categories = new ArrayList<>();
+        if (game.getCategories() != null) {
+            for (CategoryInterface ci : game.getCategories()) {
+                if (ci == null || ci.getName() == null) continue;
+                Map<Integer, Double> infl = new HashMap<>();
+                double total = 0.0;
+                if (ci.getInfluenceMap() != null) {
+                    for (Map.Entry<Integer, Double> e : ci.getInfluenceMap().entrySet()) {
+                        double v = e.getValue() == null ? 0.0 : e.getValue();
+                        infl.put(e.getKey(), v);
+                        total += v;
+                    }
+                }
+                BuildView build = null;
+                if (ci instanceof BuildCategory bc) {
+                    int phase = bc.getConstructionPhase();
+                    String phaseImage = phase > 0 ? urlOf(bc.getPhaseImageUrl(phase)) : null;
+                    build = new BuildView(bc.getDisplayName(), phase, bc.getCurrentPhaseTitle(),
+                            copyMaterials(bc.getNeededMaterials()), copyMaterials(bc.getPayedMaterials()), phaseImage);
+                }
+                // URLs are memoized by ResourceResolver, so this stays cheap per publish
+                categories.add(new CategoryView(ci.getName(), ci.getPrestigeMultiplier(),
+                        Collections.unmodifiableMap(infl), total, urlOf(ci.getImageUrl()), build));
+            }
+        }
+
+        return new GameView(version, game.getName(), seconds, speed, game.getPrestigeMultiplier(),
+                List.copyOf(families), List.copyOf(teams), List.copyOf(categories));
+    }
+
+    private static String urlOf(Optional<URL> url) {
+        return url != null && url.isPresent() ? url.get().toExternalForm() : null;
+    }
+
+    private static Map<Material, Integer> copyMaterials(Map<Material, Integer> src) {
+        Map<Material, Integer> copy = new EnumMap<>(Material.class);
+        if (src != null) copy.putAll(src);
+        return Collections.unmodifiableMap(copy);
+    }
+
+    // ---------- accessors ----------------------------------------------------
+
+    /** Monotonic publish counter; equal versions mean equal content. */
+    public long version() { return version; }
+
+    /** Null if no game was loaded when the view was captured. */
+    public String gameName() { return gameName; }
+
+    public boolean hasGame() { return gameName != null; }
+
+    public double scaledSeconds() { return scaledSeconds; }
+
+    public double gameSpeed() { return gameSpeed; }
+
+    public double prestigeMultiplier() { return prestigeMultiplier; }
+
+    public List<FamilyView> families() { return families; }
+
+    /** All teams in family order. */
+    public List<TeamView> teams() { return teams; }
+
+    /** All categories in game order (build categories included). */
+    public List<CategoryView> categories() { return categories; }
+
+    public TeamView team(int id) { return teamById.get(id); }
+
+    public Map<Integer, TeamView> teamById() { return teamById; }
+
+    public CategoryView category(String name) { return name == null ? null : categoryByName.get(name); }
+
+    // ---------- nested views -------------------------------------------------
+
+    public record TeamView(int id, String name, SerializableColor color, String familyName, double prestige) { }
+
+    public record FamilyView(String name, SerializableColor color, List<TeamView> teams, double prestigeSum) { }
+
+    /** {@code imageUrl}: resolved category image (or null); {@code build} is null for plain categories. */
+    public record CategoryView(String name, double prestigeMultiplier, Map<Integer, Double> influence,
+                               double totalInfluence, String imageUrl, BuildView build) {
+
+        public double influenceOf(int teamId) {
+            Double v = influence.get(teamId);
+            return v == null ? 0.0 : v;
+        }
+
+        public boolean isBuild() { return build != null; }
+    }
+
+    /** {@code phaseImageUrl}: resolved image of the current phase (or null). */
+    public record BuildView(String displayName, int constructionPhase, String phaseTitle,
+                            Map<Material, Integer> needed, Map<Material, Integer> payed, String phaseImageUrl) {
+
+        public int neededOf(Material m) { return needed.getOrDefault(m, 0); }
+
+        public int payedOf(Material m) { return payed.getOrDefault(m, 0); }
+
+        public int freeOf(Material m) { return Math.max(neededOf(m) - payedOf(m), 0); }
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.model;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ResourceResolver
+ * ----------------
+ * Memoizes the image lookups of the categories (classpath -> URL -> file system).
+ *
+ * - Results are cached per spec, negative results ("not found") included,
+ *   so the result window does not probe the classpath and the disk again for every refresh.
+ * - Directories that take part in a lookup are watched (WatchService, daemon thread):
+ *   when a file is created, changed or deleted there, all lookups of that directory are dropped,
+ *   so newly dropped phase images show up without polling. A directory that does not exist yet is
+ *   covered by watching its nearest existing ancestor (creating the folder drops the lookup).
+ *   A hit is watched in the directory of its {@code file:} URL (e.g. a classpath image under
+ *   target/classes); hits in a jar or on the web are not watched, nor is a file-system root.
+ * - A lookup that races with an invalidation is not cached (invalidation epoch), so a stale result
+ *   never overwrites a drop.
+ * - {@link #invalidate(Path)} / {@link #invalidateAll()} for explicit invalidation
+ *   (e.g. {@link BuildCategory#rebindFilesystemPaths(Path, Path)}).
+ *
+ * Lives outside the serialized model (static, nothing in here is persisted).
+ */
+public final class ResourceResolver {
+
+    private static final ResourceResolver SHARED = new ResourceResolver();
+
+    public static ResourceResolver shared() { return SHARED; }
+
+    private final Map<String, Optional<URL>> cache = new ConcurrentHashMap<>();
+    /** Directory -> cache keys that depend on it. */
+    private final Map<Path, Set<String>> keysByDir = new ConcurrentHashMap<>();
+    private final Map<Path, WatchKey> watched = new ConcurrentHashMap<>();
+
+    /** Bumped by every invalidation; lookups that saw another epoch do not keep their result. */
+    private final AtomicLong epoch = new AtomicLong();
+
+    private volatile WatchService watcher;
+    private volatile boolean watchUnavailable;
+
+    ResourceResolver() { }
+
+    // ---------- lookups ------------------------------------------------------
+
+    /** Image spec of a category: classpath resource, absolute URL or file path. */
+    public Optional<URL> resolveImage(String spec) {
+        if (spec == null || spec.isBlank()) return Optional.empty();
+        String key = "img|" + spec;
+        Optional<URL> hit = cache.get(key);
+        if (hit != null) return hit;
+
+        long seen = epoch.get();
+        Optional<URL> url = probeImage(spec);
+        // files (or what could become one) are watched so later changes invalidate the entry
+        Path dir = url.isPresent() ? directoryOf(url.get()) : parentDirOf(spec);
+        if (dir != null) {
+            track(dir, key);
+            url = probeImage(spec); // again, now that the watch is in place (no gap for a new file)
+        }
+        return remember(key, url, seen);
+    }
+
+    /** Phase image {@code <phase>.png}: classpath folder first, then the file-system folder. */
+    public Optional<URL> resolvePhaseImage(String resourceBase, Path dir, int oneBasedPhase) {
+        String key = "phase|" + resourceBase + "|" + dir + "|" + oneBasedPhase;
+        Optional<URL> hit = cache.get(key);
+        if (hit != null) return hit;
+
+        long seen = epoch.get();
+        if (dir != null) track(dir, key); // watch first: a file created during the probe still invalidates
+        Optional<URL> url = probePhaseImage(resourceBase, dir, oneBasedPhase);
+        return remember(key, url, seen);
+    }
+
+    /**
+     * Caches the probe result unless an invalidation ran since {@code seen}. Put first, check after:
+     * an invalidation either bumped the epoch before the check (entry removed here) or removes the
+     * entry itself afterwards (the key is already tracked).
+     */
+    private Optional<URL> remember(String key, Optional<URL> url, long seen) {
+        cache.put(key, url);
+        if (epoch.get() != seen) cache.remove(key, url);
+        return url;
+    }
+
+    // ---------- invalidation -------------------------------------------------
+
+    /** Drops all lookups that depend on the given directory. */
+    public void invalidate(Path dir) {
+        if (dir == null) return;
+        epoch.incrementAndGet();
+        Set<String> keys = keysByDir.remove(normalize(dir));
+        if (keys != null) keys.forEach(cache::remove);
+    }
+
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+        cache.clear();
+        keysByDir.clear();
+    }
+
+    /** Number of memoized lookups (positive and negative). */
+    public int size() { return cache.size(); }
+
+    // ---------- probes (old logic of Category / BuildCategory) ----------------
+
+    private static Optional<URL> probeImage(String spec) {
+        // 1) Classpath-Ressource
+        try {
+            URL cp = ResourceResolver.class.getResource(spec);
+            if (cp != null) return Optional.of(cp);
+        } catch (Exception ignored) {}
+
+        // 2) Absolute URL (http/https/file etc.)
+        try {
+            return Optional.of(URI.create(spec).toURL());
+        } catch (Exception ignored) {}
+
+        // 3) Lokaler Dateipfad
+        try {
+            Path p = Path.of(spec);
+            if (Files.exists(p)) return Optional.of(p.toUri().toURL());
+        } catch (Exception ignored) {}
+
+        return Optional.empty();
+    }
+
+    private static Optional<URL> probePhaseImage(String resourceBase, Path dir, int oneBasedPhase) {
+        // 1) Classpath-Ordner versuchen
+        if (resourceBase != null) {
+            String base = resourceBase.endsWith("/") ? resourceBase : resourceBase + "/";
+            URL url = ResourceResolver.class.getResource(base + oneBasedPhase + ".png");
+            if (url != null) return Optional.of(url);
+        }
+        // 2) Dateisystem-Ordner versuchen
+        if (dir != null) {
+            try {
+                Path p = dir.resolve(oneBasedPhase + ".png");
+                if (Files.exists(p)) return Optional.of(p.toUri().toURL());
+            } catch (Exception ignored) {}
+        }
+        return Optional.empty();
+    }
+
+    /** Directory of a {@code file:} URL; null for jar/http URLs (nothing to watch). */
+    private static Path directoryOf(URL url) {
+        if (!"file".equals(url.getProtocol())) return null;
+        try {
+            return Path.of(url.toURI()).getParent();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static Path parentDirOf(String spec) {
+        try {
+            return Path.of(spec).toAbsolutePath().getParent(); // may not exist yet (watched via ancestor)
+        } catch (Exception e) {
+            return null; // not a file path (e.g. "https://...")
+        }
+    }
+
+    // ---------- file-system watch --------------------------------------------
+
+    private void track(Path dir, String key) {
+        Path d = normalize(dir);
+        keysByDir.computeIfAbsent(d, x -> ConcurrentHashMap.newKeySet()).add(key);
+        Path watchedDir = nearestExisting(d);
+        // never the root: a classpath spec like "/com/example/x.png" is no file path there
+        if (watchedDir == null || watchedDir.getParent() == null) return;
+        if (!watchedDir.equals(d)) {
+            // folder missing: an event in the ancestor (e.g. the folder being created) drops the lookup
+            keysByDir.computeIfAbsent(watchedDir, x -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+        watch(watchedDir);
+    }
+
+    private static Path nearestExisting(Path dir) {
+        Path p = dir;
+        while (p != null && !Files.isDirectory(p)) p = p.getParent();
+        return p;
+    }
+
+    private void watch(Path dir) {
+        if (watchUnavailable || watched.containsKey(dir) || !Files.isDirectory(dir)) return;
+        try {
+            WatchService ws = watcher();
+            watched.computeIfAbsent(dir, d -> {
+                try {
+                    return d.register(ws, StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } catch (Exception e) {
+            // without a watch the negative entries stay until invalidate()/invalidateAll()
+            System.err.println("Resource watch not available for " + dir + ": " + e.getMessage());
+        }
+    }
+
+    /** Directories currently watched (tests). */
+    Set<Path> watchedDirs() { return Set.copyOf(watched.keySet()); }
+
+    private synchronized WatchService watcher() throws IOException {
+        if (watcher == null) {
+            try {
+                watcher = FileSystems.getDefault().newWatchService();
+            } catch (IOException | UnsupportedOperationException e) {
+                watchUnavailable = true;
+                throw e instanceof IOException io ? io : new IOException(e);
+            }
+            Thread t = new Thread(this::watchLoop, "resource-watch");
+            t.setDaemon(true);
+            t.start();
+        }
+        return watcher;
+    }
+
+    private void watchLoop() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watcher.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            key.pollEvents(); // which file changed does not matter: the whole directory is re-probed
+            if (key.watchable() instanceof Path dir) invalidate(dir);
+            if (!key.reset() && key.watchable() instanceof Path dir) watched.remove(normalize(dir));
+        }
+    }
+
+    private static Path normalize(Path dir) {
+        return dir.toAbsolutePath().normalize();
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.net;
+
+import com.example.model.GameView;
+import com.example.model.GameView.BuildView;
+import com.example.model.GameView.CategoryView;
+import com.example.model.GameView.TeamView;
+import com.example.model.Material;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * BoardJson
+ * ----------------
+ * Compact JSON for the spectator board (see {@link ResultBoardServer}), written by hand (no JSON library).
+ *
+ * Full state ({@code "full":true}):
+ * <pre>
+ * {"v":12,"full":true,"game":"..","t":61.5,
+ *  "teams":[{"id":1,"n":"..","f":"..","c":"#rrggbb","p":12.5}, ...],
+ *  "cats":[{"n":"..","i":{"1":3.25},"b":{"d":"..","ph":2,"pt":"..","need":{"WOOD":4},"pay":{"WOOD":1}}}, ...]}
+ * </pre>
+ * Delta (only what differs from the base view the client already has):
+ * <pre>
+ * {"v":13,"t":62.5,"p":{"1":12.75},"i":{"Militär":{"1":3.5}},"b":{"Tempel":{...}}}
+ * </pre>
+ * Numbers are rounded to 2 decimals (what the boards show).
+ */
+final class BoardJson {
+
+    private BoardJson() { }
+
+    /** Full state if {@code base} is null or has another structure, otherwise the delta base -> view. */
+    static String encode(GameView base, GameView view) {
+        if (base == null || !sameStructure(base, view)) return full(view);
+        return delta(base, view);
+    }
+
+    static String full(GameView view) {
+        StringBuilder sb = new StringBuilder(1024);
+        sb.append("{\"v\":").append(view.version()).append(",\"full\":true,\"game\":");
+        str(sb, view.gameName());
+        sb.append(",\"t\":");
+        num(sb, view.scaledSeconds());
+
+        sb.append(",\"teams\":[");
+        boolean first = true;
+        for (TeamView t : view.teams()) {
+            if (!first) sb.append(',');
+            first = false;
+            sb.append("{\"id\":").append(t.id()).append(",\"n\":");
+            str(sb, t.name());
+            sb.append(",\"f\":");
+            str(sb, t.familyName());
+            sb.append(",\"c\":");
+            str(sb, t.color() != null ? t.color().toHexRgb() : null);
+            sb.append(",\"p\":");
+            num(sb, t.prestige());
+            sb.append('}');
+        }
+
+        sb.append("],\"cats\":[");
+        first = true;
+        for (CategoryView c : view.categories()) {
+            if (!first) sb.append(',');
+            first = false;
+            sb.append("{\"n\":");
+            str(sb, c.name());
+            sb.append(",\"i\":");
+            influence(sb, view.teams(), c, null);
+            if (c.isBuild()) {
+                sb.append(",\"b\":");
+                build(sb, c.build());
+            }
+            sb.append('}');
+        }
+        return sb.append("]}").toString();
+    }
+
+    static String delta(GameView base, GameView view) {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("{\"v\":").append(view.version());
+        if (differs(base.scaledSeconds(), view.scaledSeconds())) {
+            sb.append(",\"t\":");
+            num(sb, view.scaledSeconds());
+        }
+
+        int mark = sb.length();
+        sb.append(",\"p\":{");
+        boolean any = false;
+        for (TeamView t : view.teams()) {
+            TeamView old = base.team(t.id());
+            if (old != null && !differs(old.prestige(), t.prestige())) continue;
+            if (any) sb.append(',');
+            any = true;
+            sb.append('"').append(t.id()).append("\":");
+            num(sb, t.prestige());
+        }
+        if (any) sb.append('}');
+        else sb.setLength(mark);
+
+        mark = sb.length();
+        sb.append(",\"i\":{");
+        any = false;
+        for (CategoryView c : view.categories()) {
+            CategoryView old = base.category(c.name());
+            int before = sb.length();
+            if (any) sb.append(',');
+            str(sb, c.name());
+            sb.append(':');
+            if (influence(sb, view.teams(), c, old)) any = true;
+            else sb.setLength(before);
+        }
+        if (any) sb.append('}');
+        else sb.setLength(mark);
+
+        mark = sb.length();
+        sb.append(",\"b\":{");
+        any = false;
+        for (CategoryView c : view.categories()) {
+            if (!c.isBuild()) continue;
+            CategoryView old = base.category(c.name());
+            if (old != null && Objects.equals(old.build(), c.build())) continue;
+            if (any) sb.append(',');
+            any = true;
+            str(sb, c.name());
+            sb.append(':');
+            build(sb, c.build());
+        }
+        if (any) sb.append('}');
+        else sb.setLength(mark);
+
+        return sb.append('}').toString();
+    }
+
+    // ---------- parts --------------------------------------------------------
+
+    /**
+     * Influence per team id; with a {@code base} only the entries that changed.
+     * @return false if nothing was written (only possible with a base)
+     */
+    private static boolean influence(StringBuilder sb, List<TeamView> teams, CategoryView c, CategoryView base) {
+        sb.append('{');
+        boolean any = false;
+        for (TeamView t : teams) {
+            double v = c.influenceOf(t.id());
+            if (base != null ? !differs(base.influenceOf(t.id()), v) : v == 0.0) continue;
+            if (any) sb.append(',');
+            any = true;
+            sb.append('"').append(t.id()).append("\":");
+            num(sb, v);
+        }
+        sb.append('}');
+        return base == null || any;
+    }
+
+    private static void build(StringBuilder sb, BuildView b) {
+        sb.append("{\"d\":");
+        str(sb, b.displayName());
+        sb.append(",\"ph\":").append(b.constructionPhase()).append(",\"pt\":");
+        str(sb, b.phaseTitle());
+        sb.append(",\"need\":");
+        materials(sb, b.needed());
+        sb.append(",\"pay\":");
+        materials(sb, b.payed());
+        sb.append('}');
+    }
+
+    private static void materials(StringBuilder sb, Map<Material, Integer> m) {
+        sb.append('{');
+        boolean first = true;
+        for (Map.Entry<Material, Integer> e : m.entrySet()) {
+            if (e.getValue() == null || e.getValue() == 0) continue;
+            if (!first) sb.append(',');
+            first = false;
+            sb.append('"').append(e.getKey().name()).append("\":").append(e.getValue().intValue());
+        }
+        sb.append('}');
+    }
+
+    // ---------- helpers ------------------------------------------------------
+
+    /** Same game, same teams (ids, names, colors) and same categories in the same order. */
+    static boolean sameStructure(GameView a, GameView b) {
+        if (!Objects.equals(a.gameName(), b.gameName())) return false;
+        List<TeamView> ta = a.teams(), tb = b.teams();
+        if (ta.size() != tb.size()) return false;
+        for (int i = 0; i < ta.size(); i++) {
+            TeamView x = ta.get(i), y = tb.get(i);
+            if (x.id() != y.id() || !Objects.equals(x.name(), y.name())
+                    || !Objects.equals(x.color(), y.color())
+                    || !Objects.equals(x.familyName(), y.familyName())) return false;
+        }
+        List<CategoryView> ca = a.categories(), cb = b.categories();
+        if (ca.size() != cb.size()) return false;
+        for (int i = 0; i < ca.size(); i++) {
+            if (!Objects.equals(ca.get(i).name(), cb.get(i).name())
+                    || ca.get(i).isBuild() != cb.get(i).isBuild()) return false;
+        }
+        return true;
+    }
+
+    /** Differs in what is displayed (2 decimals). */
+    private static boolean differs(double a, double b) {
+        return Math.round(a * 100.0) != Math.round(b * 100.0);
+    }
+
+    private static void num(StringBuilder sb, double v) {
+        if (!Double.isFinite(v)) {
+            sb.append('0');
+            return;
+        }
+        long cents = Math.round(v * 100.0);
+        if (cents < 0) {
+            sb.append('-');
+            cents = -cents;
+        }
+        sb.append(cents / 100);
+        long frac = cents % 100;
+        if (frac != 0) {
+            sb.append('.');
+            if (frac < 10) sb.append('0');
+            if (frac % 10 == 0) sb.append(frac / 10);
+            else sb.append(frac);
+        }
+    }
+
+    private static void str(StringBuilder sb, String s) {
+        if (s == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            switch (ch) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (ch < 0x20) sb.append(String.format("\\u%04x", (int) ch));
+                    else sb.append(ch);
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
@@ -1,11 +1,12 @@
 package com.example.net;
 
+import com.example.metrics.jfr.SyncBroadcastEvent;
+
 import java.io.Closeable;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.Socket;
-import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
@@ -59,20 +60,33 @@ public class GameSyncServer implements AutoCloseable {
         }
     }
 
-    /** Schickt einen Frame an alle Clients, entfernt tote Verbindungen. */
+    /**
+     * Schickt einen Frame an alle Clients, entfernt tote Verbindungen (JFR: {@link SyncBroadcastEvent}).
+     * Der Iterator der CopyOnWriteArrayList kann nicht entfernen -> direkt über die Liste.
+     */
     public void broadcast(byte[] payload) {
-        Iterator<Client> it = clients.iterator();
-        while (it.hasNext()) {
-            Client c = it.next();
+        SyncBroadcastEvent jfr = new SyncBroadcastEvent();
+        jfr.begin();
+        int sent = 0, failed = 0;
+        for (Client c : clients) {
+            sent++;
             try {
                 c.out.writeInt(payload.length);
                 c.out.write(payload);
                 c.out.flush();
             } catch (IOException e) {
+                failed++;
                 c.close();
-                it.remove();
+                clients.remove(c);
             }
         }
+        jfr.end();
+        if (jfr.shouldCommit()) {
+            jfr.payloadBytes = payload.length;
+            jfr.clients = sent;
+            jfr.failures = failed;
+            jfr.commit();
+        }
     }
 
     private void closeClients() {
@@ -3,9 +3,13 @@ package com.example.net;
 import com.example.service.GameService;
 
 import java.io.*;
+import java.net.InetAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class NetInputServer implements AutoCloseable {
 
@@ -24,7 +28,15 @@ public class NetInputServer implements AutoCloseable {
     });
 
     private volatile boolean running;
-    private ServerSocket server;
+    private volatile ServerSocket server;
+
+    // Stats: Slaves verbinden sich meist pro Nachricht neu -> "verbunden" = offen oder kürzlich gesehen
+    private static final long SLAVE_SEEN_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private final Map<InetAddress, Long> lastSeen = new ConcurrentHashMap<>();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final AtomicLong messages = new AtomicLong();
+    private final AtomicLong bytesIn = new AtomicLong();
+    private final AtomicLong bytesOut = new AtomicLong();
 
     public NetInputServer(int port, GameService gameService) {
         this.port = port;
@@ -37,6 +49,12 @@ public class NetInputServer implements AutoCloseable {
         acceptor.submit(this::run);
     }
 
+    /** Bound port (useful with port 0 = any free port), -1 until the server socket is bound. */
+    public int getLocalPort() {
+        ServerSocket srv = server;
+        return srv != null ? srv.getLocalPort() : -1;
+    }
+
     private void run() {
         try (ServerSocket srv = new ServerSocket(port)) {
             this.server = srv;
@@ -54,27 +72,50 @@ public class NetInputServer implements AutoCloseable {
     }
 
     private void handleClient(Socket s) {
+        InetAddress remote = s.getInetAddress();
+        lastSeen.put(remote, System.nanoTime());
+        openConnections.incrementAndGet();
         try (s;
              BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream()));
              BufferedWriter out = new BufferedWriter(new OutputStreamWriter(s.getOutputStream()))) {
 
             String line;
             while ((line = in.readLine()) != null) {
+                lastSeen.put(remote, System.nanoTime());
+                messages.incrementAndGet();
+                bytesIn.addAndGet(line.length() + 1);
+                String reply;
                 try {
                     InputMessage msg = InputMessage.decodeLine(line);
                     gameService.applyInputMessage(msg); // delegiert auf Logic-Thread
                     // optional ack:
-                    out.write("OK\n");
-                    out.flush();
+                    reply = "OK\n";
                 } catch (Exception ex) {
-                    out.write("ERR " + ex.getMessage() + "\n");
-                    out.flush();
+                    reply = "ERR " + ex.getMessage() + "\n";
                 }
+                out.write(reply);
+                out.flush();
+                bytesOut.addAndGet(reply.length());
             }
         } catch (IOException ignored) {
+        } finally {
+            lastSeen.put(remote, System.nanoTime());
+            openConnections.decrementAndGet();
         }
     }
 
+    // ---------- stats --------------------------------------------------------
+
+    /** Counters since start; bytes are line characters (ASCII protocol, so ~ bytes on the wire). */
+    public Stats stats() {
+        long now = System.nanoTime();
+        lastSeen.values().removeIf(t -> now - t > SLAVE_SEEN_NANOS);
+        return new Stats(openConnections.get(), lastSeen.size(), messages.get(), bytesIn.get(), bytesOut.get());
+    }
+
+    /** {@code slaves}: distinct remote hosts that connected or sent something in the last 30 s. */
+    public record Stats(int openConnections, int slaves, long messages, long bytesIn, long bytesOut) { }
+
     @Override
     public void close() {
         running = false;
@@ -0,0 +1,254 @@
+package com.example.net;
+
+import com.example.event.GameChangeListener;
+import com.example.event.GameChangeSet;
+import com.example.model.GameView;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ResultBoardServer
+ * ----------------
+ * Small HTTP server on the host for spectators (phones, browsers):
+ *  - {@code GET /}       : static board page (listens to /events)
+ *  - {@code GET /events} : Server-Sent-Events stream, first a full state, then compact deltas (see {@link BoardJson})
+ *  - {@code GET /state}  : full state as JSON (one shot)
+ *
+ * Threading / memory:
+ *  - Fed as a logic-thread {@link GameChangeListener}: it only stores the new {@link GameView}
+ *    (one volatile write) and wakes ONE dispatcher thread, whatever the number of viewers; no I/O on
+ *    the logic thread. The dispatcher wakes only streams that are idle and waiting for new data;
+ *    streams inside their coalescing window pick the new view up when the window ends.
+ *  - One virtual thread per viewer. A viewer always gets the delta from the view it was sent last
+ *    to the newest one: changes in between are coalesced, a slow viewer never queues anything up.
+ *    Memory per viewer = one reference to a shared snapshot.
+ *  - Viewers on the same base version share the encoded delta (small cache per target version).
+ *  - At most {@code maxClients} streams; more get 503.
+ */
+public class ResultBoardServer implements GameChangeListener, AutoCloseable {
+
+    private static final String PAGE = "/com/example/web/board.html";
+    private static final long KEEP_ALIVE_NANOS = TimeUnit.SECONDS.toNanos(15);
+
+    private final int port;
+    private final int maxClients;
+    private final long minIntervalNanos;
+
+    private volatile GameView latest = GameView.EMPTY;
+    private volatile boolean running;
+    private HttpServer server;
+    private ExecutorService executor;
+    private byte[] page;
+
+    private final Set<Thread> streams = ConcurrentHashMap.newKeySet();
+    /** Streams parked until a new view arrives (subset of {@link #streams}). */
+    private final Set<Thread> waiting = ConcurrentHashMap.newKeySet();
+    private volatile Thread dispatcher;
+    private final AtomicInteger clientCount = new AtomicInteger();
+    private final Map<DeltaKey, String> deltas = new ConcurrentHashMap<>();
+    private final AtomicLong eventsSent = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private record DeltaKey(long from, long to) { }
+
+    public ResultBoardServer(int port) {
+        this(port, 500, 250);
+    }
+
+    /**
+     * @param maxClients      maximum concurrent event streams
+     * @param minIntervalMillis minimum time between two events of one viewer (coalescing window)
+     */
+    public ResultBoardServer(int port, int maxClients, long minIntervalMillis) {
+        this.port = port;
+        this.maxClients = maxClients;
+        this.minIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minIntervalMillis);
+    }
+
+    public synchronized void start() throws IOException {
+        if (running) return;
+        page = loadPage();
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handlePage);
+        server.createContext("/events", this::handleEvents);
+        server.createContext("/state", this::handleState);
+        running = true;
+        Thread d = new Thread(this::dispatchLoop, "ResultBoardServer-dispatch");
+        d.setDaemon(true);
+        dispatcher = d;
+        d.start();
+        server.start();
+    }
+
+    /** Actual port (useful with port 0). */
+    public int getPort() {
+        HttpServer s = server;
+        return s != null ? s.getAddress().getPort() : port;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!running) return;
+        running = false;
+        LockSupport.unpark(dispatcher);
+        for (Thread t : streams) LockSupport.unpark(t);
+        server.stop(0);
+        executor.shutdownNow();
+        deltas.clear();
+    }
+
+    // ---------- feed (logic thread) ------------------------------------------
+
+    @Override
+    public void onGameChanged(GameView view, GameChangeSet changes) {
+        if (view.version() < latest.version()) return; // initial feed raced with a newer publish
+        latest = view;
+        LockSupport.unpark(dispatcher); // O(1) for the logic thread; fan-out happens on the dispatcher
+    }
+
+    /** Wakes the waiting streams after each publish (coalesced: one pass per wake-up). */
+    private void dispatchLoop() {
+        while (running) {
+            LockSupport.park(this);
+            for (Thread t : waiting) {
+                if (waiting.remove(t)) LockSupport.unpark(t);
+            }
+        }
+    }
+
+    // ---------- handlers -----------------------------------------------------
+
+    private void handlePage(HttpExchange ex) throws IOException {
+        try (ex) {
+            if (!"/".equals(ex.getRequestURI().getPath()) && !"/index.html".equals(ex.getRequestURI().getPath())) {
+                ex.sendResponseHeaders(404, -1);
+                return;
+            }
+            ex.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            ex.sendResponseHeaders(200, page.length);
+            ex.getResponseBody().write(page);
+        }
+    }
+
+    private void handleState(HttpExchange ex) throws IOException {
+        try (ex) {
+            byte[] body = BoardJson.full(latest).getBytes(StandardCharsets.UTF_8);
+            ex.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            ex.getResponseHeaders().set("Cache-Control", "no-cache");
+            ex.sendResponseHeaders(200, body.length);
+            ex.getResponseBody().write(body);
+        }
+    }
+
+    private void handleEvents(HttpExchange ex) throws IOException {
+        try (ex) {
+            if (clientCount.incrementAndGet() > maxClients) {
+                clientCount.decrementAndGet();
+                rejected.incrementAndGet();
+                ex.sendResponseHeaders(503, -1);
+                return;
+            }
+            Thread self = Thread.currentThread();
+            streams.add(self);
+            try {
+                ex.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+                ex.getResponseHeaders().set("Cache-Control", "no-cache");
+                ex.sendResponseHeaders(200, 0);
+                stream(ex.getResponseBody());
+            } catch (IOException gone) {
+                // Zuschauer weg: nichts zu tun
+            } finally {
+                streams.remove(self);
+                waiting.remove(self);
+                clientCount.decrementAndGet();
+            }
+        }
+    }
+
+    /** Event loop of one viewer (its own virtual thread). */
+    private void stream(OutputStream out) throws IOException {
+        write(out, "retry: 3000\n\n");
+        GameView sent = null;
+        long lastWrite = System.nanoTime();
+        while (running) {
+            GameView view = latest;
+            if (sent == null || view.version() != sent.version()) {
+                String json = encode(sent, view);
+                write(out, "id: " + view.version() + "\ndata: " + json + "\n\n");
+                eventsSent.incrementAndGet();
+                sent = view;
+                lastWrite = System.nanoTime();
+                // coalescing window: everything published meanwhile goes into ONE delta
+                while (running && System.nanoTime() - lastWrite < minIntervalNanos) {
+                    LockSupport.parkNanos(minIntervalNanos - (System.nanoTime() - lastWrite));
+                }
+                continue;
+            }
+            long idle = System.nanoTime() - lastWrite;
+            if (idle >= KEEP_ALIVE_NANOS) {
+                write(out, ": ka\n\n"); // hält Proxies/Mobilfunk offen, erkennt tote Verbindungen
+                lastWrite = System.nanoTime();
+                continue;
+            }
+            // register first, then re-check: a publish in between still wakes us (unpark before park)
+            Thread self = Thread.currentThread();
+            waiting.add(self);
+            if (latest.version() != sent.version()) {
+                waiting.remove(self);
+                continue;
+            }
+            LockSupport.parkNanos(KEEP_ALIVE_NANOS - idle); // woken by the dispatcher / close
+            waiting.remove(self);
+        }
+    }
+
+    private void write(OutputStream out, String s) throws IOException {
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        out.write(b);
+        out.flush();
+        bytesSent.addAndGet(b.length);
+    }
+
+    /** Delta base -> view, shared by all viewers with the same base. */
+    private String encode(GameView base, GameView view) {
+        if (base == null || !BoardJson.sameStructure(base, view)) {
+            return deltas.computeIfAbsent(new DeltaKey(-1L, view.version()), k -> BoardJson.full(view));
+        }
+        if (deltas.size() > 256) deltas.keySet().removeIf(k -> k.to() != view.version());
+        return deltas.computeIfAbsent(new DeltaKey(base.version(), view.version()),
+                k -> BoardJson.delta(base, view));
+    }
+
+    private static byte[] loadPage() throws IOException {
+        try (InputStream in = ResultBoardServer.class.getResourceAsStream(PAGE)) {
+            if (in == null) throw new IOException("Missing resource " + PAGE);
+            return in.readAllBytes();
+        }
+    }
+
+    // ---------- stats --------------------------------------------------------
+
+    public Stats stats() {
+        return new Stats(clientCount.get(), eventsSent.get(), bytesSent.get(), rejected.get());
+    }
+
+    public record Stats(int viewers, long eventsSent, long bytesSent, long rejected) { }
+}
@@ -0,0 +1,538 @@
+package com.example.net.load;
+
+import com.example.metrics.LatencyHistogram;
+import com.example.model.BuildCategory;
+import com.example.model.CategoryInterface;
+import com.example.model.Family;
+import com.example.model.Game;
+import com.example.model.Material;
+import com.example.model.Team;
+import com.example.net.InputMessage;
+import com.example.net.InputType;
+import com.example.net.NetInputServer;
+import com.example.service.GameFactoryService;
+import com.example.service.GameService;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+/**
+ * InputLoadGenerator
+ * ----------------
+ * End-to-end load test for {@link NetInputServer} + {@link GameService#applyInputMessage(InputMessage)}:
+ * how many slave inputs per second can the host take, and how late are they?
+ *
+ * - N simulated slaves on virtual threads send a weighted mix of {@link InputType}s at a fixed
+ *   total rate (open loop: a late answer does not delay the next send). Sending and waiting for the
+ *   answer are separate: per-message connections run as their own task, persistent connections
+ *   pipeline their lines and read the answers on a reader thread.
+ * - Latencies are measured from the INTENDED send time (no coordinated omission):
+ *   {@code ack} = until the {@code OK} line, {@code applied} = until the mutation ran on the logic thread.
+ * - By default a local host is started in-process (any free port, fresh game); with {@code --host}
+ *   an external host is targeted (then only ack latencies).
+ * - Connections: {@code per-message} like {@link com.example.net.NetInputClient} (connect, send, ack, close)
+ *   or {@code persistent} (one connection per slave).
+ *
+ * The applied time is taken by one extra task per message, posted right behind the mutation on the
+ * same (FIFO) INPUT lane: the local host therefore carries twice the logic tasks of a real evening.
+ *
+ * Run:
+ * {@code mvn -q compile exec:java -Dexec.mainClass=com.example.net.load.InputLoadGenerator
+ *  -Dexec.args="--clients 50 --rate 2000 --duration 30 --warmup 5 --mix TEAM_PRESTIGE_DELTA=5,MATERIAL_ADD=3"}
+ */
+public final class InputLoadGenerator {
+
+    public enum ConnectMode { PER_MESSAGE, PERSISTENT }
+
+    /**
+     * @param host       null = start a local host in-process
+     * @param port       target port (local host: 0 = any free port)
+     * @param rate       total messages per second over all clients
+     * @param mix        relative weights per input type
+     * @param runClock   local host: let the game clock tick during the run (ticks compete with inputs)
+     */
+    public record Options(String host, int port, int clients, double rate, Duration duration, Duration warmup,
+                          Map<InputType, Integer> mix, ConnectMode connect, boolean runClock, long seed) {
+
+        public Options {
+            if (clients <= 0) throw new IllegalArgumentException("clients must be > 0");
+            if (rate <= 0) throw new IllegalArgumentException("rate must be > 0");
+            mix = Map.copyOf(mix);
+            if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0)
+                throw new IllegalArgumentException("mix needs a positive weight");
+        }
+
+        public static Options defaults() {
+            Map<InputType, Integer> mix = new EnumMap<>(InputType.class);
+            mix.put(InputType.TEAM_PRESTIGE_DELTA, 4);
+            mix.put(InputType.CATEGORY_INFLUENCE_DELTA, 3);
+            mix.put(InputType.MATERIAL_ADD, 3);
+            return new Options(null, 0, 20, 500, Duration.ofSeconds(20), Duration.ofSeconds(5),
+                    mix, ConnectMode.PER_MESSAGE, false, 42L);
+        }
+    }
+
+    /** Result of a run; only messages with an intended send time after the warmup are counted. */
+    public record Report(Options options, double seconds, long sent, long ok, long errors, long failed,
+                         long applied, LatencyHistogram ack, LatencyHistogram appliedLatency) {
+
+        /** OK-acknowledged messages per second. */
+        public double throughput() { return seconds > 0 ? ok / seconds : 0.0; }
+
+        public String format() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format(Locale.ROOT, "Input load: %d clients, target %.0f/s, %.0f s (+%.0f s warmup), %s, mix %s%n",
+                    options.clients(), options.rate(), seconds, options.warmup().toMillis() / 1000.0,
+                    options.connect(), options.mix()));
+            sb.append(String.format(Locale.ROOT, "sent %d  ok %d  err %d  failed %d  applied %s%n",
+                    sent, ok, errors, failed, appliedLatency != null ? String.valueOf(applied) : "n/a"));
+            sb.append(String.format(Locale.ROOT, "sent %.1f/s (target %.0f/s)  throughput %.1f ok/s%n",
+                    seconds > 0 ? sent / seconds : 0.0, options.rate(), throughput()));
+            sb.append(String.format(Locale.ROOT, "%-8s %10s %10s %10s %10s %10s   (ms)%n", "", "mean", "p50", "p99", "p999", "max"));
+            line(sb, "ack", ack);
+            if (appliedLatency != null) line(sb, "applied", appliedLatency);
+            return sb.toString();
+        }
+
+        private static void line(StringBuilder sb, String name, LatencyHistogram h) {
+            sb.append(String.format(Locale.ROOT, "%-8s %10.3f %10.3f %10.3f %10.3f %10.3f%n", name,
+                    h.meanNanos() / 1e6, h.millisAtPercentile(50), h.millisAtPercentile(99),
+                    h.millisAtPercentile(99.9), h.maxNanos() / 1e6));
+        }
+    }
+
+    private static final int IO_TIMEOUT_MILLIS = 2_000;
+
+    private final Options options;
+    private final LatencyHistogram ack = new LatencyHistogram();
+    private final LatencyHistogram applied = new LatencyHistogram();
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>(); // seq -> intended nanos
+    private final AtomicLong seq = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong ok = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong appliedCount = new AtomicLong();
+
+    private final InputType[] mixTypes;
+    private final int[] mixCumulative;
+
+    // Zielwerte der Nachrichten (Teams, Kategorien, Bauprojekte des Spiels)
+    private List<Integer> teamIds;
+    private List<String> categories;
+    private List<String> builds;
+
+    private volatile long measureFrom;
+    private volatile boolean trackApplied;
+
+    public InputLoadGenerator(Options options) {
+        this.options = options;
+        List<InputType> types = new ArrayList<>();
+        List<Integer> cumulative = new ArrayList<>();
+        int sum = 0;
+        for (InputType t : InputType.values()) {
+            int w = options.mix().getOrDefault(t, 0);
+            if (w <= 0) continue;
+            sum += w;
+            types.add(t);
+            cumulative.add(sum);
+        }
+        this.mixTypes = types.toArray(new InputType[0]);
+        this.mixCumulative = cumulative.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /** Runs the load (blocking for warmup + duration) and returns the report. */
+    public Report run() throws Exception {
+        LocalHost local = options.host() == null ? new LocalHost(options.port(), options.runClock(), this::onApplied) : null;
+        try {
+            String host = local != null ? "127.0.0.1" : options.host();
+            int port = local != null ? local.port() : options.port();
+            targetsFrom(local != null ? local.service.getGame() : GameFactoryService.newGame("Lasttest"));
+            trackApplied = local != null;
+
+            long intervalNanos = (long) (options.clients() * 1e9 / options.rate());
+            long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+            measureFrom = start + options.warmup().toNanos();
+            long end = measureFrom + options.duration().toNanos();
+
+            // exchanges: Antworten lesen (Reader / Einzelverbindungen); wird erst nach den Slaves geschlossen
+            try (ExecutorService exchanges = Executors.newVirtualThreadPerTaskExecutor()) {
+                try (ExecutorService slaves = Executors.newVirtualThreadPerTaskExecutor()) {
+                    for (int i = 0; i < options.clients(); i++) {
+                        long first = start + intervalNanos * i / options.clients(); // gleichmäßig versetzt
+                        SplittableRandom rnd = new SplittableRandom(options.seed() + i);
+                        slaves.submit(() -> runSlave(host, port, first, intervalNanos, end, rnd, exchanges));
+                    }
+                } // alle Nachrichten gesendet
+            } // alle Antworten da (oder Timeout)
+
+            if (local != null) {
+                // alles vor diesem Aufruf Eingereihte ist danach angewendet
+                local.service.callOnLogic(() -> null);
+            }
+            double seconds = options.duration().toNanos() / 1e9;
+            return new Report(options, seconds, sent.get(), ok.get(), errors.get(), failed.get(),
+                    appliedCount.get(), ack, local != null ? applied : null);
+        } finally {
+            if (local != null) local.close();
+        }
+    }
+
+    // ----------------- Slave -----------------
+
+    /** A sent message waiting for its answer. */
+    private record Outstanding(long id, long intended, boolean measured) { }
+
+    /** Sender of one slave: only keeps the schedule, answers are handled on {@code exchanges}. */
+    private void runSlave(String host, int port, long first, long intervalNanos, long end, SplittableRandom rnd,
+                          ExecutorService exchanges) {
+        Pipeline conn = null;
+        try {
+            for (long intended = first; intended < end; intended += intervalNanos) {
+                long wait;
+                while ((wait = intended - System.nanoTime()) > 0) LockSupport.parkNanos(wait);
+
+                boolean measured = intended >= measureFrom;
+                long id = seq.incrementAndGet();
+                InputMessage msg = nextMessage(rnd).put("seq", id);
+                if (measured) {
+                    sent.incrementAndGet();
+                    if (trackApplied) pending.put(id, intended);
+                }
+                Outstanding o = new Outstanding(id, intended, measured);
+
+                if (options.connect() == ConnectMode.PER_MESSAGE) {
+                    exchanges.submit(() -> {
+                        String reply;
+                        try (Connection once = new Connection(host, port)) {
+                            reply = once.send(msg);
+                        } catch (IOException e) {
+                            reply = null;
+                        }
+                        onReply(o, reply);
+                    });
+                    continue;
+                }
+                try {
+                    if (conn != null && conn.broken) conn = null; // Reader hat sie schon geschlossen
+                    if (conn == null) conn = new Pipeline(host, port, exchanges);
+                    conn.send(msg, o);
+                } catch (IOException e) {
+                    if (conn != null) conn.close(); // der Reader meldet alle offenen Nachrichten als fehlgeschlagen
+                    else onReply(o, null);
+                    conn = null;
+                }
+            }
+        } finally {
+            if (conn != null) conn.finish();
+        }
+    }
+
+    /** Answer (or {@code null} = no answer) of one message; any thread. */
+    private void onReply(Outstanding o, String reply) {
+        if (!o.measured()) return;
+        if ("OK".equals(reply)) {
+            ack.record(System.nanoTime() - o.intended());
+            ok.incrementAndGet();
+        } else {
+            pending.remove(o.id());
+            if (reply != null && reply.startsWith("ERR")) errors.incrementAndGet();
+            else failed.incrementAndGet();
+        }
+    }
+
+    /** Logic thread of the local host, right after the mutation of message {@code id}. */
+    private void onApplied(long id) {
+        Long intended = pending.remove(id);
+        if (intended == null) return; // Warmup oder fehlgeschlagen
+        applied.record(System.nanoTime() - intended);
+        appliedCount.incrementAndGet();
+    }
+
+    private InputMessage nextMessage(SplittableRandom rnd) {
+        int r = rnd.nextInt(mixCumulative[mixCumulative.length - 1]);
+        int i = 0;
+        while (r >= mixCumulative[i]) i++;
+        InputType type = mixTypes[i];
+        int teamId = teamIds.get(rnd.nextInt(teamIds.size()));
+        double delta = Math.round(rnd.nextDouble(0.5, 5.0) * 100) / 100.0;
+        return switch (type) {
+            case TEAM_PRESTIGE_DELTA -> new InputMessage(type).put("teamId", teamId).put("delta", delta);
+            case CATEGORY_INFLUENCE_DELTA -> new InputMessage(type).put("teamId", teamId)
+                    .put("category", categories.get(rnd.nextInt(categories.size()))).put("delta", delta);
+            case MATERIAL_ADD -> new InputMessage(type).put("teamId", teamId)
+                    .put("build", builds.get(rnd.nextInt(builds.size())))
+                    .put("material", Material.values()[rnd.nextInt(Material.values().length)].name())
+                    .put("amount", 1 + rnd.nextInt(5));
+            case SET_SPEED -> new InputMessage(type).put("speed", 1.0);
+            case SET_PRESTIGE_MULTIPLIER -> new InputMessage(type).put("mult", 1.0);
+        };
+    }
+
+    private void targetsFrom(Game game) {
+        List<Integer> ids = new ArrayList<>();
+        for (Family f : game.getFamilies()) {
+            for (Team t : f.getTeams()) ids.add(t.getId());
+        }
+        List<String> plain = new ArrayList<>();
+        List<String> build = new ArrayList<>();
+        for (CategoryInterface c : game.getCategories()) {
+            if (c instanceof BuildCategory) build.add(c.getName());
+            else plain.add(c.getName());
+        }
+        if (ids.isEmpty() || plain.isEmpty() || build.isEmpty())
+            throw new IllegalStateException("game needs teams, categories and build categories");
+        teamIds = List.copyOf(ids);
+        categories = List.copyOf(plain);
+        builds = List.copyOf(build);
+    }
+
+    // ----------------- Wire -----------------
+
+    /** One slave connection: request line -> one answer line ({@code OK} / {@code ERR ...}). */
+    private static final class Connection implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedWriter out;
+        private final BufferedReader in;
+
+        Connection(String host, int port) throws IOException {
+            socket = new Socket();
+            try {
+                socket.connect(new InetSocketAddress(host, port), IO_TIMEOUT_MILLIS);
+                socket.setSoTimeout(IO_TIMEOUT_MILLIS);
+                socket.setTcpNoDelay(true);
+                out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream()));
+                in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+            } catch (IOException e) {
+                socket.close();
+                throw e;
+            }
+        }
+
+        String send(InputMessage msg) throws IOException {
+            out.write(msg.encodeLine());
+            out.flush();
+            String reply = in.readLine();
+            if (reply == null) throw new IOException("connection closed by host");
+            return reply;
+        }
+
+        @Override
+        public void close() {
+            try { socket.close(); } catch (IOException ignored) {}
+        }
+    }
+
+    /**
+     * Persistent slave connection, pipelined: the sender writes lines without waiting, a reader task
+     * matches the answer lines to the sent messages in order (the host answers each line in order).
+     */
+    private final class Pipeline implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedWriter out;
+        private final BufferedReader in;
+        private final ConcurrentLinkedQueue<Outstanding> inFlight = new ConcurrentLinkedQueue<>();
+        volatile boolean broken;
+
+        Pipeline(String host, int port, ExecutorService readers) throws IOException {
+            socket = new Socket();
+            try {
+                socket.connect(new InetSocketAddress(host, port), IO_TIMEOUT_MILLIS);
+                socket.setSoTimeout(IO_TIMEOUT_MILLIS);
+                socket.setTcpNoDelay(true);
+                out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream()));
+                in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+            } catch (IOException e) {
+                socket.close();
+                throw e;
+            }
+            readers.submit(this::readLoop);
+        }
+
+        /** Sender thread only. */
+        void send(InputMessage msg, Outstanding o) throws IOException {
+            inFlight.add(o);
+            if (broken && inFlight.remove(o)) { // Reader ist schon fertig: selbst melden
+                onReply(o, null);
+                return;
+            }
+            out.write(msg.encodeLine());
+            out.flush();
+        }
+
+        private void readLoop() {
+            try {
+                while (true) {
+                    String line;
+                    try {
+                        line = in.readLine();
+                    } catch (SocketTimeoutException idle) {
+                        Outstanding oldest = inFlight.peek();
+                        if (oldest == null || System.nanoTime() - oldest.intended()
+                                < TimeUnit.MILLISECONDS.toNanos(IO_TIMEOUT_MILLIS)) continue; // nur Leerlauf
+                        break; // Antwort überfällig
+                    }
+                    Outstanding o = line != null ? inFlight.poll() : null;
+                    if (o == null) break; // Host hat geschlossen (bzw. Antwort ohne Nachricht)
+                    onReply(o, line);
+                }
+            } catch (IOException e) {
+                // Verbindung weg
+            } finally {
+                broken = true;
+                close();
+                Outstanding o;
+                while ((o = inFlight.poll()) != null) onReply(o, null);
+            }
+        }
+
+        /** No more messages: half-close, the host answers the rest and closes, then the reader ends. */
+        void finish() {
+            try {
+                out.flush();
+                socket.shutdownOutput();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        @Override
+        public void close() {
+            try { socket.close(); } catch (IOException ignored) {}
+        }
+    }
+
+    // ----------------- Local host -----------------
+
+    /** In-process host: fresh game + NetInputServer; reports every applied message (by its seq). */
+    private static final class LocalHost implements AutoCloseable {
+        final GameService service;
+        final NetInputServer server;
+
+        LocalHost(int port, boolean runClock, LongConsumer onApplied) throws InterruptedException {
+            service = new GameService() {
+                @Override
+                public void applyInputMessage(InputMessage msg) {
+                    super.applyInputMessage(msg);
+                    long id = parseSeq(msg.get("seq"));
+                    // gleiche Lane, FIFO: läuft direkt nach der Mutation
+                    if (id > 0) runOnLogic(() -> onApplied.accept(id));
+                }
+            };
+            service.buildNewGame("Lasttest");
+            if (runClock) service.startGame();
+            server = new NetInputServer(port, service);
+            server.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (server.getLocalPort() < 0) {
+                if (System.nanoTime() > deadline) {
+                    close();
+                    throw new IllegalStateException("NetInputServer did not bind port " + port);
+                }
+                Thread.sleep(5);
+            }
+        }
+
+        int port() { return server.getLocalPort(); }
+
+        private static long parseSeq(String s) {
+            try { return s == null ? -1 : Long.parseLong(s); } catch (NumberFormatException e) { return -1; }
+        }
+
+        @Override
+        public void close() {
+            server.close();
+            service.shutdown(); // auch Logic-, I/O- und Clock-Threads, nicht nur die Uhr
+        }
+    }
+
+    // ----------------- CLI -----------------
+
+    public static void main(String[] args) throws Exception {
+        Options o;
+        try {
+            o = parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("""
+                    usage: InputLoadGenerator [--clients N] [--rate MSG_PER_S] [--duration S] [--warmup S]
+                                              [--mix TYPE=W,TYPE=W,...] [--connect per-message|persistent]
+                                              [--host HOST] [--port PORT] [--clock] [--seed N]""");
+            System.exit(2);
+            return;
+        }
+        Report r = new InputLoadGenerator(o).run();
+        System.out.print(r.format());
+        System.exit(0);
+    }
+
+    static Options parse(String[] args) {
+        Options d = Options.defaults();
+        String host = d.host();
+        int port = -1, clients = d.clients();
+        double rate = d.rate();
+        Duration duration = d.duration(), warmup = d.warmup();
+        Map<InputType, Integer> mix = d.mix();
+        ConnectMode connect = d.connect();
+        boolean clock = d.runClock();
+        long seed = d.seed();
+
+        for (int i = 0; i < args.length; i++) {
+            String a = args[i];
+            switch (a) {
+                case "--clock" -> clock = true;
+                case "--host", "--port", "--clients", "--rate", "--duration", "--warmup", "--mix", "--connect", "--seed" -> {
+                    if (i + 1 >= args.length) throw new IllegalArgumentException("missing value for " + a);
+                    String v = args[++i];
+                    switch (a) {
+                        case "--host" -> host = v;
+                        case "--port" -> port = Integer.parseInt(v);
+                        case "--clients" -> clients = Integer.parseInt(v);
+                        case "--rate" -> rate = Double.parseDouble(v);
+                        case "--duration" -> duration = Duration.ofMillis((long) (Double.parseDouble(v) * 1000));
+                        case "--warmup" -> warmup = Duration.ofMillis((long) (Double.parseDouble(v) * 1000));
+                        case "--mix" -> mix = parseMix(v);
+                        case "--connect" -> connect = ConnectMode.valueOf(v.toUpperCase(Locale.ROOT).replace('-', '_'));
+                        default -> seed = Long.parseLong(v);
+                    }
+                }
+                default -> throw new IllegalArgumentException("unknown option " + a);
+            }
+        }
+        if (port < 0) port = host == null ? 0 : 53536; // Standard-Port des Hosts (GameService)
+        return new Options(host, port, clients, rate, duration, warmup, mix, connect, clock, seed);
+    }
+
+    static Map<InputType, Integer> parseMix(String spec) {
+        Map<InputType, Integer> mix = new EnumMap<>(InputType.class);
+        for (String part : spec.split(",")) {
+            String p = part.trim();
+            if (p.isEmpty()) continue;
+            int eq = p.indexOf('=');
+            InputType t = InputType.valueOf((eq < 0 ? p : p.substring(0, eq)).trim().toUpperCase(Locale.ROOT));
+            mix.put(t, eq < 0 ? 1 : Integer.parseInt(p.substring(eq + 1).trim()));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.render;
+
+import com.example.model.GameView;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * HeadlessResultRecorder
+ * ----------------
+ * Writes the result board as numbered PNG frames ({@code frame_000001.png}, ...) at a fixed FPS,
+ * e.g. as input for ffmpeg (venue streams, archive).
+ *
+ * Pipeline:
+ *  - a scheduler thread picks the current {@link GameView} once per frame (lock-free volatile read),
+ *  - N render workers draw it with {@link ResultFrameRenderer},
+ *  - an encode/write thread pool produces the PNG files.
+ *
+ * Every tick takes its sequence number when it is captured. Workers finish out of order, so finished
+ * frames wait in a small reorder buffer and are written strictly in capture order: file N is tick N.
+ * If workers fall behind, frames are dropped (at most {@code 2 * workers} frames in flight) instead of
+ * queueing up memory; a dropped or failed tick repeats the previous frame, so the sequence keeps the
+ * configured FPS and has no gaps (ffmpeg's image2 input stops at the first missing number).
+ * Unchanged views (same {@link GameView#version()}) reuse the last encoded PNG.
+ * The JavaFX thread is never used.
+ */
+public final class HeadlessResultRecorder implements AutoCloseable {
+
+    private final Supplier<GameView> views;
+    private final Function<GameView, BufferedImage> renderer;
+    private final Path outputDir;
+    private final long frameNanos;
+
+    private final ScheduledExecutorService ticker;
+    private final ExecutorService renderPool;
+    private final ExecutorService encodePool;
+    private final Semaphore inFlight;
+
+    private final AtomicLong frameNo = new AtomicLong();
+    private final AtomicLong rendered = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong repeated = new AtomicLong();
+    private final AtomicLong renderNanos = new AtomicLong();
+    private final AtomicLong encodeNanos = new AtomicLong();
+
+    /** Last encoded frame: reused while the view version does not change. */
+    private volatile Encoded last;
+
+    private record Encoded(long version, byte[] png) { }
+
+    /** Finished tick waiting for its turn; {@code png == null} repeats the previous frame. */
+    private record Slot(byte[] png, long encodeCost, boolean permit) { }
+
+    /** Reorder buffer by capture number; guarded by itself, like the three fields below. */
+    private final TreeMap<Long, Slot> reorder = new TreeMap<>();
+    private long nextSeq = 1L;
+    private long fileNo;
+    private byte[] lastWritten;
+
+    /**
+     * @param views   source of the current snapshot (e.g. {@code gameService::getGameView})
+     * @param fps     frames per second (> 0)
+     * @param workers parallel render workers (>= 1)
+     */
+    public HeadlessResultRecorder(Supplier<GameView> views, ResultFrameRenderer renderer, Path outputDir,
+                                  double fps, int workers) throws IOException {
+        this(views, Objects.requireNonNull(renderer, "renderer")::render, outputDir, fps, workers);
+    }
+
+    /** Render step as a function (tests slow it down to make workers finish out of order). */
+    HeadlessResultRecorder(Supplier<GameView> views, Function<GameView, BufferedImage> renderer, Path outputDir,
+                           double fps, int workers) throws IOException {
+        if (fps <= 0) throw new IllegalArgumentException("fps must be > 0");
+        if (workers < 1) throw new IllegalArgumentException("workers must be >= 1");
+        this.views = Objects.requireNonNull(views, "views");
+        this.renderer = Objects.requireNonNull(renderer, "renderer");
+        this.outputDir = Files.createDirectories(outputDir);
+        this.frameNanos = (long) (1_000_000_000L / fps);
+
+        this.ticker = Executors.newSingleThreadScheduledExecutor(daemon("result-rec-tick"));
+        this.renderPool = Executors.newFixedThreadPool(workers, daemon("result-rec-render"));
+        this.encodePool = Executors.newFixedThreadPool(Math.max(1, workers / 2), daemon("result-rec-encode"));
+        this.inFlight = new Semaphore(2 * workers);
+    }
+
+    public void start() {
+        ticker.scheduleAtFixedRate(this::onFrame, 0L, frameNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** Stops taking frames and waits (bounded) until frames in flight are written. */
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+        renderPool.shutdown();
+        try {
+            ticker.awaitTermination(10, TimeUnit.SECONDS); // a running tick still hands its slot over
+            renderPool.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        encodePool.shutdown();
+        try {
+            encodePool.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ---------- pipeline -----------------------------------------------------
+
+    private void onFrame() {
+        long seq = frameNo.incrementAndGet();
+        if (!inFlight.tryAcquire()) {
+            dropped.incrementAndGet();
+            complete(seq, new Slot(null, 0L, false));
+            return;
+        }
+        GameView view = views.get();
+        try {
+            renderPool.execute(() -> renderFrame(seq, view));
+        } catch (RuntimeException e) { // rejected after close()
+            complete(seq, new Slot(null, 0L, true));
+        }
+    }
+
+    private void renderFrame(long seq, GameView view) {
+        try {
+            Encoded cached = last;
+            if (cached != null && view != null && cached.version() == view.version()) {
+                reused.incrementAndGet();
+                complete(seq, new Slot(cached.png(), 0L, true));
+                return;
+            }
+            long t0 = System.nanoTime();
+            BufferedImage img = renderer.apply(view != null ? view : GameView.EMPTY);
+            renderNanos.addAndGet(System.nanoTime() - t0);
+            rendered.incrementAndGet();
+            long version = view != null ? view.version() : -1L;
+            encodePool.execute(() -> encode(seq, version, img));
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            complete(seq, new Slot(null, 0L, true));
+        }
+    }
+
+    private void encode(long seq, long version, BufferedImage img) {
+        try {
+            long t0 = System.nanoTime();
+            byte[] png = ResultFrameRenderer.encodePng(img);
+            long cost = System.nanoTime() - t0;
+            Encoded prev = last;
+            if (prev == null || prev.version() <= version) last = new Encoded(version, png);
+            complete(seq, new Slot(png, cost, true));
+        } catch (IOException e) {
+            failed.incrementAndGet();
+            complete(seq, new Slot(null, 0L, true));
+        }
+    }
+
+    /**
+     * Hands a finished tick to the reorder buffer and writes every tick that is now next in line.
+     * Permits are released only when a frame leaves the buffer, so it holds at most {@code 2 * workers}
+     * images; dropped ticks are just markers.
+     */
+    private void complete(long seq, Slot slot) {
+        synchronized (reorder) {
+            reorder.put(seq, slot);
+            Slot next;
+            while ((next = reorder.remove(nextSeq)) != null) {
+                write(next);
+                nextSeq++;
+            }
+        }
+    }
+
+    /**
+     * Writes the next file of the sequence; caller holds the {@link #reorder} lock. The file number only
+     * advances on success, so a failed write costs one frame of time but leaves no gap.
+     */
+    private void write(Slot slot) {
+        byte[] png = slot.png() != null ? slot.png() : lastWritten;
+        try {
+            if (png == null) return; // nothing to repeat yet: the sequence starts with the first frame
+            Files.write(outputDir.resolve(String.format("frame_%06d.png", fileNo + 1)), png);
+            fileNo++;
+            lastWritten = png;
+            if (slot.png() == null) repeated.incrementAndGet();
+            else encodeNanos.addAndGet(slot.encodeCost());
+            written.incrementAndGet();
+        } catch (IOException e) {
+            failed.incrementAndGet();
+            System.err.println("Frame " + (fileNo + 1) + " konnte nicht geschrieben werden: " + e.getMessage());
+        } finally {
+            if (slot.permit()) inFlight.release();
+        }
+    }
+
+    // ---------- stats --------------------------------------------------------
+
+    public Stats stats() {
+        long r = rendered.get();
+        long encoded = Math.max(0L, written.get() - reused.get() - repeated.get());
+        return new Stats(frameNo.get(), r, written.get(), reused.get(), repeated.get(), dropped.get(), failed.get(),
+                r == 0 ? 0 : renderNanos.get() / r / 1_000,
+                encoded == 0 ? 0 : encodeNanos.get() / encoded / 1_000);
+    }
+
+    /**
+     * {@code reused}: frames written from the last PNG because the view did not change;
+     * {@code repeated}: dropped or failed ticks filled with the previous frame to keep the FPS.
+     */
+    public record Stats(long frames, long rendered, long written, long reused, long repeated, long dropped, long failed,
+                        long avgRenderMicros, long avgEncodeMicros) { }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger n = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,387 @@
+package com.example.render;
+
+import com.example.model.GameView;
+import com.example.model.GameView.BuildView;
+import com.example.model.GameView.CategoryView;
+import com.example.model.GameView.FamilyView;
+import com.example.model.GameView.TeamView;
+import com.example.model.Material;
+import com.example.model.SerializableColor;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.geom.Arc2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResultFrameRenderer
+ * ----------------
+ * Offscreen (Java2D) version of the result screen: same layout as ResultView.fxml
+ * (extra pies left, active build with phase image + influence pie in the middle,
+ * materials + family prestige bars right), drawn from an immutable {@link GameView}.
+ *
+ * - Never touches JavaFX; safe to call from any number of threads in parallel
+ *   (every call draws into its own BufferedImage).
+ * - Active build / extra categories are configured by name (null = like the result window's
+ *   defaults: first build category, first four plain categories).
+ * - Decoded images are kept in a small, size-keyed LRU shared by all render threads; images are decoded
+ *   outside its lock, failed loads are retried after 30 s.
+ */
+public final class ResultFrameRenderer {
+
+    private static final Color BACKGROUND = new Color(0xF4F4F4);
+    private static final Color TEXT = new Color(0x202020);
+    private static final Color MUTED = new Color(0x808080);
+    private static final Color[] FALLBACK = {
+            new Color(0x4E79A7), new Color(0xF28E2B), new Color(0xE15759), new Color(0x76B7B2),
+            new Color(0x59A14F), new Color(0xEDC948), new Color(0xB07AA1), new Color(0xFF9DA7) };
+    private static final int MAX_CACHED_IMAGES = 32;
+    private static final long FAILED_RETRY_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final int width;
+    private final int height;
+    private volatile String activeBuild;
+    private volatile List<String> extraCategories;
+
+    /** LRU of decoded and scaled images (access order), guarded by itself. */
+    private final Map<String, CachedImage> images = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedImage> eldest) {
+            return size() > MAX_CACHED_IMAGES;
+        }
+    };
+
+    public ResultFrameRenderer(int width, int height) {
+        if (width <= 0 || height <= 0) throw new IllegalArgumentException("size must be > 0");
+        this.width = width;
+        this.height = height;
+    }
+
+    /** Name of the build category in the middle (null = first build category). */
+    public void setActiveBuild(String buildCategoryName) { this.activeBuild = buildCategoryName; }
+
+    /** Names of the (up to four) pies on the left (null = first four plain categories). */
+    public void setExtraCategories(List<String> names) {
+        this.extraCategories = names == null ? null : List.copyOf(names);
+    }
+
+    public int width() { return width; }
+
+    public int height() { return height; }
+
+    // ---------- rendering ----------------------------------------------------
+
+    public BufferedImage render(GameView view) {
+        BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = img.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setColor(BACKGROUND);
+            g.fillRect(0, 0, width, height);
+
+            if (!view.hasGame()) {
+                drawCentered(g, "Kein Spiel geladen", width / 2, height / 2, font(0.03, Font.BOLD), MUTED);
+                return img;
+            }
+
+            int pad = Math.max(8, width / 120);
+            int leftW = (int) (width * 0.28);
+            int rightW = (int) (width * 0.28);
+            int midW = width - leftW - rightW;
+
+            drawExtraPies(g, view, pad, pad, leftW - 2 * pad, height - 2 * pad);
+            drawBuild(g, view, leftW + pad, pad, midW - 2 * pad, height - 2 * pad);
+            drawRightColumn(g, view, leftW + midW + pad, pad, rightW - 2 * pad, height - 2 * pad);
+        } finally {
+            g.dispose();
+        }
+        return img;
+    }
+
+    public byte[] renderPng(GameView view) throws IOException {
+        return encodePng(render(view));
+    }
+
+    public static byte[] encodePng(BufferedImage img) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 * 1024);
+        ImageIO.write(img, "png", out);
+        return out.toByteArray();
+    }
+
+    // ---------- sections -----------------------------------------------------
+
+    private void drawExtraPies(Graphics2D g, GameView view, int x, int y, int w, int h) {
+        List<CategoryView> extras = pickExtras(view);
+        int cellW = w / 2;
+        int cellH = h / 2;
+        Font title = font(0.012, Font.BOLD);
+        for (int i = 0; i < extras.size(); i++) {
+            CategoryView cv = extras.get(i);
+            int cx = x + (i % 2) * cellW;
+            int cy = y + (i / 2) * cellH;
+            int titleH = g.getFontMetrics(title).getHeight();
+            drawCentered(g, cv.name(), cx + cellW / 2, cy + titleH, title, TEXT);
+
+            int d = Math.min(cellW, cellH - titleH) - 16;
+            int px = cx + (cellW - d) / 2;
+            int py = cy + titleH + 8;
+            drawPie(g, view, cv, px, py, d);
+            drawImage(g, cv.imageUrl(), px + d * 15 / 100, py + d * 15 / 100, d * 70 / 100, d * 70 / 100);
+        }
+    }
+
+    private void drawBuild(Graphics2D g, GameView view, int x, int y, int w, int h) {
+        CategoryView cv = pickBuild(view);
+        BuildView bv = cv != null ? cv.build() : null;
+
+        Font titleFont = font(0.024, Font.BOLD);
+        Font subFont = font(0.016, Font.PLAIN);
+        String name = bv != null && bv.displayName() != null && !bv.displayName().isBlank() ? bv.displayName()
+                : cv != null ? cv.name() : "—";
+        String phaseTitle = bv != null && bv.phaseTitle() != null ? bv.phaseTitle() : "—";
+
+        int ty = y + g.getFontMetrics(titleFont).getAscent();
+        drawCentered(g, name, x + w / 2, ty, titleFont, TEXT);
+        ty += g.getFontMetrics(subFont).getHeight() + 4;
+        drawCentered(g, phaseTitle, x + w / 2, ty, subFont, MUTED);
+
+        int top = ty + 12;
+        int imageH = (int) ((h - (top - y)) * 0.45);
+        if (bv != null) drawImage(g, bv.phaseImageUrl(), x, top, w, imageH);
+
+        int pieTop = top + imageH + 12;
+        int d = Math.min(w, y + h - pieTop);
+        if (cv == null || d <= 0) return;
+        int px = x + (w - d) / 2;
+        if (!drawPie(g, view, cv, px, pieTop, d)) {
+            drawCentered(g, "Keine Einflussdaten", x + w / 2, pieTop + d / 2, subFont, MUTED);
+        }
+        drawImage(g, cv.imageUrl(), px + d * 15 / 100, pieTop + d * 15 / 100, d * 70 / 100, d * 70 / 100);
+    }
+
+    private void drawRightColumn(Graphics2D g, GameView view, int x, int y, int w, int h) {
+        CategoryView cv = pickBuild(view);
+        BuildView bv = cv != null ? cv.build() : null;
+
+        // Ressourcenliste (wie ResultController: "gezahlt/benötigt NAME")
+        Font listFont = font(0.015, Font.PLAIN);
+        FontMetrics fm = g.getFontMetrics(listFont);
+        g.setFont(listFont);
+        g.setColor(TEXT);
+        int ly = y + fm.getAscent();
+        if (bv != null) {
+            for (Material m : Material.values()) {
+                int n = bv.neededOf(m);
+                int p = bv.payedOf(m);
+                if (n == 0 && p == 0) continue;
+                g.drawString(String.format("%d/%d %s", p, n, m.name()), x, ly);
+                ly += fm.getHeight();
+            }
+        }
+
+        // Familien-Prestige (gestapelte Balken, ein Segment pro Team)
+        int top = Math.max(ly + 16, y + h / 2);
+        drawPrestigeBars(g, view, x, top, w, y + h - top);
+    }
+
+    private void drawPrestigeBars(Graphics2D g, GameView view, int x, int y, int w, int h) {
+        List<FamilyView> families = view.families();
+        if (families.isEmpty() || h <= 0) return;
+
+        double max = 0.0;
+        for (FamilyView f : families) max = Math.max(max, f.prestigeSum());
+        if (max <= 0.0) max = 1.0;
+
+        Font labelFont = font(0.013, Font.PLAIN);
+        FontMetrics fm = g.getFontMetrics(labelFont);
+        int labelW = 0;
+        for (FamilyView f : families) labelW = Math.max(labelW, fm.stringWidth(nameOr(f.name())));
+        labelW += 8;
+
+        int rowH = h / families.size();
+        int barH = Math.max(4, rowH * 6 / 10);
+        int barW = w - labelW;
+        for (int i = 0; i < families.size(); i++) {
+            FamilyView f = families.get(i);
+            int ry = y + i * rowH;
+            g.setFont(labelFont);
+            g.setColor(TEXT);
+            g.drawString(nameOr(f.name()), x, ry + (rowH + fm.getAscent()) / 2 - 2);
+
+            double bx = x + labelW;
+            for (TeamView t : f.teams()) {
+                double v = Math.max(0.0, t.prestige());
+                double segW = barW * v / max;
+                if (segW <= 0) continue;
+                g.setColor(colorOf(view, t));
+                g.fillRect((int) Math.round(bx), ry + (rowH - barH) / 2, (int) Math.ceil(segW), barH);
+                bx += segW;
+            }
+        }
+    }
+
+    /** @return false if there is no influence to show */
+    private boolean drawPie(Graphics2D g, GameView view, CategoryView cv, int x, int y, int d) {
+        double total = cv.totalInfluence();
+        if (total <= 0.0 || d <= 0) {
+            g.setColor(new Color(0xDDDDDD));
+            g.setStroke(new BasicStroke(2f));
+            g.drawOval(x, y, d, d);
+            return false;
+        }
+        double start = 90.0;
+        for (TeamView t : view.teams()) {
+            double v = cv.influenceOf(t.id());
+            if (v <= 0) continue;
+            double extent = -360.0 * v / total;
+            g.setColor(colorOf(view, t));
+            g.fill(new Arc2D.Double(x, y, d, d, start, extent, Arc2D.PIE));
+            start += extent;
+        }
+        return true;
+    }
+
+    // ---------- helpers ------------------------------------------------------
+
+    private CategoryView pickBuild(GameView view) {
+        String name = activeBuild;
+        if (name != null) {
+            CategoryView cv = view.category(name);
+            if (cv != null && cv.isBuild()) return cv;
+        }
+        for (CategoryView cv : view.categories()) {
+            if (cv.isBuild()) return cv;
+        }
+        return null;
+    }
+
+    private List<CategoryView> pickExtras(GameView view) {
+        List<CategoryView> out = new ArrayList<>(4);
+        List<String> names = extraCategories;
+        if (names != null) {
+            for (String n : names) {
+                CategoryView cv = view.category(n);
+                if (cv != null && !cv.isBuild()) out.add(cv);
+                if (out.size() == 4) break;
+            }
+            return out;
+        }
+        for (CategoryView cv : view.categories()) {
+            if (cv.isBuild()) continue;
+            out.add(cv);
+            if (out.size() == 4) break;
+        }
+        return out;
+    }
+
+    private static Color colorOf(GameView view, TeamView t) {
+        SerializableColor c = t.color();
+        if (c == null) {
+            for (FamilyView f : view.families()) {
+                if (java.util.Objects.equals(f.name(), t.familyName())) {
+                    c = f.color();
+                    break;
+                }
+            }
+        }
+        if (c != null) return new Color(c.getR255(), c.getG255(), c.getB255(), c.getA255());
+        return FALLBACK[Math.floorMod(t.id(), FALLBACK.length)];
+    }
+
+    private void drawImage(Graphics2D g, String url, int x, int y, int w, int h) {
+        if (url == null || w <= 0 || h <= 0) return;
+        BufferedImage src = load(url);
+        if (src == null) return;
+        double scale = Math.min((double) w / src.getWidth(), (double) h / src.getHeight());
+        int dw = (int) (src.getWidth() * scale);
+        int dh = (int) (src.getHeight() * scale);
+        Image scaled = scaled(url, src, dw, dh);
+        g.drawImage(scaled, x + (w - dw) / 2, y + (h - dh) / 2, null);
+    }
+
+    private BufferedImage load(String url) {
+        Optional<BufferedImage> hit = cached(url);
+        if (hit != null) return hit.orElse(null);
+        // decode outside the lock: a slow (remote) URL must not block the other render threads
+        BufferedImage img = null;
+        try {
+            img = ImageIO.read(URI.create(url).toURL());
+        } catch (Exception e) {
+            // cached as failure for FAILED_RETRY_NANOS, then tried again
+        }
+        store(url, img);
+        return img;
+    }
+
+    /** Downscaled copy per target size (decoded originals can be much larger than the frame). */
+    private BufferedImage scaled(String url, BufferedImage src, int w, int h) {
+        if (w <= 0 || h <= 0 || (w == src.getWidth() && h == src.getHeight())) return src;
+        String key = url + "@" + w + "x" + h;
+        Optional<BufferedImage> hit = cached(key);
+        if (hit != null && hit.isPresent()) return hit.get();
+        BufferedImage dst = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = dst.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(src, 0, 0, w, h, null);
+        } finally {
+            g.dispose();
+        }
+        store(key, dst);
+        return dst;
+    }
+
+    /** Cached image (empty = failed recently) or null if not cached / failure expired. */
+    private Optional<BufferedImage> cached(String key) {
+        synchronized (images) {
+            CachedImage c = images.get(key);
+            if (c == null) return null;
+            if (c.image == null && System.nanoTime() - c.loadedNanos > FAILED_RETRY_NANOS) {
+                images.remove(key);
+                return null;
+            }
+            return Optional.ofNullable(c.image);
+        }
+    }
+
+    private void store(String key, BufferedImage img) {
+        synchronized (images) {
+            images.put(key, new CachedImage(img, System.nanoTime()));
+        }
+    }
+
+    /** {@code image} null = load failed at {@code loadedNanos}. */
+    private record CachedImage(BufferedImage image, long loadedNanos) { }
+
+    private Font font(double relSize, int style) {
+        return new Font(Font.SANS_SERIF, style, Math.max(10, (int) (height * relSize * 1.6)));
+    }
+
+    private static void drawCentered(Graphics2D g, String text, int cx, int baseline, Font font, Color color) {
+        g.setFont(font);
+        g.setColor(color);
+        FontMetrics fm = g.getFontMetrics();
+        g.drawString(text, cx - fm.stringWidth(text) / 2, baseline);
+    }
+
+    private static String nameOr(String s) {
+        return s == null ? "—" : s;
+    }
+}
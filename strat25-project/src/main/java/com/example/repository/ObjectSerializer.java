@@ -1,10 +1,14 @@
 package com.example.repository;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 public class ObjectSerializer<T> {
 
@@ -34,4 +38,26 @@ public class ObjectSerializer<T> {
 		    }
 		    throw new Exception("Object not found");
 	}
+
+	/** Serialisiert das Objekt in den Speicher (gleiches Format wie die Datei). */
+	public byte[] toBytes(T object) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+		try (ObjectOutputStream stream = new ObjectOutputStream(bytes)) {
+			stream.writeObject(object);
+		}
+		return bytes.toByteArray();
+	}
+
+	public T fromBytes(byte[] data) throws IOException, ClassNotFoundException {
+		try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(data))) {
+			@SuppressWarnings("unchecked")
+			T object = (T) stream.readObject();
+			return object;
+		}
+	}
+
+	/** Schreibt bereits serialisierte Bytes (siehe {@link #toBytes(Object)}) in die Datei. */
+	public void saveBytes(byte[] data, String dateiname) throws IOException {
+		Files.write(Path.of(dateiname), data);
+	}
 }
@@ -1,5 +1,8 @@
 package com.example.repository;
 
+import com.example.metrics.jfr.SaveEvent;
+
+import java.io.IOException;
 import java.io.Serializable;
 import java.nio.file.*;
 import java.time.LocalDateTime;
@@ -21,6 +24,8 @@ import java.util.stream.Stream;
  *       <name>_yyyyMMdd_HHmmss.ext      (timestamped backups)
  * </pre>
  *
+ * <p>Every save/backup is a JFR {@link SaveEvent} (bytes, duration) while a recording is running.</p>
+ *
  * @param <T> the item type; must extend {@link RepositoryItem} and be {@link Serializable}
  */
 public class RepositoryService<T extends RepositoryItem & Serializable> {
@@ -69,7 +74,9 @@ public class RepositoryService<T extends RepositoryItem & Serializable> {
     public void save(T item) {
         String safe = safeName(item.getName());
         Path target = primaryPathFor(safe);
+        SaveEvent jfr = begin();
         io.save(item, target.toString());
+        commit(jfr, "save", safe, target, -1);
     }
 
     /** Loads the main file for the given name. */
@@ -84,7 +91,31 @@ public class RepositoryService<T extends RepositoryItem & Serializable> {
         String safe = safeName(item.getName());
         Path backup = backupPathFor(safe);
         ensureDir(backup.getParent());
+        SaveEvent jfr = begin();
         io.save(item, backup.toString());
+        commit(jfr, "backup", safe, backup, -1);
+    }
+
+    /**
+     * Saves (overwrites) the main file from bytes produced by {@link ObjectSerializer#toBytes(Object)},
+     * e.g. a snapshot captured on another thread.
+     */
+    public void saveSerialized(String name, byte[] data) throws IOException {
+        String safe = safeName(name);
+        Path target = primaryPathFor(safe);
+        SaveEvent jfr = begin();
+        io.saveBytes(data, target.toString());
+        commit(jfr, "save", safe, target, data.length);
+    }
+
+    /** Creates a timestamped backup copy from already serialized bytes. */
+    public void backupSerialized(String name, byte[] data) throws IOException {
+        String safe = safeName(name);
+        Path backup = backupPathFor(safe);
+        ensureDir(backup.getParent());
+        SaveEvent jfr = begin();
+        io.saveBytes(data, backup.toString());
+        commit(jfr, "backup", safe, backup, data.length);
     }
 
     // -------------------- Listing --------------------
@@ -196,6 +227,26 @@ public class RepositoryService<T extends RepositoryItem & Serializable> {
         return repoDir.resolve("backups").resolve(safeName);
     }
 
+    private static SaveEvent begin() {
+        SaveEvent e = new SaveEvent();
+        e.begin();
+        return e;
+    }
+
+    /** @param bytes size if known, else -1 (then read from the file, only while recording) */
+    private static void commit(SaveEvent e, String kind, String name, Path file, long bytes) {
+        e.end();
+        if (!e.shouldCommit()) return;
+        e.kind = kind;
+        e.name = name;
+        e.path = file.toString();
+        if (bytes < 0) {
+            try { bytes = Files.size(file); } catch (IOException ex) { bytes = -1; }
+        }
+        e.bytes = bytes;
+        e.commit();
+    }
+
     private static void ensureDir(Path dir) {
         try {
             if (dir != null) Files.createDirectories(dir);
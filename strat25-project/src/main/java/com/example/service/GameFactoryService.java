@@ -48,19 +48,7 @@ public class GameFactoryService {
         categorys.add(new Category("Unruhe", teams, "/com/example/images/category/unruhe.png"));
         categorys.add(new Category("Rückhalt im Volk", teams, "/com/example/images/category/rueckhalt.png"));
 
-        Map<Material, Double> materialWorths = new HashMap<>();
-        materialWorths.put(Material.BAUMSTAEMME, 1.205);
-        materialWorths.put(Material.STEIN, 1.205);
-        materialWorths.put(Material.WEIZEN, 0.6025);
-        materialWorths.put(Material.ERZ, 0.6025);
-        materialWorths.put(Material.BRETTER, 0.3346);
-        materialWorths.put(Material.STEINZIEGEL, 0.1115);
-        materialWorths.put(Material.BROT, 0.7807);
-        materialWorths.put(Material.METALL, 1.1154);
-        materialWorths.put(Material.WAFFEN, 1.2269);
-        materialWorths.put(Material.ARBEITSKRAFT, 0.3346);
-        materialWorths.put(Material.MILITAERISCHE_STAERKE, 0.0536);
-        materialWorths.put(Material.HYMNEN, 0.00112);
+        Map<Material, Double> materialWorths = materialWorths();
 
         CategoryInterface revolution = new BuildCategory(
                 "Revolution", "Aufbau der Revolution", teams, "/com/example/csv/revolution.csv", materialWorths, "/com/example/images/revolution", "/com/example/images/category/revolution.PNG");
@@ -77,4 +65,21 @@ public class GameFactoryService {
         return game;
     }
 
+    /** Einfluss pro Materialeinheit der Bau-Kategorien (neue, veränderbare Map). */
+    public static Map<Material, Double> materialWorths() {
+        Map<Material, Double> materialWorths = new HashMap<>();
+        materialWorths.put(Material.BAUMSTAEMME, 1.205);
+        materialWorths.put(Material.STEIN, 1.205);
+        materialWorths.put(Material.WEIZEN, 0.6025);
+        materialWorths.put(Material.ERZ, 0.6025);
+        materialWorths.put(Material.BRETTER, 0.3346);
+        materialWorths.put(Material.STEINZIEGEL, 0.1115);
+        materialWorths.put(Material.BROT, 0.7807);
+        materialWorths.put(Material.METALL, 1.1154);
+        materialWorths.put(Material.WAFFEN, 1.2269);
+        materialWorths.put(Material.ARBEITSKRAFT, 0.3346);
+        materialWorths.put(Material.MILITAERISCHE_STAERKE, 0.0536);
+        materialWorths.put(Material.HYMNEN, 0.00112);
+        return materialWorths;
+    }
 }
@@ -1,75 +1,310 @@
 package com.example.service;
 
+import com.example.event.GameChangeListener;
+import com.example.event.GameChangeSet;
+import com.example.metrics.MetricsRegistry;
+import com.example.metrics.jfr.FlightRecording;
+import com.example.metrics.jfr.InputAppliedEvent;
 import com.example.model.*;
 import com.example.net.*;
 
+import com.example.time.GameSnapshot;
+
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 public class GameService {
 
-    private Game game;
+    private volatile Game game;
 
-    private final com.example.repository.RepositoryService<Game> gameRepository;
-    private final com.example.time.GameRuntimeService gameRuntimeService;
+    // Lazy: erst wenn ein Spielstand/Modus gewählt wird (Launcher erscheint ohne Threads, Sockets, Verzeichnisse)
+    private volatile com.example.repository.RepositoryService<Game> gameRepository;
+    private volatile com.example.time.GameRuntimeService gameRuntimeService;
 
     // --- NodeMode / Networking ---
     private volatile NodeMode nodeMode = NodeMode.HOST;
     private String hostAddress = "127.0.0.1";
     private final int INPUT_PORT = 53536;
+    private final int BOARD_PORT = 8025;
 
     private transient NetInputServer netServer;  // nur auf HOST aktiv
+    private transient ResultBoardServer resultBoard; // Zuschauer-Board (HTTP), nur auf HOST
+    private transient AutoCloseable resultBoardSubscription;
     private transient NetInputClient netClient;  // nur auf SLAVE aktiv
 
     // optional: Discovery
     private transient DiscoveryResponder discoveryResponder;
 
+    // optional: Offscreen-Aufzeichnung der Ergebnisanzeige
+    private transient com.example.render.HeadlessResultRecorder resultRecorder;
+
+    // Metriken: Eingaben (Einreihen bis angewendet) pro InputType, Speichern/Backup, geschriebene Bytes
+    private final MetricsRegistry metrics = new MetricsRegistry();
+    private final Map<InputType, MetricsRegistry.Timer> inputTimers = new EnumMap<>(InputType.class);
+    private final MetricsRegistry.Timer saveTimer;
+    private final MetricsRegistry.Timer backupTimer;
+    private final MetricsRegistry.Counter bytesWritten;
+    private volatile long lastSaveNanos = -1;
+    private AutoCloseable metricsDump;
+    private FlightRecording flightRecording;
+    private static final Path RECORDING_DIR = Path.of("data", "recordings");
+
     public GameService() {
-        this.gameRepository = new com.example.repository.RepositoryService<>();
-        this.gameRuntimeService = new com.example.time.GameRuntimeService(this);
+        for (InputType t : InputType.values()) inputTimers.put(t, metrics.timer("input.apply." + t));
+        this.saveTimer = metrics.timer("save.write");
+        this.backupTimer = metrics.timer("save.backup");
+        this.bytesWritten = metrics.counter("save.bytes");
+    }
+
+    /** Repository, created on first use (creates {@code data/repository}). */
+    private com.example.repository.RepositoryService<Game> repository() {
+        com.example.repository.RepositoryService<Game> r = gameRepository;
+        if (r == null) {
+            synchronized (this) {
+                r = gameRepository;
+                if (r == null) gameRepository = r = new com.example.repository.RepositoryService<>();
+            }
+        }
+        return r;
+    }
+
+    /** Runtime (logic thread, I/O thread, clock), created on first use. */
+    private com.example.time.GameRuntimeService runtime() {
+        com.example.time.GameRuntimeService r = gameRuntimeService;
+        if (r == null) {
+            synchronized (this) {
+                r = gameRuntimeService;
+                if (r == null) gameRuntimeService = r = new com.example.time.GameRuntimeService(this, metrics);
+            }
+        }
+        return r;
     }
 
     // ----------------- Repository -----------------
 
     public void buildNewGame(String gameName) {
         game = GameFactoryService.newGame(gameName);
+        runtime().requestViewPublish();
     }
 
     public void loadGame(String gameName) throws Exception {
-        game = gameRepository.load(gameName);
+        game = repository().load(gameName);
+        runtime().requestViewPublish();
     }
 
-    public List<String> listSaves() { return gameRepository.listSaves(); }
+    public List<String> listSaves() { return repository().listSaves(); }
 
-    public List<String> listBackups(String baseName) { return gameRepository.listBackups(baseName); }
+    public List<String> listBackups(String baseName) { return repository().listBackups(baseName); }
 
-    public void saveGame() throws Exception { gameRepository.save(game); }
+    public void saveGame() throws Exception {
+        long t0 = System.nanoTime();
+        repository().save(game);
+        recordSave(t0);
+    }
 
-    public void backupGame() { gameRepository.backup(game); }
+    public void backupGame() {
+        long t0 = System.nanoTime();
+        repository().backup(game);
+        backupTimer.recordSince(t0);
+    }
+
+    /**
+     * Saves (and optionally backs up) a consistent snapshot without pausing the game:
+     * captured at the next tick boundary, written on the I/O thread.
+     */
+    public CompletableFuture<GameSnapshot> saveGameAsync(boolean withBackup) {
+        return runtime().requestSnapshot().thenApply(s -> {
+            try {
+                long t0 = System.nanoTime();
+                repository().saveSerialized(s.gameName(), s.data());
+                recordSave(t0);
+                bytesWritten.add(s.data().length);
+                if (withBackup) {
+                    t0 = System.nanoTime();
+                    repository().backupSerialized(s.gameName(), s.data());
+                    backupTimer.recordSince(t0);
+                    bytesWritten.add(s.data().length);
+                }
+                return s;
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    private void recordSave(long t0) {
+        long nanos = System.nanoTime() - t0;
+        saveTimer.record(nanos);
+        lastSaveNanos = nanos;
+    }
+
+    /** Duration of the last save (without backup), -1 before the first one. */
+    public double getLastSaveMillis() {
+        long n = lastSaveNanos;
+        return n < 0 ? -1.0 : n / 1e6;
+    }
+
+    /** Consistent copy of the game at the next tick boundary (replication, exports, ...). */
+    public CompletableFuture<GameSnapshot> requestSnapshot() { return runtime().requestSnapshot(); }
 
     // ----------------- GameRuntime -----------------
 
-    public void startGame() { gameRuntimeService.start(); }
+    public void startGame() { runtime().start(); }
 
-    public void pauseGame() { gameRuntimeService.pause(); }
+    public void pauseGame() {
+        com.example.time.GameRuntimeService r = gameRuntimeService;
+        if (r != null) r.pause();
+    }
 
-    public void resumeGame() { gameRuntimeService.resume(); }
+    public void resumeGame() { runtime().resume(); }
 
-    public void stopGame() { gameRuntimeService.stop(); }
+    public void stopGame() {
+        com.example.time.GameRuntimeService r = gameRuntimeService;
+        if (r != null) r.stop();
+    }
 
     // -------------- Logic thread helpers --------------
 
-    public void runOnLogic(Runnable r) { gameRuntimeService.runOnLogic(r); }
+    public void runOnLogic(Runnable r) { runtime().runOnLogic(r); }
+
+    public void runMaintenance(Runnable r) { runtime().runMaintenance(r); }
 
-    public <T> T callOnLogic(Callable<T> c) { return gameRuntimeService.callOnLogic(c); }
+    public <T> T callOnLogic(Callable<T> c) { return runtime().callOnLogic(c); }
 
     // ----------------- Accessors -----------------
 
     public Game getGame() { return game; }
 
+    /** Immutable, versioned snapshot for UI readers (published by the logic thread). */
+    public GameView getGameView() {
+        com.example.time.GameRuntimeService r = gameRuntimeService;
+        return r != null ? r.getView() : GameView.EMPTY;
+    }
+
+    /** Change notifications on the FX thread (one coalesced call per pulse). Close to unsubscribe. */
+    public AutoCloseable subscribeChangesFx(GameChangeListener listener) {
+        return runtime().subscribeChangesFx(listener);
+    }
+
+    /** Dirty flags of the current logic batch. Logic thread only. */
+    private GameChangeSet.Builder changes() { return runtime().changes(); }
+
+    public List<com.example.time.LogicExecutor.LaneMetrics> getLogicMetrics() {
+        return runtime().getLogicMetrics();
+    }
+
+    public com.example.time.GameClock.TickStats getTickStats() {
+        return runtime().getTickStats();
+    }
+
+    /**
+     * Blocked-logic-thread detection: {@code subscribe} for UI warnings, {@code topOffenders} /
+     * {@code recentStalls} for the post-mortem.
+     */
+    public com.example.time.LogicWatchdog getLogicWatchdog() { return runtime().getWatchdog(); }
+
+    /** Time the logic thread spent running tasks since start. */
+    public long getLogicBusyNanos() { return runtime().getLogicBusyNanos(); }
+
+    // ----------------- Metrics -----------------
+
+    /**
+     * Timings of the host: {@code clock.tick}, {@code clock.lag}, {@code clock.event.<name>},
+     * {@code snapshot.capture}, {@code input.apply.<InputType>} (queued until applied), {@code save.write},
+     * {@code save.backup}, {@code save.bytes}, {@code logic.queue.<LANE>}.
+     */
+    public MetricsRegistry getMetrics() { return metrics; }
+
+    /**
+     * Samples the live performance numbers every {@code period} on a background thread (see
+     * {@link PerformanceMonitor}); {@code listener} runs on that thread. Close the handle to stop.
+     */
+    public AutoCloseable startPerformanceMonitor(Duration period, Consumer<PerformanceMonitor.Sample> listener) {
+        PerformanceMonitor monitor = new PerformanceMonitor(this);
+        monitor.start(period, listener);
+        return monitor;
+    }
+
+    /** Appends a metrics snapshot to {@code file} every {@code period} (replaces a running dump). */
+    public synchronized void startMetricsDump(Path file, Duration period) {
+        stopMetricsDump();
+        metricsDump = getMetrics().startDump(file, period);
+    }
+
+    public synchronized void stopMetricsDump() {
+        if (metricsDump != null) {
+            try { metricsDump.close(); } catch (Exception ignored) {}
+            metricsDump = null;
+        }
+    }
+
+    // ----------------- Flight Recorder -----------------
+
+    /**
+     * Starts a JFR recording (JDK default settings + the game's events: ticks, inputs, saves, sync, result
+     * refreshes). No-op if one is already running.
+     */
+    public synchronized void startFlightRecording() throws IOException {
+        if (flightRecording == null) flightRecording = FlightRecording.start();
+    }
+
+    public synchronized boolean isFlightRecording() { return flightRecording != null; }
+
+    /**
+     * Writes the recording so far to {@code data/recordings/strat25_<timestamp>.jfr}; it keeps running.
+     * Can take seconds for a full buffer, so call it off the FX thread; the service lock is not held meanwhile.
+     */
+    public Path dumpFlightRecording() throws IOException {
+        FlightRecording recording;
+        synchronized (this) {
+            recording = flightRecording;
+        }
+        if (recording == null) throw new IllegalStateException("No flight recording running");
+        return recording.dump(RECORDING_DIR);
+    }
+
+    public synchronized void stopFlightRecording() {
+        if (flightRecording != null) {
+            flightRecording.close();
+            flightRecording = null;
+        }
+    }
+
+    // ----------------- Result recording -----------------
+
+    /**
+     * Records the result board offscreen as PNG frames into {@code outputDir} (1920x1080).
+     * Runs on its own worker threads from the published {@link GameView}; the FX thread is not involved.
+     */
+    public synchronized void startResultRecording(java.nio.file.Path outputDir, double fps) throws IOException {
+        stopResultRecording();
+        int workers = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        resultRecorder = new com.example.render.HeadlessResultRecorder(this::getGameView,
+                new com.example.render.ResultFrameRenderer(1920, 1080), outputDir, fps, workers);
+        resultRecorder.start();
+    }
+
+    public synchronized void stopResultRecording() {
+        if (resultRecorder != null) {
+            resultRecorder.close();
+            resultRecorder = null;
+        }
+    }
+
+    public synchronized com.example.render.HeadlessResultRecorder.Stats getResultRecordingStats() {
+        return resultRecorder != null ? resultRecorder.stats() : null;
+    }
+
     public void printCurrentGame() {
         if (getGame() == null) { System.out.println("No game loaded."); return; }
         System.out.println("Current Game: " + getGame().getName());
@@ -89,10 +324,12 @@ public class GameService {
         this.nodeMode = mode;
         if (mode == NodeMode.HOST) {
             ensureServerRunning();
+            ensureResultBoardRunning();
             stopDiscovery(); // optional
             this.netClient = null;
         } else {
             stopServer();
+            stopResultBoard();
             ensureClientReady();
             ensureDiscoveryRunning(); // optional
         }
@@ -119,6 +356,43 @@ public class GameService {
         }
     }
 
+    /** Spectator board on BOARD_PORT; fed from the logic thread's published snapshots. */
+    private void ensureResultBoardRunning() {
+        if (resultBoard != null) return;
+        ResultBoardServer board = new ResultBoardServer(BOARD_PORT);
+        try {
+            board.start();
+        } catch (IOException e) {
+            System.err.println("Result-Board konnte nicht gestartet werden (Port " + BOARD_PORT + "): " + e.getMessage());
+            return;
+        }
+        board.onGameChanged(getGameView(), GameChangeSet.ALL);
+        resultBoardSubscription = runtime().subscribeChanges(board);
+        resultBoard = board;
+    }
+
+    private void stopResultBoard() {
+        if (resultBoardSubscription != null) {
+            try { resultBoardSubscription.close(); } catch (Exception ignored) {}
+            resultBoardSubscription = null;
+        }
+        if (resultBoard != null) {
+            resultBoard.close();
+            resultBoard = null;
+        }
+    }
+
+    /** Stats of the input server (host only), null if it is not running. */
+    public NetInputServer.Stats getInputServerStats() {
+        NetInputServer s = netServer;
+        return s != null ? s.stats() : null;
+    }
+
+    public ResultBoardServer.Stats getResultBoardStats() {
+        ResultBoardServer b = resultBoard;
+        return b != null ? b.stats() : null;
+    }
+
     private void ensureClientReady() {
         netClient = new NetInputClient(hostAddress, INPUT_PORT);
     }
@@ -139,11 +413,26 @@ public class GameService {
 
     /** Für Application.stop(): beendet Netzwerkteile robust. */
     public void shutdown() {
+        stopResultRecording();
+        stopMetricsDump();
+        stopFlightRecording();
         stopDiscovery();
         stopServer();
+        stopResultBoard();
+        closeRuntime();
         // Client ist kurzlebig (pro Send neu), daher nichts nötig.
     }
 
+    /** Beendet Logic-, I/O- und Clock-Threads (falls je gestartet); ein späterer Zugriff legt sie neu an. */
+    private void closeRuntime() {
+        com.example.time.GameRuntimeService r;
+        synchronized (this) {
+            r = gameRuntimeService;
+            gameRuntimeService = null;
+        }
+        if (r != null) r.close();
+    }
+
     // ----------------- NEU: Verbindungstest (nur TCP-Connect) -----------------
     /** Prüft, ob der Host-Port erreichbar ist (TCP Connect mit Timeout). */
     public boolean testConnectionToHost() {
@@ -194,7 +483,7 @@ public class GameService {
         if (nodeMode == NodeMode.SLAVE) {
             send(new InputMessage(InputType.SET_SPEED).put("speed", speed));
         } else {
-            runOnLogic(() -> { if (game != null) game.getGameTime().setGameSpeed(speed); });
+            applyGameSpeed(speed);
         }
     }
 
@@ -202,10 +491,31 @@ public class GameService {
         if (nodeMode == NodeMode.SLAVE) {
             send(new InputMessage(InputType.SET_PRESTIGE_MULTIPLIER).put("mult", mult));
         } else {
-            runOnLogic(() -> { if (game != null) game.setPrestigeMultiplier(mult); });
+            applyPrestigeMultiplier(mult);
         }
     }
 
+    /** Kategorie-Multiplikator setzen (lokal, Logic-Thread). */
+    public void requestCategoryMultiplier(String categoryName, double mult) {
+        runOnLogic(() -> {
+            CategoryInterface ci = findCategoryByName(categoryName);
+            if (ci == null) return;
+            ci.setPrestigeMultiplier(mult);
+            changes().markSettings();
+        });
+    }
+
+    /** Nächste Bauetappe starten (lokal, Logic-Thread). {@code afterwards} läuft danach ebenfalls auf dem Logic-Thread. */
+    public void requestNextConstructionPhase(String buildCategoryName, Runnable afterwards) {
+        runOnLogic(() -> {
+            BuildCategory bc = findBuildCategoryByName(buildCategoryName);
+            if (bc == null) return;
+            bc.nextConstructionPhase();
+            changes().markBuildLedger(bc.getName());
+            if (afterwards != null) afterwards.run();
+        });
+    }
+
     private void send(InputMessage msg) {
         try {
             if (netClient == null) ensureClientReady();
@@ -239,26 +549,44 @@ public class GameService {
             }
             case SET_SPEED -> {
                 double speed = msg.getDouble("speed", 1.0);
-                runOnLogic(() -> { if (game != null) game.getGameTime().setGameSpeed(speed); });
+                applyGameSpeed(speed);
             }
             case SET_PRESTIGE_MULTIPLIER -> {
                 double mult = msg.getDouble("mult", 1.0);
-                runOnLogic(() -> { if (game != null) game.setPrestigeMultiplier(mult); });
+                applyPrestigeMultiplier(mult);
             }
         }
     }
 
     // ----------------- Reale Mutationen (Host, Logic-Thread) -----------------
 
+    private void applyGameSpeed(double speed) {
+        runInput(InputType.SET_SPEED, () -> {
+            if (game == null) return;
+            game.getGameTime().setGameSpeed(speed);
+            changes().markSettings();
+        });
+    }
+
+    private void applyPrestigeMultiplier(double mult) {
+        runInput(InputType.SET_PRESTIGE_MULTIPLIER, () -> {
+            if (game == null) return;
+            game.setPrestigeMultiplier(mult);
+            changes().markSettings();
+        });
+    }
+
     private void applyTeamPrestigeDelta(int teamId, double delta) {
-        runOnLogic(() -> {
+        runInput(InputType.TEAM_PRESTIGE_DELTA, () -> {
             Team t = findTeamById(teamId);
-            if (t != null) t.addPrestige(delta);
+            if (t == null) return;
+            t.addPrestige(delta);
+            changes().markTeamPrestige(t.getId());
         });
     }
 
     private void applyInfluenceDelta(int teamId, String categoryName, double delta) {
-        runOnLogic(() -> {
+        runInput(InputType.CATEGORY_INFLUENCE_DELTA, () -> {
             if (game == null || categoryName == null) return;
             CategoryInterface ci = findCategoryByName(categoryName);
             Team t = findTeamById(teamId);
@@ -266,11 +594,12 @@ public class GameService {
             Map<Integer, Double> map = ci.getInfluenceMap();
             map.putIfAbsent(t.getId(), 0.0);
             ci.addInfluence(t, delta);
+            changes().markCategoryInfluence(ci.getName());
         });
     }
 
     private void applyMaterialAdd(int teamId, String buildCategoryName, String materialName, int amount) {
-        runOnLogic(() -> {
+        runInput(InputType.MATERIAL_ADD, () -> {
             if (game == null) return;
             BuildCategory bc = findBuildCategoryByName(buildCategoryName);
             Team t = findTeamById(teamId);
@@ -282,6 +611,29 @@ public class GameService {
             final int payAmount = Math.min(amount, free);
             if (payAmount <= 0) return;
             bc.addMaterial(t, mat, payAmount);
+            changes().markBuildLedger(bc.getName()).markCategoryInfluence(bc.getName());
+        });
+    }
+
+    /** Like runOnLogic, plus the input latency (queued until applied) per type and a JFR event. */
+    private void runInput(InputType type, Runnable mutation) {
+        MetricsRegistry.Timer timer = inputTimers.get(type);
+        long t0 = System.nanoTime();
+        runOnLogic(() -> {
+            long started = System.nanoTime();
+            InputAppliedEvent jfr = new InputAppliedEvent();
+            jfr.begin();
+            try {
+                mutation.run();
+            } finally {
+                timer.recordSince(t0);
+                jfr.end();
+                if (jfr.shouldCommit()) {
+                    jfr.inputType = type.name();
+                    jfr.queueWait = started - t0;
+                    jfr.commit();
+                }
+            }
         });
     }
 
@@ -0,0 +1,177 @@
+package com.example.service;
+
+import com.example.metrics.MetricsRegistry;
+import com.example.net.InputType;
+import com.example.net.NetInputServer;
+import com.example.net.ResultBoardServer;
+import com.example.time.GameClock;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * PerformanceMonitor
+ * ------------------
+ * Samples the host's live numbers on its own daemon thread at a fixed, low rate (default 1 s) and hands
+ * each {@link Sample} to a listener (e.g. the performance panel of the control window).
+ *
+ * - Rates and utilization are deltas between two samples, so the first sample after start is a warm-up.
+ * - Only reads counters that already exist (logic executor, clock, metrics timers, server stats,
+ *   JMX MXBeans); nothing is posted to the logic thread, monitoring never competes with the game.
+ * - Input latency (queued until applied) is the mean of the interval plus the p99 since start.
+ *
+ * Start via {@link GameService#startPerformanceMonitor(Duration, Consumer)}; close the handle to stop.
+ */
+public final class PerformanceMonitor implements AutoCloseable {
+
+    public static final Duration DEFAULT_PERIOD = Duration.ofSeconds(1);
+
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    private final GameService gameService;
+    private final List<MetricsRegistry.Timer> inputTimers;
+    private final List<GarbageCollectorMXBean> gcs = ManagementFactory.getGarbageCollectorMXBeans();
+    private ScheduledExecutorService ses;
+
+    // previous sample (sampler thread only)
+    private long lastNanos;
+    private long lastBusyNanos;
+    private long lastInputs;
+    private double lastInputSumMicros;
+    private long lastNetBytes;
+    private long lastGcCount;
+    private long lastGcMillis;
+
+    PerformanceMonitor(GameService gameService) {
+        this.gameService = gameService;
+        MetricsRegistry m = gameService.getMetrics();
+        this.inputTimers = Arrays.stream(InputType.values())
+                .map(t -> m.timer("input.apply." + t))
+                .toList();
+        sample(); // baseline for the first interval
+    }
+
+    /** Starts sampling every {@code period}; {@code listener} runs on the sampler thread. */
+    void start(Duration period, Consumer<Sample> listener) {
+        ses = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "perf-monitor");
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        });
+        long millis = Math.max(100, period.toMillis());
+        ses.scheduleAtFixedRate(() -> {
+            try {
+                listener.accept(sample());
+            } catch (RuntimeException e) {
+                System.err.println("Performance-Monitor: " + e.getMessage());
+            }
+        }, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        if (ses != null) ses.shutdownNow();
+    }
+
+    /** Takes one sample (deltas against the previous call). Package-private for tests. */
+    Sample sample() {
+        long now = System.nanoTime();
+        double seconds = lastNanos == 0 ? 0.0 : (now - lastNanos) / 1e9;
+
+        // logic thread
+        long busy = gameService.getLogicBusyNanos();
+        double utilization = seconds > 0 ? Math.min(1.0, (busy - lastBusyNanos) / 1e9 / seconds) : 0.0;
+        GameClock.TickStats tick = gameService.getTickStats();
+
+        // inputs: count and latency sum of all types (count * mean = sum)
+        long inputs = 0;
+        double sumMicros = 0;
+        double p99Micros = 0;
+        for (MetricsRegistry.Timer t : inputTimers) {
+            MetricsRegistry.TimerStats st = t.stats();
+            inputs += st.count();
+            sumMicros += st.count() * st.meanMicros();
+            p99Micros = Math.max(p99Micros, st.p99Micros());
+        }
+        long newInputs = inputs - lastInputs;
+        double inputMeanMillis = newInputs > 0 ? (sumMicros - lastInputSumMicros) / newInputs / 1e3 : 0.0;
+
+        // network
+        NetInputServer.Stats in = gameService.getInputServerStats();
+        ResultBoardServer.Stats board = gameService.getResultBoardStats();
+        long netBytes = (in != null ? in.bytesIn() + in.bytesOut() : 0) + (board != null ? board.bytesSent() : 0);
+
+        // heap / gc
+        MemoryUsage heap = MEMORY.getHeapMemoryUsage();
+        long gcCount = 0, gcMillis = 0;
+        for (GarbageCollectorMXBean gc : gcs) {
+            gcCount += Math.max(0, gc.getCollectionCount());
+            gcMillis += Math.max(0, gc.getCollectionTime());
+        }
+
+        Sample s = new Sample(
+                utilization,
+                tick.lastLagMicros() / 1e3, tick.maxLagMicros() / 1e3, tick.lastTickMicros() / 1e3,
+                seconds > 0 ? newInputs / seconds : 0.0, inputMeanMillis, p99Micros / 1e3,
+                gameService.getLastSaveMillis(),
+                in != null ? in.slaves() : 0, board != null ? board.viewers() : 0,
+                seconds > 0 ? Math.max(0, netBytes - lastNetBytes) / seconds : 0.0,
+                heap.getUsed(), heap.getMax(),
+                gcCount - lastGcCount, seconds > 0 ? (gcMillis - lastGcMillis) / seconds : 0.0);
+
+        lastNanos = now;
+        lastBusyNanos = busy;
+        lastInputs = inputs;
+        lastInputSumMicros = sumMicros;
+        lastNetBytes = netBytes;
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+        return s;
+    }
+
+    /**
+     * One sample. Rates per second over the last interval; {@code lastSaveMillis} is -1 before the first
+     * save, {@code heapMaxBytes} -1 if undefined.
+     */
+    public record Sample(double logicUtilization,
+                         double tickLagMillis, double maxTickLagMillis, double lastTickMillis,
+                         double inputsPerSecond, double inputMeanMillis, double inputP99Millis,
+                         double lastSaveMillis,
+                         int slaves, int viewers, double netBytesPerSecond,
+                         long heapUsedBytes, long heapMaxBytes, long gcCount, double gcMillisPerSecond) {
+
+        /** Display text for the control window. */
+        public String format() {
+            return String.format(Locale.ROOT,
+                    "Logic-Thread  %5.1f %% ausgelastet, Tick %.1f ms%n" +
+                    "Tick-Verzug   %6.1f ms (max %.1f ms)%n" +
+                    "Eingaben      %6.1f /s, Ø %.2f ms, p99 %.2f ms%n" +
+                    "Speichern     %s%n" +
+                    "Netz          %d Slaves, %d Zuschauer, %s/s%n" +
+                    "Heap          %s / %s, GC %d× (%.1f ms/s)",
+                    logicUtilization * 100, lastTickMillis,
+                    tickLagMillis, maxTickLagMillis,
+                    inputsPerSecond, inputMeanMillis, inputP99Millis,
+                    lastSaveMillis < 0 ? "–" : String.format(Locale.ROOT, "%.1f ms (zuletzt)", lastSaveMillis),
+                    slaves, viewers, bytes(netBytesPerSecond),
+                    bytes(heapUsedBytes), heapMaxBytes < 0 ? "?" : bytes(heapMaxBytes), gcCount, gcMillisPerSecond);
+        }
+
+        private static String bytes(double b) {
+            if (b < 1024) return String.format(Locale.ROOT, "%.0f B", b);
+            if (b < 1024 * 1024) return String.format(Locale.ROOT, "%.1f KB", b / 1024);
+            return String.format(Locale.ROOT, "%.1f MB", b / (1024 * 1024));
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.example.time;
 
+import com.example.metrics.MetricsRegistry;
+import com.example.metrics.jfr.GameTickEvent;
 import com.example.model.Game;
 import com.example.model.GameTime;
 import javafx.application.Platform;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.OptionalLong;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
@@ -28,6 +33,29 @@ import java.util.function.Supplier;
  *  - Each tick is posted to the provided logic Executor (single writer).
  *  - Events are executed on the logic thread as well (no overlap).
  *  - For JavaFX UI updates, use GameClock.fx(() -> {*update UI*}).
+ *
+ * Tick budget (high game speeds):
+ *  - One real tick advances gameSpeed game-seconds, split into sub-steps of at most
+ *    maxSubStepSeconds. Due events are checked after every sub-step, so a period-10 event
+ *    fires 100x per tick at 1000x speed (event counts only depend on game time, not on speed).
+ *  - Every tick is measured (thread CPU time if available, else wall time). If a tick exceeds
+ *    the budget, the remaining game time is carried over as backlog into the next tick:
+ *    the effective speed drops, but event counts stay consistent with game time.
+ *    Backlog beyond maxBacklogTicks ticks worth of game time is dropped (counted in TickStats).
+ *  - Coalesced events (e.g. autosave) fire at most once per tick, however many periods passed.
+ *
+ * Tick lag: wall time from the scheduled instant of a tick (start + n seconds) until it starts on the
+ * logic thread, i.e. scheduler delay plus queueing behind other logic work ({@code lastLagMicros}).
+ * Ticks that are posted but not started yet are visible while they wait ({@link #oldestPendingTickDue()}),
+ * so a blocked logic thread can be detected before the tick finally runs (see {@link LogicWatchdog}).
+ * If the logic executor rejects a tick (TICK lane stayed full), that tick is dropped and counted
+ * ({@code droppedTicks}); the schedule keeps running.
+ *
+ * Metrics (optional, {@link #setMetrics(MetricsRegistry)}):
+ *  - {@code clock.tick}: duration of every tick (same CPU/wall time as TickStats),
+ *  - {@code clock.lag}: tick lag of every scheduled tick,
+ *  - {@code clock.event.<name>}: wall time of every run of a registered event.
+ * Every tick is also a JFR {@link GameTickEvent} (when a recording is running).
  */
 public class GameClock implements AutoCloseable {
 
@@ -43,14 +71,46 @@ public class GameClock implements AutoCloseable {
     private final AtomicBoolean paused  = new AtomicBoolean(false);
 
     private ScheduledFuture<?> tickHandle;
+    private final long periodNanos;
+    private long scheduledTicks; // scheduler thread only
+    private boolean droppingTicks; // scheduler thread only
+    private volatile long droppedTicks;
+    private final ConcurrentLinkedQueue<Long> pendingTicks = new ConcurrentLinkedQueue<>();
 
     // Playtime-based events (managed on logic thread)
     private final Map<String, GameTimedEvent> events = new HashMap<>();
 
+    // Optional hook after each tick (runs on logic thread), e.g. to mark TIME dirty
+    private volatile Runnable tickListener;
+
+    // Tick budget (see class doc)
+    private volatile double maxSubStepSeconds = 1.0;
+    private volatile long tickBudgetNanos = TimeUnit.MILLISECONDS.toNanos(250);
+    private volatile double maxBacklogTicks = 5.0;
+
+    // Tick measurement (written on logic thread only, read anywhere)
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private final boolean cpuTimeSupported = THREADS.isCurrentThreadCpuTimeSupported();
+    private volatile double backlogSeconds;
+    private volatile long ticks, subSteps, eventsFired, overBudgetTicks;
+    private volatile long lastTickNanos, maxTickNanos, totalTickNanos;
+    private volatile double droppedGameSeconds;
+    private volatile long lastLagNanos, maxLagNanos;
+
+    private volatile MetricsRegistry metrics;
+    private volatile MetricsRegistry.Timer tickTimer;
+    private volatile MetricsRegistry.Timer lagTimer;
+
     /** Creates a GameClock that posts ticks & events onto the given logic executor. */
     public GameClock(Supplier<Game> gameSupplier, Executor logic) {
+        this(gameSupplier, logic, TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /** Real-time period other than 1 s. Package-private for tests. */
+    GameClock(Supplier<Game> gameSupplier, Executor logic, long periodNanos) {
         this.gameSupplier = gameSupplier;
         this.logic = logic;
+        this.periodNanos = periodNanos;
     }
 
     /** Starts time advancing and event checks. Idempotent. */
@@ -59,11 +119,27 @@ public class GameClock implements AutoCloseable {
         running.set(true);
         paused.set(false);
 
+        final long origin = System.nanoTime();
+        scheduledTicks = 0;
         tickHandle = scheduler.scheduleAtFixedRate(() -> {
+            long due = origin + ++scheduledTicks * periodNanos;
             if (!running.get() || paused.get()) return;
             // Post the whole tick to the logic thread (single writer)
-            logic.execute(this::tickOnceOnLogic);
-        }, 1, 1, TimeUnit.SECONDS);
+            pendingTicks.add(due);
+            try {
+                logic.execute(() -> tickOnceOnLogic(due));
+                droppingTicks = false;
+            } catch (RuntimeException e) {
+                // TICK lane full for too long (logic thread blocked) or shut down: drop this tick.
+                // Never rethrow, an exception here would cancel the schedule for good.
+                pendingTicks.remove(due);
+                droppedTicks++;
+                if (!droppingTicks) {
+                    droppingTicks = true;
+                    System.err.println("GameClock: Tick verworfen (" + e.getMessage() + ")");
+                }
+            }
+        }, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
     }
 
     /** Freezes time and event firing (events won't trigger while paused). */
@@ -94,35 +170,187 @@ public class GameClock implements AutoCloseable {
 
     // ---------- Tick (runs on logic thread) ----------------------------------
 
-    private void tickOnceOnLogic() {
+    /** A scheduled tick that was due at {@code dueNanos} ({@link System#nanoTime()}); records the lag. */
+    void tickOnceOnLogic(long dueNanos) {
+        pendingTicks.remove(dueNanos);
+        long lag = Math.max(0L, System.nanoTime() - dueNanos);
+        lastLagNanos = lag;
+        if (lag > maxLagNanos) maxLagNanos = lag;
+        MetricsRegistry.Timer lt = lagTimer;
+        if (lt != null) lt.record(lag);
+        tickOnceOnLogic();
+    }
+
+    /** One real-time tick. Package-private so tests can drive the clock without the scheduler. */
+    void tickOnceOnLogic() {
         Game g = gameSupplier.get();
         if (g == null) return;
         GameTime gt = g.getGameTime();
         if (gt == null) return;
 
-        // 1) advance active playtime by gameSpeed (scaledSeconds += gameSpeed)
-        double next = gt.getScaledSeconds() + gt.getGameSpeed();
-        gt.setScaledSeconds(next);
+        GameTickEvent jfr = new GameTickEvent();
+        jfr.begin();
+        final double startSeconds = gt.getScaledSeconds();
+        final long firedBefore = eventsFired;
+        final long startCpu = cpuTimeSupported ? THREADS.getCurrentThreadCpuTime() : 0L;
+        final long startWall = System.nanoTime();
+        final long budget = tickBudgetNanos;
+        final double stepMax = maxSubStepSeconds;
 
-        // 2) check due events against whole game-seconds
-        long now = (long) Math.floor(next); // floor avoids early firing
+        // 1) game time owed for this tick (+ backlog of earlier, over-budget ticks)
+        double speed = gt.getGameSpeed();
+        double remaining = backlogSeconds + speed;
+        backlogSeconds = 0.0;
 
         // iterate over a copy to avoid CME if someone unregisters concurrently on logic
-        for (GameTimedEvent ev : events.values().toArray(new GameTimedEvent[0])) {
-            if (now >= ev.nextDueSeconds) {
+        GameTimedEvent[] evs = events.values().toArray(new GameTimedEvent[0]);
+        long startWhole = (long) Math.floor(gt.getScaledSeconds());
+        for (GameTimedEvent ev : evs) {
+            ev.firedThisTick = false;
+            // stale due time (game loaded / time set outside a tick): fire once, don't replay history
+            if (ev.nextDueSeconds < startWhole) ev.nextDueSeconds = startWhole;
+        }
+
+        // 2) advance in bounded sub-steps, check due events after each one
+        long steps = 0;
+        long elapsed = 0;
+        while (remaining > 1e-9) {
+            double step = Math.min(remaining, stepMax);
+            double next = gt.getScaledSeconds() + step;
+            gt.setScaledSeconds(next);
+            remaining -= step;
+            steps++;
+
+            fireDueEvents(evs, (long) Math.floor(next)); // floor avoids early firing
+
+            elapsed = cpuTimeSupported
+                    ? THREADS.getCurrentThreadCpuTime() - startCpu
+                    : System.nanoTime() - startWall;
+            if (elapsed > budget && remaining > 1e-9) {
+                // Graceful degradation: carry the rest over instead of blocking the logic thread
+                double cap = Math.max(speed, stepMax) * maxBacklogTicks;
+                if (remaining > cap) {
+                    droppedGameSeconds += remaining - cap;
+                    remaining = cap;
+                }
+                backlogSeconds = remaining;
+                break;
+            }
+        }
+
+        // 3) stats
+        ticks++;
+        subSteps += steps;
+        lastTickNanos = elapsed;
+        totalTickNanos += elapsed;
+        if (elapsed > maxTickNanos) maxTickNanos = elapsed;
+        if (elapsed > budget) overBudgetTicks++;
+        MetricsRegistry.Timer tt = tickTimer;
+        if (tt != null) tt.record(elapsed);
+        jfr.end();
+        if (jfr.shouldCommit()) {
+            jfr.gameSeconds = gt.getScaledSeconds() - startSeconds;
+            jfr.subSteps = (int) steps;
+            jfr.eventsFired = (int) (eventsFired - firedBefore);
+            jfr.overBudget = elapsed > budget;
+            jfr.backlogSeconds = backlogSeconds;
+            jfr.commit();
+        }
+
+        Runnable l = tickListener;
+        if (l != null) l.run();
+    }
+
+    private void fireDueEvents(GameTimedEvent[] evs, long now) {
+        for (GameTimedEvent ev : evs) {
+            // several periods can be due if a sub-step is longer than the period
+            while (now >= ev.nextDueSeconds) {
+                if (ev.coalesce && ev.firedThisTick) {
+                    // already ran in this tick: skip the missed periods
+                    ev.nextDueSeconds = now + ev.periodSeconds;
+                    break;
+                }
+                long t0 = System.nanoTime();
                 try {
                     ev.job.run(); // runs on logic thread (serial)
+                    eventsFired++;
                 } catch (Throwable t) {
                     t.printStackTrace();
                 } finally {
-                    long nextDue = now + ev.periodSeconds;
-                    if (nextDue <= now) nextDue = now + 1; // safety net
-                    ev.nextDueSeconds = nextDue;
+                    MetricsRegistry.Timer et = ev.timer(metrics);
+                    if (et != null) et.recordSince(t0);
+                    ev.firedThisTick = true;
+                    ev.nextDueSeconds += ev.periodSeconds;
                 }
             }
         }
     }
 
+    /** Sets a hook that runs on the logic thread after every tick (after due events). */
+    public void setTickListener(Runnable listener) { this.tickListener = listener; }
+
+    /** Records tick and event durations into {@code registry} (null = off). */
+    public void setMetrics(MetricsRegistry registry) {
+        this.metrics = registry;
+        this.tickTimer = registry != null ? registry.timer("clock.tick") : null;
+        this.lagTimer = registry != null ? registry.timer("clock.lag") : null;
+    }
+
+    // ---------- Tick budget ---------------------------------------------------
+
+    /** Largest game-time step between two event checks (default 1 game-second). */
+    public void setMaxSubStepSeconds(double seconds) {
+        if (seconds <= 0) throw new IllegalArgumentException("seconds must be > 0");
+        this.maxSubStepSeconds = seconds;
+    }
+
+    /** CPU time one tick may use before the rest is carried over (default 250 ms of the 1 s period). */
+    public void setTickBudget(long amount, TimeUnit unit) {
+        if (amount <= 0) throw new IllegalArgumentException("budget must be > 0");
+        this.tickBudgetNanos = unit.toNanos(amount);
+    }
+
+    /** How many ticks worth of game time may pile up as backlog before it is dropped (default 5). */
+    public void setMaxBacklogTicks(double ticks) {
+        if (ticks < 0) throw new IllegalArgumentException("ticks must be >= 0");
+        this.maxBacklogTicks = ticks;
+    }
+
+    /**
+     * Scheduled instant ({@link System#nanoTime()}) of the oldest tick that was posted to the logic thread
+     * but has not started yet; empty if none is waiting. Any thread.
+     */
+    public OptionalLong oldestPendingTickDue() {
+        Long due = pendingTicks.peek();
+        return due != null ? OptionalLong.of(due) : OptionalLong.empty();
+    }
+
+    /** Snapshot of the tick measurements (racy but consistent enough for display). */
+    public TickStats getTickStats() {
+        long n = ticks;
+        return new TickStats(n, subSteps, eventsFired, overBudgetTicks,
+                lastTickNanos / 1_000,
+                maxTickNanos / 1_000,
+                n == 0 ? 0 : totalTickNanos / n / 1_000,
+                backlogSeconds,
+                droppedGameSeconds,
+                cpuTimeSupported,
+                lastLagNanos / 1_000,
+                maxLagNanos / 1_000,
+                droppedTicks);
+    }
+
+    /**
+     * Tick measurements. Times are CPU micros of the logic thread ({@code cpuTime}) or wall micros.
+     * {@code backlogSeconds}: game time still owed; {@code droppedGameSeconds}: game time given up.
+     * {@code lastLagMicros}/{@code maxLagMicros}: tick lag in wall micros (see class doc).
+     * {@code droppedTicks}: scheduled ticks the logic executor rejected.
+     */
+    public record TickStats(long ticks, long subSteps, long eventsFired, long overBudgetTicks,
+                            long lastTickMicros, long maxTickMicros, long avgTickMicros,
+                            double backlogSeconds, double droppedGameSeconds, boolean cpuTime,
+                            long lastLagMicros, long maxLagMicros, long droppedTicks) { }
+
     // ---------- Queries & Convenience (proxy to GameTime) ---------------------
 
     /** Returns whole game-seconds (floored). */
@@ -186,14 +414,23 @@ public class GameClock implements AutoCloseable {
      * Registers an event that fires every 'periodSeconds' of *game time*,
      * with a custom initial delay. If initialDelaySeconds==0, it fires immediately (on next eligible tick).
      */
-    public synchronized void registerPeriodicByGameTime(String name, Runnable job,
-                                                        long periodSeconds, long initialDelaySeconds) {
+    public void registerPeriodicByGameTime(String name, Runnable job,
+                                           long periodSeconds, long initialDelaySeconds) {
+        registerPeriodicByGameTime(name, job, periodSeconds, initialDelaySeconds, false);
+    }
+
+    /**
+     * Like {@link #registerPeriodicByGameTime(String, Runnable, long, long)}; with coalesce=true the
+     * event fires at most once per real tick (for jobs like autosave that must not repeat at high speed).
+     */
+    public synchronized void registerPeriodicByGameTime(String name, Runnable job, long periodSeconds,
+                                                        long initialDelaySeconds, boolean coalesce) {
         if (periodSeconds <= 0) throw new IllegalArgumentException("periodSeconds must be > 0");
         if (initialDelaySeconds < 0) throw new IllegalArgumentException("initialDelaySeconds must be >= 0");
         if (events.containsKey(name)) throw new IllegalStateException("Event already exists: " + name);
 
         long startNow = getElapsedSeconds(); // current whole game-seconds
-        events.put(name, new GameTimedEvent(name, job, periodSeconds, initialDelaySeconds, startNow));
+        events.put(name, new GameTimedEvent(name, job, periodSeconds, initialDelaySeconds, startNow, coalesce));
     }
 
     /** Removes a registered event by name. Call on the logic thread for safety. */
@@ -219,15 +456,29 @@ public class GameClock implements AutoCloseable {
         final Runnable job;          // executed on logic thread
         final long periodSeconds;
         final long initialDelaySeconds;
+        final boolean coalesce;      // at most once per real tick
         volatile long nextDueSeconds; // next due time in whole *game seconds*
+        boolean firedThisTick;       // logic thread only
+        MetricsRegistry.Timer timer; // logic thread only, resolved on first run
+        MetricsRegistry timerOwner;
 
         GameTimedEvent(String name, Runnable job, long periodSeconds,
-                       long initialDelaySeconds, long startNowSeconds) {
+                       long initialDelaySeconds, long startNowSeconds, boolean coalesce) {
             this.name = name;
             this.job = job;
             this.periodSeconds = periodSeconds;
             this.initialDelaySeconds = initialDelaySeconds;
+            this.coalesce = coalesce;
             this.nextDueSeconds = startNowSeconds + initialDelaySeconds;
         }
+
+        MetricsRegistry.Timer timer(MetricsRegistry registry) {
+            if (registry == null) return null;
+            if (registry != timerOwner) {
+                timer = registry.timer("clock.event." + name);
+                timerOwner = registry;
+            }
+            return timer;
+        }
     }
 }
@@ -1,8 +1,15 @@
 package com.example.time;
 
+import com.example.event.GameChangeBus;
+import com.example.event.GameChangeListener;
+import com.example.event.GameChangeSet;
+import com.example.metrics.MetricsRegistry;
 import com.example.model.Game;
+import com.example.model.GameView;
 import com.example.service.GameService;
+import com.example.time.LogicExecutor.Lane;
 
+import java.util.List;
 import java.util.concurrent.*;
 import java.util.function.Supplier;
 
@@ -11,11 +18,17 @@ import java.util.function.Supplier;
  * ------------------
  * Orchestrates time-driven gameplay for the active session.
  * Uses a single-threaded Logic Executor as the only writer to game state.
+ * The logic executor has priority lanes: clock ticks > input mutations > bulk maintenance.
  *
  * Responsibilities:
  *  - Owns a GameClock and registers playtime-based events (autosave, prestige, ...).
  *  - Exposes lifecycle controls: start / pause / resume / stop / close.
  *  - Reads & writes time/speed via the Game's persisted GameTime.
+ *  - Publishes an immutable {@link GameView} plus the dirty flags ({@link GameChangeSet}) after every
+ *    batch of logic tasks that changed something (lock-free UI reads, event-driven UI updates).
+ *  - Watches the logic thread ({@link LogicWatchdog}): late ticks -> sampled stacks + listeners.
+ *  - Records into the {@link MetricsRegistry} of the session: {@code clock.tick}, {@code clock.lag}, {@code clock.event.<name>},
+ *    {@code snapshot.capture}, {@code logic.batch.publish} (timers), {@code logic.queue.<LANE>} (gauges).
  *
  * Usage:
  *  - Construct with a GameService (must expose getGame()).
@@ -25,14 +38,10 @@ public class GameRuntimeService implements AutoCloseable {
 
     private final GameService gameService;
 
-    /** The ONLY thread that mutates game state. */
-    private final ExecutorService logic = Executors.newSingleThreadExecutor(r -> {
-        Thread t = new Thread(r, "game-logic");
-        t.setDaemon(true);
-        return t;
-    });
+    /** The ONLY thread that mutates game state (bounded, prioritized lanes). */
+    private final LogicExecutor logic = new LogicExecutor("game-logic");
 
-    /** Optional separate pool for heavy I/O tasks if ever needed. */
+    /** I/O thread: writes saves from snapshots, completes snapshot requests. */
     private final ExecutorService io = Executors.newSingleThreadExecutor(r -> {
         Thread t = new Thread(r, "game-io");
         t.setDaemon(true);
@@ -41,22 +50,58 @@ public class GameRuntimeService implements AutoCloseable {
 
     private final GameClock clock;
 
+    /** Consistent snapshots at tick boundaries (saves, replication, exports). */
+    private final SnapshotBarrier snapshots;
+
+    /** Change notifications + latest read snapshot (written only by the logic thread). */
+    private final GameChangeBus changeBus = new GameChangeBus();
+    private long viewVersion = 0L; // logic thread only
+
+    /** Timings of the logic thread and its clients (lock-free recording). */
+    private final MetricsRegistry metrics;
+    private final MetricsRegistry.Timer publishTimer;
+
+    /** Samples the logic thread while ticks are late (runs while the clock is started). */
+    private final LogicWatchdog watchdog;
+
     /**
      * Preferred constructor. The clock will always operate on the current Game
      * from the GameService (even if you load/switch saves later).
      */
     public GameRuntimeService(GameService gameService) {
-        this(gameService, /*unused legacy param*/ 0);
+        this(gameService, new MetricsRegistry());
     }
 
     public GameRuntimeService(GameService gameService, int ignored) {
+        this(gameService, new MetricsRegistry());
+    }
+
+    /** Records into {@code metrics} (owned by the caller, may outlive this runtime). */
+    public GameRuntimeService(GameService gameService, MetricsRegistry metrics) {
         this.gameService = gameService;
+        this.metrics = metrics;
+        this.publishTimer = metrics.timer("logic.batch.publish");
 
         // Supplier that always returns the current Game from the session
         Supplier<Game> gameSupplier = this::getGame;
 
-        // Clock posts all ticks & events onto the logic executor
-        this.clock = new GameClock(gameSupplier, logic);
+        // Clock posts all ticks & events onto the TICK lane of the logic executor
+        this.clock = new GameClock(gameSupplier, logic.lane(Lane.TICK));
+
+        // Every tick advances playtime
+        clock.setTickListener(() -> changeBus.changes().markTime());
+
+        // After each batch of mutations: publish a fresh snapshot
+        logic.setBatchListener(this::publishView, 256);
+
+        this.snapshots = new SnapshotBarrier(gameSupplier, () -> clock.getTickStats().ticks(),
+                logic.lane(Lane.TICK), io, metrics.timer("snapshot.capture"));
+
+        clock.setMetrics(metrics);
+        this.watchdog = new LogicWatchdog(clock::oldestPendingTickDue, logic.getWorkerThread(), metrics);
+        for (Lane lane : Lane.values()) {
+            metrics.gauge("logic.queue." + lane, () -> logic.getQueueDepth(lane));
+        }
 
         registerTimedEvents();
     }
@@ -67,27 +112,24 @@ public class GameRuntimeService implements AutoCloseable {
      */
     private void registerTimedEvents() {
         // AUTOSAVE: every 10 minutes of active playtime
+        // Snapshot at the next tick boundary, written on the I/O thread -> the clock keeps running.
         clock.registerPeriodicByGameTime(
                 "autosave",
-                () -> {
-                    try {
-                        // Pause time & events while saving to keep a clean snapshot.
-                        pause();
-                        gameService.saveGame(); // runs on logic thread; blocks logic briefly
-                        gameService.backupGame();
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                    } finally {
-                        resume();
-                    }
-                },
-                10 * 60
+                () -> gameService.saveGameAsync(true).exceptionally(ex -> {
+                    ex.printStackTrace();
+                    return null;
+                }),
+                10 * 60, 10 * 60,
+                true // coalesced: at high game speed at most one save per real tick
         );
 
         // PRESTIGE: every 10 seconds of active playtime
         clock.registerPeriodicByGameTime(
                 "prestigeDistribution",
-                () -> getGame().addTimedPrestige(),
+                () -> {
+                    getGame().addTimedPrestige();
+                    changeBus.changes().markAllTeamsPrestige();
+                },
                 10
         );
 
@@ -97,6 +139,7 @@ public class GameRuntimeService implements AutoCloseable {
                 () -> {
                     Game g = getGame();
                     g.setPrestigeMultiplier(g.getPrestigeMultiplier() * 1.05);
+                    changeBus.changes().markSettings();
                 },
                 10 * 60
         );
@@ -105,7 +148,10 @@ public class GameRuntimeService implements AutoCloseable {
     // ----------------- Lifecycle -----------------
 
     /** Starts the playtime clock and enables event firing. */
-    public void start()  { clock.start(); }
+    public void start()  {
+        clock.start();
+        watchdog.start();
+    }
 
     /** Freezes playtime and events (no events fire while paused). */
     public void pause()  { clock.pause(); }
@@ -123,6 +169,7 @@ public class GameRuntimeService implements AutoCloseable {
     @Override
     public void close()  {
         stop();
+        watchdog.close();
         clock.close();
         logic.shutdownNow();
         io.shutdownNow();
@@ -142,14 +189,78 @@ public class GameRuntimeService implements AutoCloseable {
 
     public Game getGame() { return gameService.getGame(); }
 
+    /** Latest immutable snapshot of the game (lock-free; compare versions to skip unchanged frames). */
+    public GameView getView() { return changeBus.current(); }
+
+    /** Forces a full new snapshot, e.g. after a game was created or loaded outside the logic thread. */
+    public void requestViewPublish() {
+        runOnLogic(() -> changeBus.changes().markGame());
+    }
+
+    /**
+     * Dirty flags of the current batch. Logic thread only: mark what a mutation changed,
+     * the snapshot + notification follow automatically after the batch.
+     */
+    public GameChangeSet.Builder changes() { return changeBus.changes(); }
+
+    /** Notifications on the logic thread (keep listeners short). */
+    public AutoCloseable subscribeChanges(GameChangeListener listener) { return changeBus.subscribe(listener); }
+
+    /** Notifications on the FX thread, coalesced to one Platform.runLater per pulse. */
+    public AutoCloseable subscribeChangesFx(GameChangeListener listener) { return changeBus.subscribeFx(listener); }
+
+    /** Logic thread only: capture + publish, but only if something was marked dirty. */
+    private void publishView() {
+        if (!changeBus.hasPendingChanges()) return;
+        long t0 = System.nanoTime();
+        GameChangeSet changes = changeBus.drain();
+        changeBus.publish(GameView.capture(getGame(), ++viewVersion), changes);
+        publishTimer.recordSince(t0);
+    }
+
     // -------------- Logic API for controllers/services --------
 
-    /** Post a mutation to the single logic thread (fire-and-forget). */
-    public void runOnLogic(Runnable r) { logic.execute(r); }
+    /**
+     * Requests a consistent copy of the game, taken at the next tick boundary on the logic thread.
+     * Concurrent requests share one capture. The future completes on the I/O thread; the clock never stops.
+     */
+    public CompletableFuture<GameSnapshot> requestSnapshot() { return snapshots.request(); }
+
+    /** Post a mutation to the single logic thread (fire-and-forget, INPUT lane). */
+    public void runOnLogic(Runnable r) { logic.execute(Lane.INPUT, r); }
+
+    /** Post bulk work (saves, exports, ...) to the logic thread (MAINTENANCE lane, lowest priority). */
+    public void runMaintenance(Runnable r) {
+        try {
+            logic.execute(Lane.MAINTENANCE, r);
+        } catch (RejectedExecutionException e) {
+            System.err.println("Maintenance task rejected: " + e.getMessage());
+        }
+    }
 
     /** Compute a value on the logic thread (blocking). Use sparingly in UI. */
     public <T> T callOnLogic(Callable<T> c) {
+        if (logic.isLogicThread()) {
+            // already on the logic thread -> waiting for our own queue would deadlock
+            try { return c.call(); }
+            catch (Exception e) { throw new RuntimeException(e); }
+        }
         try { return logic.submit(c).get(); }
         catch (Exception e) { throw new RuntimeException(e); }
     }
+
+    /** Queue depth and latency per logic lane (TICK, INPUT, MAINTENANCE). */
+    public List<LogicExecutor.LaneMetrics> getLogicMetrics() { return logic.getLaneMetrics(); }
+
+    /** Time the logic thread spent running tasks since start (see {@link LogicExecutor#getBusyNanos()}). */
+    public long getLogicBusyNanos() { return logic.getBusyNanos(); }
+
+    /** CPU cost per tick, sub-steps, backlog (see GameClock tick budget). */
+    public GameClock.TickStats getTickStats() { return clock.getTickStats(); }
+
+    /** Stalls of the logic thread and the methods that caused them. */
+    public LogicWatchdog getWatchdog() { return watchdog; }
+
+    /** Metrics this runtime records into (the GameService's registry). */
+    public MetricsRegistry getMetrics() { return metrics; }
 }
@@ -0,0 +1,26 @@
+package com.example.time;
+
+import com.example.model.Game;
+import com.example.repository.ObjectSerializer;
+
+/**
+ * GameSnapshot
+ * ----------------
+ * Consistent, serialized copy of the whole {@link Game}, taken on the logic thread at a tick boundary
+ * (see {@link GameRuntimeService#requestSnapshot()}).
+ *
+ * - {@code epoch}: consecutive number of the capture (one capture serves all requests waiting for it).
+ * - {@code tick}: clock ticks completed when the copy was taken.
+ * - {@code data}: Java serialization, same format as the .ser files and the GameSyncServer payload.
+ *
+ * Safe to hand to any thread: nothing in here points into the live model.
+ */
+public record GameSnapshot(long epoch, long tick, double scaledSeconds, String gameName, byte[] data) {
+
+    private static final ObjectSerializer<Game> SERIALIZER = new ObjectSerializer<>();
+
+    /** Deserializes an independent copy of the game (e.g. for exports or replication). */
+    public Game restore() throws Exception {
+        return SERIALIZER.fromBytes(data);
+    }
+}
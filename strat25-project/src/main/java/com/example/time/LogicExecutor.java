@@ -0,0 +1,455 @@
+package com.example.time;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LogicExecutor
+ * ----------------
+ * Purpose:
+ *  - The single "game-logic" thread (only writer to game state).
+ *  - Replaces the unbounded newSingleThreadExecutor with prioritized lanes:
+ *      TICK  >  INPUT  >  MAINTENANCE
+ *  - Each lane is bounded and has its own overload policy (back-pressure).
+ *
+ * Scheduling:
+ *  - The worker always takes the highest non-empty lane ...
+ *  - ... unless a lower lane has been bypassed 'starvationLimit' times in a row
+ *    while it had work queued; then that lane gets exactly one task (starvation protection).
+ *
+ * Batches:
+ *  - After a batch of tasks (queue drained, or every 'maxBatch' tasks under load) the optional
+ *    batch listener runs on the logic thread, e.g. to publish a read snapshot.
+ *
+ * Metrics:
+ *  - Per lane: queue depth (current / high-water), submitted, completed, rejected, dropped,
+ *    queue wait and run time. See {@link #getLaneMetrics()}.
+ */
+public class LogicExecutor extends AbstractExecutorService {
+
+    /** Priority lanes, highest first. */
+    public enum Lane { TICK, INPUT, MAINTENANCE }
+
+    /** What happens when a lane is full. */
+    public enum OverloadPolicy {
+        /** Throw {@link RejectedExecutionException} to the submitter. */
+        REJECT,
+        /** Silently discard the new task. */
+        DROP_NEWEST,
+        /** Discard the oldest queued task of the lane and enqueue the new one. */
+        DROP_OLDEST,
+        /** Block the submitter until there is room (up to blockTimeout), then reject. */
+        BLOCK
+    }
+
+    /** Capacity and overload policy of one lane. */
+    public record LaneConfig(int capacity, OverloadPolicy policy, long blockTimeoutMillis) {
+        public LaneConfig {
+            if (capacity <= 0) throw new IllegalArgumentException("capacity must be > 0");
+            if (policy == null) throw new IllegalArgumentException("policy must not be null");
+            if (blockTimeoutMillis < 0) throw new IllegalArgumentException("blockTimeoutMillis must be >= 0");
+        }
+
+        public static LaneConfig of(int capacity, OverloadPolicy policy) {
+            return new LaneConfig(capacity, policy, 2_000);
+        }
+    }
+
+    /** Immutable metrics snapshot of one lane. */
+    public record LaneMetrics(Lane lane,
+                              int depth,
+                              int maxDepth,
+                              long submitted,
+                              long completed,
+                              long rejected,
+                              long dropped,
+                              double avgWaitMicros,
+                              double maxWaitMicros,
+                              double avgRunMicros) { }
+
+    /** Default lane setup for the game runtime. */
+    public static Map<Lane, LaneConfig> defaultLanes() {
+        Map<Lane, LaneConfig> m = new EnumMap<>(Lane.class);
+        // Ticks must not get lost (each tick = one second of playtime) -> back-pressure on the scheduler
+        m.put(Lane.TICK, LaneConfig.of(64, OverloadPolicy.BLOCK));
+        // Inputs: block the network worker / UI caller (slows down the sender instead of growing the heap)
+        m.put(Lane.INPUT, LaneConfig.of(10_000, OverloadPolicy.BLOCK));
+        // Bulk work (saves, exports): refuse instead of piling up
+        m.put(Lane.MAINTENANCE, LaneConfig.of(64, OverloadPolicy.REJECT));
+        return m;
+    }
+
+    private static final Lane[] LANES = Lane.values();
+
+    private final Map<Lane, LaneConfig> configs;
+    private final int starvationLimit;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition terminated = lock.newCondition();
+
+    @SuppressWarnings("unchecked")
+    private final ArrayDeque<QueuedTask>[] queues = new ArrayDeque[LANES.length];
+    private final int[] bypassed = new int[LANES.length];
+    private final LaneStats[] stats = new LaneStats[LANES.length];
+
+    private final Thread worker;
+    private volatile Runnable batchListener;
+    private volatile int maxBatch = 256;
+    private volatile boolean shutdown = false;
+    private volatile boolean workerDone = false;
+
+    /** Creates a logic executor with the default lane setup. */
+    public LogicExecutor(String threadName) {
+        this(threadName, defaultLanes(), 32);
+    }
+
+    /**
+     * @param threadName      name of the (daemon) worker thread
+     * @param laneConfigs     capacity/policy per lane (missing lanes fall back to the defaults)
+     * @param starvationLimit how many higher-priority tasks may overtake a waiting lane in a row
+     */
+    public LogicExecutor(String threadName, Map<Lane, LaneConfig> laneConfigs, int starvationLimit) {
+        if (starvationLimit <= 0) throw new IllegalArgumentException("starvationLimit must be > 0");
+        Map<Lane, LaneConfig> merged = defaultLanes();
+        if (laneConfigs != null) merged.putAll(laneConfigs);
+        this.configs = merged;
+        this.starvationLimit = starvationLimit;
+
+        for (Lane l : LANES) {
+            queues[l.ordinal()] = new ArrayDeque<>();
+            stats[l.ordinal()] = new LaneStats();
+        }
+
+        worker = new Thread(this::runLoop, threadName);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // ---------- Submission ----------------------------------------------------
+
+    /** Default lane for plain {@link Executor} usage: INPUT. */
+    @Override
+    public void execute(Runnable command) {
+        execute(Lane.INPUT, command);
+    }
+
+    /** Enqueues a task on the given lane, applying the lane's overload policy if it is full. */
+    public void execute(Lane lane, Runnable command) {
+        if (command == null) throw new NullPointerException("command");
+        if (lane == null) lane = Lane.INPUT;
+
+        int idx = lane.ordinal();
+        LaneConfig cfg = configs.get(lane);
+        ArrayDeque<QueuedTask> q = queues[idx];
+        LaneStats st = stats[idx];
+
+        lock.lock();
+        try {
+            if (shutdown) throw new RejectedExecutionException("LogicExecutor is shut down");
+
+            if (q.size() >= cfg.capacity()) {
+                switch (cfg.policy()) {
+                    case REJECT -> {
+                        st.rejected++;
+                        throw new RejectedExecutionException("Lane " + lane + " is full (" + cfg.capacity() + ")");
+                    }
+                    case DROP_NEWEST -> {
+                        st.dropped++;
+                        return;
+                    }
+                    case DROP_OLDEST -> {
+                        q.pollFirst();
+                        st.dropped++;
+                    }
+                    case BLOCK -> {
+                        if (Thread.currentThread() == worker) {
+                            // The logic thread can't wait for itself -> would deadlock
+                            st.rejected++;
+                            throw new RejectedExecutionException("Lane " + lane + " is full (submitted from logic thread)");
+                        }
+                        long nanos = TimeUnit.MILLISECONDS.toNanos(cfg.blockTimeoutMillis());
+                        while (q.size() >= cfg.capacity() && !shutdown) {
+                            if (nanos <= 0L) {
+                                st.rejected++;
+                                throw new RejectedExecutionException("Lane " + lane + " stayed full for "
+                                        + cfg.blockTimeoutMillis() + " ms");
+                            }
+                            try {
+                                nanos = notFull.awaitNanos(nanos);
+                            } catch (InterruptedException ie) {
+                                Thread.currentThread().interrupt();
+                                st.rejected++;
+                                throw new RejectedExecutionException("Interrupted while waiting for lane " + lane, ie);
+                            }
+                        }
+                        if (shutdown) throw new RejectedExecutionException("LogicExecutor is shut down");
+                    }
+                }
+            }
+
+            q.addLast(new QueuedTask(command, System.nanoTime()));
+            st.submitted++;
+            if (q.size() > st.maxDepth) st.maxDepth = q.size();
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Returns a plain {@link Executor} view that always posts onto the given lane. */
+    public Executor lane(Lane lane) {
+        return r -> execute(lane, r);
+    }
+
+    /**
+     * Sets a hook that runs on the logic thread after each batch of tasks
+     * (when all lanes are drained, or after 'maxBatch' tasks in a row under load).
+     */
+    public void setBatchListener(Runnable listener, int maxBatch) {
+        if (maxBatch <= 0) throw new IllegalArgumentException("maxBatch must be > 0");
+        this.maxBatch = maxBatch;
+        this.batchListener = listener;
+    }
+
+    /** True if the caller runs on the logic thread. */
+    public boolean isLogicThread() {
+        return Thread.currentThread() == worker;
+    }
+
+    /** The worker thread (for diagnostics such as stack sampling; never interrupt or join it). */
+    Thread getWorkerThread() {
+        return worker;
+    }
+
+    // ---------- Worker --------------------------------------------------------
+
+    private void runLoop() {
+        int sinceBatch = 0;
+        try {
+            while (true) {
+                QueuedTask task;
+                int laneIdx;
+                lock.lock();
+                try {
+                    while ((laneIdx = pickLane()) < 0) {
+                        if (shutdown) return;
+                        notEmpty.await();
+                    }
+                    task = queues[laneIdx].pollFirst();
+                    notFull.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+
+                long start = System.nanoTime();
+                try {
+                    task.command.run();
+                } catch (Throwable t) {
+                    t.printStackTrace();
+                }
+                long end = System.nanoTime();
+
+                boolean drained;
+                lock.lock();
+                try {
+                    LaneStats st = stats[laneIdx];
+                    long wait = start - task.enqueuedNanos;
+                    st.completed++;
+                    st.totalWaitNanos += wait;
+                    if (wait > st.maxWaitNanos) st.maxWaitNanos = wait;
+                    st.totalRunNanos += (end - start);
+                    drained = allLanesEmpty();
+                } finally {
+                    lock.unlock();
+                }
+
+                if (drained || ++sinceBatch >= maxBatch) {
+                    sinceBatch = 0;
+                    Runnable hook = batchListener;
+                    if (hook != null) {
+                        try {
+                            hook.run();
+                        } catch (Throwable t) {
+                            t.printStackTrace();
+                        }
+                    }
+                }
+            }
+        } catch (InterruptedException ie) {
+            // shutdownNow()
+        } finally {
+            lock.lock();
+            try {
+                workerDone = true;
+                terminated.signalAll();
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /** Chooses the lane of the next task (caller holds the lock). Returns -1 if all lanes are empty. */
+    private int pickLane() {
+        // 1) starvation protection: lowest lane first, so the most-bypassed work gets its turn
+        for (int i = LANES.length - 1; i > 0; i--) {
+            if (!queues[i].isEmpty() && bypassed[i] >= starvationLimit) {
+                bypassed[i] = 0;
+                markBypassed(i);
+                return i;
+            }
+        }
+        // 2) strict priority
+        for (int i = 0; i < LANES.length; i++) {
+            if (!queues[i].isEmpty()) {
+                bypassed[i] = 0;
+                markBypassed(i);
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean allLanesEmpty() {
+        for (ArrayDeque<QueuedTask> q : queues) {
+            if (!q.isEmpty()) return false;
+        }
+        return true;
+    }
+
+    /** Every non-empty lane other than the chosen one was overtaken once more. */
+    private void markBypassed(int chosen) {
+        for (int j = 0; j < LANES.length; j++) {
+            if (j != chosen && !queues[j].isEmpty()) bypassed[j]++;
+        }
+    }
+
+    // ---------- Metrics -------------------------------------------------------
+
+    /** Current queue depth of a lane. */
+    public int getQueueDepth(Lane lane) {
+        lock.lock();
+        try {
+            return queues[lane.ordinal()].size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Total time the worker spent running tasks, all lanes (utilization = delta / wall time). */
+    public long getBusyNanos() {
+        lock.lock();
+        try {
+            long sum = 0;
+            for (LaneStats st : stats) sum += st.totalRunNanos;
+            return sum;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Snapshot of all lane metrics (highest priority first). */
+    public List<LaneMetrics> getLaneMetrics() {
+        List<LaneMetrics> out = new ArrayList<>(LANES.length);
+        lock.lock();
+        try {
+            for (Lane l : LANES) {
+                LaneStats st = stats[l.ordinal()];
+                double avgWait = st.completed == 0 ? 0.0 : st.totalWaitNanos / 1_000.0 / st.completed;
+                double avgRun = st.completed == 0 ? 0.0 : st.totalRunNanos / 1_000.0 / st.completed;
+                out.add(new LaneMetrics(l,
+                        queues[l.ordinal()].size(), st.maxDepth,
+                        st.submitted, st.completed, st.rejected, st.dropped,
+                        avgWait, st.maxWaitNanos / 1_000.0, avgRun));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return out;
+    }
+
+    // ---------- ExecutorService lifecycle -------------------------------------
+
+    @Override
+    public void shutdown() {
+        lock.lock();
+        try {
+            shutdown = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> pending = new ArrayList<>();
+        lock.lock();
+        try {
+            shutdown = true;
+            for (ArrayDeque<QueuedTask> q : queues) {
+                for (QueuedTask t : q) pending.add(t.command);
+                q.clear();
+            }
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        worker.interrupt();
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return workerDone;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (!workerDone) {
+                if (nanos <= 0L) return false;
+                nanos = terminated.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ---------- internals -----------------------------------------------------
+
+    private record QueuedTask(Runnable command, long enqueuedNanos) { }
+
+    /** Mutable counters of one lane (guarded by the executor lock). */
+    private static final class LaneStats {
+        long submitted;
+        long completed;
+        long rejected;
+        long dropped;
+        int maxDepth;
+        long totalWaitNanos;
+        long maxWaitNanos;
+        long totalRunNanos;
+    }
+}
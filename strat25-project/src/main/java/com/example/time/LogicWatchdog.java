@@ -0,0 +1,225 @@
+package com.example.time;
+
+import com.example.metrics.MetricsRegistry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * LogicWatchdog
+ * -------------
+ * Detects a blocked logic thread while it is blocked (synchronous save, slow event job, lock, ...).
+ *
+ * - Polls the oldest tick that is posted but not started ({@link GameClock#oldestPendingTickDue()}).
+ *   Once it is later than {@code threshold} behind its schedule, a stall begins: the stack of the
+ *   logic thread is sampled every poll (at most {@link #MAX_SAMPLES_PER_STALL}) until that tick starts.
+ * - The last {@link #RING_SIZE} stalls are kept with their samples ({@link #recentStalls()}).
+ * - The blocked time of a stall is split evenly over its samples and charged to the innermost
+ *   {@code com.example} frame of each sample: {@link #topOffenders(int)} lists the methods that
+ *   cost the most ticks.
+ * - Listeners are called on the watchdog thread when a stall begins ({@code ongoing}) and ends.
+ * - Metrics: {@code watchdog.stalls} (counter), {@code watchdog.blocked} (timer).
+ *
+ * Cost: one queue peek per poll; stack traces are only taken during a stall.
+ */
+public final class LogicWatchdog implements AutoCloseable {
+
+    public static final Duration DEFAULT_THRESHOLD = Duration.ofMillis(250);
+    public static final Duration DEFAULT_POLL = Duration.ofMillis(20);
+    public static final int RING_SIZE = 32;
+    public static final int MAX_SAMPLES_PER_STALL = 64;
+    private static final int MAX_DEPTH = 48;
+    private static final String APP_PREFIX = "com.example.";
+
+    private final Supplier<OptionalLong> pendingDue;
+    private final Thread logicThread;
+    private final long thresholdNanos;
+    private final Duration poll;
+    private final MetricsRegistry.Counter stallCounter;
+    private final MetricsRegistry.Timer blockedTimer;
+
+    private final List<Consumer<Stall>> listeners = new CopyOnWriteArrayList<>();
+    private final ArrayDeque<Stall> ring = new ArrayDeque<>(RING_SIZE);   // guarded by this
+    private final Map<String, OffenderStats> offenders = new HashMap<>(); // guarded by this
+    private ScheduledExecutorService ses;
+
+    // current stall (watchdog thread only)
+    private long stallDue;
+    private LocalDateTime stallStart;
+    private List<StackTraceElement[]> stallSamples;
+
+    public LogicWatchdog(Supplier<OptionalLong> pendingDue, Thread logicThread, MetricsRegistry metrics) {
+        this(pendingDue, logicThread, metrics, DEFAULT_THRESHOLD, DEFAULT_POLL);
+    }
+
+    public LogicWatchdog(Supplier<OptionalLong> pendingDue, Thread logicThread, MetricsRegistry metrics,
+                         Duration threshold, Duration poll) {
+        this.pendingDue = pendingDue;
+        this.logicThread = logicThread;
+        this.thresholdNanos = threshold.toNanos();
+        this.poll = poll;
+        this.stallCounter = metrics.counter("watchdog.stalls");
+        this.blockedTimer = metrics.timer("watchdog.blocked");
+    }
+
+    /** Starts polling on a daemon thread. Idempotent. */
+    public synchronized void start() {
+        if (ses != null) return;
+        ses = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "logic-watchdog");
+            t.setDaemon(true);
+            return t;
+        });
+        long nanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), poll.toNanos());
+        ses.scheduleWithFixedDelay(() -> {
+            try {
+                check(System.nanoTime());
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (ses != null) {
+            ses.shutdownNow();
+            ses = null;
+        }
+    }
+
+    /** Called on the watchdog thread when a stall begins ({@code ongoing}) and when it ends. */
+    public AutoCloseable subscribe(Consumer<Stall> listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    // ---------- polling (watchdog thread) -------------------------------------
+
+    /** One poll. Package-private so tests can drive it without the thread. */
+    void check(long now) {
+        OptionalLong due = pendingDue.get();
+        if (stallSamples != null && (due.isEmpty() || due.getAsLong() != stallDue)) {
+            endStall(now); // the late tick started
+        }
+        if (due.isEmpty() || now - due.getAsLong() <= thresholdNanos) return;
+
+        boolean begins = stallSamples == null;
+        if (begins) {
+            stallDue = due.getAsLong();
+            stallStart = LocalDateTime.now().minusNanos(now - stallDue);
+            stallSamples = new ArrayList<>();
+        }
+        if (stallSamples.size() < MAX_SAMPLES_PER_STALL) {
+            StackTraceElement[] stack = logicThread.getStackTrace();
+            stallSamples.add(stack.length > MAX_DEPTH ? Arrays.copyOf(stack, MAX_DEPTH) : stack);
+        }
+        if (begins) {
+            stallCounter.increment();
+            notifyListeners(new Stall(stallStart, now - stallDue, true, List.copyOf(stallSamples)));
+        }
+    }
+
+    private void endStall(long now) {
+        long blocked = now - stallDue;
+        Stall stall = new Stall(stallStart, blocked, false, List.copyOf(stallSamples));
+        stallSamples = null;
+        blockedTimer.record(blocked);
+        synchronized (this) {
+            if (ring.size() == RING_SIZE) ring.removeFirst();
+            ring.addLast(stall);
+            long share = blocked / stall.samples().size();
+            for (StackTraceElement[] s : stall.samples()) {
+                String frame = offendingFrame(s);
+                offenders.computeIfAbsent(frame, f -> new OffenderStats(s)).add(share);
+            }
+        }
+        notifyListeners(stall);
+    }
+
+    private void notifyListeners(Stall stall) {
+        for (Consumer<Stall> l : listeners) {
+            try {
+                l.accept(stall);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /** Innermost game frame ({@code class.method}), else the top frame; "?" for an empty stack. */
+    static String offendingFrame(StackTraceElement[] stack) {
+        for (StackTraceElement e : stack) {
+            if (e.getClassName().startsWith(APP_PREFIX)) return e.getClassName() + "." + e.getMethodName();
+        }
+        return stack.length > 0 ? stack[0].getClassName() + "." + stack[0].getMethodName() : "?";
+    }
+
+    // ---------- queries (any thread) ------------------------------------------
+
+    /** The last stalls, oldest first (a running stall is not included until it ended). */
+    public synchronized List<Stall> recentStalls() {
+        return List.copyOf(ring);
+    }
+
+    /** Methods with the most blocked time since start (or {@link #resetOffenders()}), worst first. */
+    public synchronized List<Offender> topOffenders(int limit) {
+        return offenders.entrySet().stream()
+                .map(e -> new Offender(e.getKey(), e.getValue().blockedNanos, e.getValue().samples,
+                        List.of(e.getValue().example)))
+                .sorted(Comparator.comparingLong(Offender::blockedNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public synchronized void resetOffenders() {
+        offenders.clear();
+    }
+
+    private static final class OffenderStats {
+        final StackTraceElement[] example;
+        long blockedNanos;
+        int samples;
+
+        OffenderStats(StackTraceElement[] example) { this.example = example; }
+
+        void add(long nanos) {
+            blockedNanos += nanos;
+            samples++;
+        }
+    }
+
+    /**
+     * One stall. {@code blockedNanos}: how late the tick was (so far, if {@code ongoing});
+     * {@code samples}: stacks of the logic thread, first one taken when the threshold was crossed.
+     */
+    public record Stall(LocalDateTime start, long blockedNanos, boolean ongoing, List<StackTraceElement[]> samples) {
+
+        public double blockedMillis() { return blockedNanos / 1e6; }
+
+        /** Offending frame of the first sample. */
+        public String topFrame() {
+            return samples.isEmpty() ? "?" : offendingFrame(samples.get(0));
+        }
+    }
+
+    /** Total blocked time charged to {@code frame}, with one example stack. */
+    public record Offender(String frame, long blockedNanos, int samples, List<StackTraceElement> exampleStack) {
+
+        public double blockedMillis() { return blockedNanos / 1e6; }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.time;
+
+import com.example.metrics.MetricsRegistry;
+import com.example.model.Game;
+import com.example.repository.ObjectSerializer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * SnapshotBarrier
+ * ----------------
+ * Hands out consistent {@link GameSnapshot}s without stopping the clock.
+ *
+ * - {@link #request()} may be called from any thread (also from the logic thread itself).
+ * - All requests arriving until the next capture share ONE capture (one serialization per epoch).
+ * - The capture runs as a single task on the TICK lane, i.e. between two ticks and never inside
+ *   a tick or an input batch -> every snapshot is a tick boundary.
+ * - Futures are completed on the delivery executor (I/O), so consumers never run on the logic thread.
+ * - Optional timer: duration of the capture (serialization on the logic thread) = what a save costs the clock.
+ */
+final class SnapshotBarrier {
+
+    private final Supplier<Game> gameSupplier;
+    private final LongSupplier tickCounter;
+    private final Executor logic;    // TICK lane
+    private final Executor delivery; // game-io
+
+    private final ObjectSerializer<Game> serializer = new ObjectSerializer<>();
+    private final ConcurrentLinkedQueue<CompletableFuture<GameSnapshot>> waiting = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    private final MetricsRegistry.Timer captureTimer; // nullable
+
+    private long epoch; // logic thread only
+
+    SnapshotBarrier(Supplier<Game> gameSupplier, LongSupplier tickCounter, Executor logic, Executor delivery) {
+        this(gameSupplier, tickCounter, logic, delivery, null);
+    }
+
+    SnapshotBarrier(Supplier<Game> gameSupplier, LongSupplier tickCounter, Executor logic, Executor delivery,
+                    MetricsRegistry.Timer captureTimer) {
+        this.gameSupplier = gameSupplier;
+        this.tickCounter = tickCounter;
+        this.logic = logic;
+        this.delivery = delivery;
+        this.captureTimer = captureTimer;
+    }
+
+    CompletableFuture<GameSnapshot> request() {
+        CompletableFuture<GameSnapshot> f = new CompletableFuture<>();
+        waiting.add(f);
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                logic.execute(this::captureOnLogic);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                failWaiting(e);
+            }
+        }
+        return f;
+    }
+
+    private void captureOnLogic() {
+        // reset first: requests arriving from now on need (and schedule) the next capture
+        scheduled.set(false);
+        if (waiting.isEmpty()) return;
+
+        GameSnapshot snapshot = null;
+        Throwable failure = null;
+        long t0 = System.nanoTime();
+        try {
+            Game g = gameSupplier.get();
+            if (g == null) throw new IllegalStateException("No game loaded");
+            double seconds = g.getGameTime() != null ? g.getGameTime().getScaledSeconds() : 0.0;
+            snapshot = new GameSnapshot(++epoch, tickCounter.getAsLong(), seconds, g.getName(),
+                    serializer.toBytes(g));
+        } catch (Throwable t) {
+            failure = t;
+        }
+        if (captureTimer != null) captureTimer.recordSince(t0);
+
+        CompletableFuture<GameSnapshot> f;
+        while ((f = waiting.poll()) != null) {
+            complete(f, snapshot, failure);
+        }
+    }
+
+    private void complete(CompletableFuture<GameSnapshot> f, GameSnapshot snapshot, Throwable failure) {
+        Runnable r = failure == null ? () -> f.complete(snapshot) : () -> f.completeExceptionally(failure);
+        try {
+            delivery.execute(r);
+        } catch (RejectedExecutionException e) {
+            r.run(); // shutting down: complete inline
+        }
+    }
+
+    private void failWaiting(Throwable t) {
+        CompletableFuture<GameSnapshot> f;
+        while ((f = waiting.poll()) != null) f.completeExceptionally(t);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.view;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * BudgetLru
+ * ----------------
+ * Bookkeeping of {@link ImageCache} without JavaFX: LRU map whose entries carry a size in bytes.
+ *
+ * - {@link #put} and {@link #resize} evict least recently used entries until the sum fits the budget;
+ *   the most recent entry is always kept, even if it alone exceeds the budget.
+ * - {@link #get} counts as a use.
+ *
+ * Not thread-safe (the owner synchronizes).
+ */
+final class BudgetLru<K, V> {
+
+    private final Map<K, Sized<V>> entries = new LinkedHashMap<>(64, 0.75f, true); // access order = LRU
+    private long budgetBytes;
+    private long usedBytes;
+    private long evictions;
+
+    BudgetLru(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    V get(K key) {
+        Sized<V> s = entries.get(key);
+        return s != null ? s.value : null;
+    }
+
+    /** Adds or replaces the entry and trims to the budget. */
+    void put(K key, V value, long bytes) {
+        Sized<V> old = entries.put(key, new Sized<>(value, bytes));
+        if (old != null) usedBytes -= old.bytes;
+        usedBytes += bytes;
+        trim();
+    }
+
+    /** New size of {@code key}, only if it still maps to {@code value} (not replaced meanwhile). */
+    boolean resize(K key, V value, long bytes) {
+        Sized<V> s = entries.get(key);
+        if (s == null || s.value != value) return false;
+        usedBytes += bytes - s.bytes;
+        s.bytes = bytes;
+        trim();
+        return true;
+    }
+
+    /** Removes {@code key}, only if it still maps to {@code value} (null = any value). */
+    boolean remove(K key, V value) {
+        Sized<V> s = entries.get(key);
+        if (s == null || (value != null && s.value != value)) return false;
+        entries.remove(key);
+        usedBytes -= s.bytes;
+        return true;
+    }
+
+    void setBudgetBytes(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+        trim();
+    }
+
+    void clear() {
+        entries.clear();
+        usedBytes = 0;
+    }
+
+    int size() { return entries.size(); }
+
+    long usedBytes() { return usedBytes; }
+
+    long budgetBytes() { return budgetBytes; }
+
+    long evictions() { return evictions; }
+
+    private void trim() {
+        Iterator<Sized<V>> it = entries.values().iterator();
+        while (usedBytes > budgetBytes && entries.size() > 1 && it.hasNext()) {
+            usedBytes -= it.next().bytes;
+            it.remove();
+            evictions++;
+        }
+    }
+
+    private static final class Sized<V> {
+        final V value;
+        long bytes;
+
+        Sized(V value, long bytes) {
+            this.value = value;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.view;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * FrameBudgetRenderer
+ * ----------------
+ * Spreads UI updates over JavaFX pulses instead of doing everything in one go.
+ *
+ * - Work is split into named sections with a priority (lower = earlier).
+ *   {@link #invalidate(String)} marks a section dirty; nothing runs immediately.
+ * - On every pulse (AnimationTimer) dirty sections run in priority order until the frame budget
+ *   is used up; the rest waits for the next pulse. At least one section runs per pulse (progress).
+ * - A section may do its work in slices: it returns false while more work is left and stays dirty.
+ * - The timer only runs while there is work: {@link #invalidate(String)} starts it, the pulse that leaves
+ *   no section dirty stops it. An idle result screen costs no pulses.
+ * - While the target is not visible nothing runs and the timer stops; sections stay dirty until the next
+ *   invalidate (the owner invalidates everything when its window is shown again).
+ *
+ * Measurements: per-section cost (avg/max), frames over budget and dropped frames
+ * (pulse gaps longer than 1.5 nominal frames, only counted while the timer is active).
+ *
+ * FX thread only.
+ */
+public final class FrameBudgetRenderer {
+
+    /** Nominal pulse interval of JavaFX (60 Hz). */
+    private static final long FRAME_NANOS = 1_000_000_000L / 60;
+
+    private final List<Section> sections = new ArrayList<>(); // sorted by priority
+    private final BooleanSupplier visible;
+    private long budgetNanos = TimeUnit.MILLISECONDS.toNanos(6);
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            onPulse(now);
+        }
+    };
+
+    private boolean started; // between start() and stop()
+    private boolean active;  // timer running
+    private long lastPulse;
+    private long frames, droppedFrames, overBudgetFrames, deferredFrames;
+
+    /**
+     * @param visible true while the output is on screen (null = always)
+     */
+    public FrameBudgetRenderer(BooleanSupplier visible) {
+        this.visible = visible != null ? visible : () -> true;
+    }
+
+    /** Registers a section that is done in one call. */
+    public void section(String name, int priority, Runnable work) {
+        section(name, priority, () -> {
+            work.run();
+            return true;
+        });
+    }
+
+    /** Registers a sliced section: {@code work} returns true when it has nothing left to do. */
+    public void section(String name, int priority, BooleanSupplier work) {
+        sections.add(new Section(name, priority, work));
+        sections.sort(Comparator.comparingInt(s -> s.priority));
+    }
+
+    public void invalidate(String name) {
+        for (Section s : sections) {
+            if (s.name.equals(name)) {
+                s.dirty = true;
+                activate();
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Unknown section: " + name);
+    }
+
+    public void invalidateAll() {
+        for (Section s : sections) s.dirty = true;
+        activate();
+    }
+
+    /** Names of the sections currently waiting for a pulse (priority order). */
+    public List<String> dirtySections() {
+        List<String> out = new ArrayList<>(sections.size());
+        for (Section s : sections) {
+            if (s.dirty) out.add(s.name);
+        }
+        return out;
+    }
+
+    public void setFrameBudget(long amount, TimeUnit unit) {
+        if (amount <= 0) throw new IllegalArgumentException("budget must be > 0");
+        this.budgetNanos = unit.toNanos(amount);
+    }
+
+    /** Enables rendering; the timer runs as soon as (and as long as) a section is dirty. */
+    public void start() {
+        started = true;
+        for (Section s : sections) {
+            if (s.dirty) {
+                activate();
+                return;
+            }
+        }
+    }
+
+    public void stop() {
+        started = false;
+        deactivate();
+    }
+
+    private void activate() {
+        if (!started || active) return;
+        active = true;
+        lastPulse = 0L; // the idle gap before is not a dropped frame
+        timer.start();
+    }
+
+    private void deactivate() {
+        if (!active) return;
+        active = false;
+        timer.stop();
+    }
+
+    // ---------- pulse ----------------------------------------------------------
+
+    private void onPulse(long now) {
+        frames++;
+        if (lastPulse != 0L) {
+            long gap = now - lastPulse;
+            if (gap > FRAME_NANOS * 3 / 2) droppedFrames += Math.round((double) gap / FRAME_NANOS) - 1;
+        }
+        lastPulse = now;
+
+        if (!visible.getAsBoolean()) {
+            deactivate(); // sections stay dirty, re-armed by the next invalidate
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean ranAny = false;
+        for (Section s : sections) {
+            if (!s.dirty) continue;
+            if (ranAny && System.nanoTime() - start >= budgetNanos) {
+                deferredFrames++; // rest in the next pulse
+                break;
+            }
+            s.run();
+            ranAny = true;
+        }
+        if (System.nanoTime() - start > budgetNanos) overBudgetFrames++;
+
+        for (Section s : sections) {
+            if (s.dirty) return;
+        }
+        deactivate(); // idle until the next invalidate
+    }
+
+    // ---------- stats ----------------------------------------------------------
+
+    public Stats stats() {
+        List<SectionStats> list = new ArrayList<>(sections.size());
+        for (Section s : sections) {
+            list.add(new SectionStats(s.name, s.runs,
+                    s.runs == 0 ? 0 : s.totalNanos / s.runs / 1_000,
+                    s.maxNanos / 1_000,
+                    s.dirty));
+        }
+        return new Stats(frames, droppedFrames, overBudgetFrames, deferredFrames,
+                budgetNanos / 1_000, List.copyOf(list));
+    }
+
+    /**
+     * {@code deferredFrames}: pulses that left dirty work for the next pulse because the budget was used up.
+     */
+    public record Stats(long frames, long droppedFrames, long overBudgetFrames, long deferredFrames,
+                        long budgetMicros, List<SectionStats> sections) { }
+
+    public record SectionStats(String name, long runs, long avgMicros, long maxMicros, boolean pending) { }
+
+    private static final class Section {
+        final String name;
+        final int priority;
+        final BooleanSupplier work;
+        boolean dirty;
+        long runs, totalNanos, maxNanos;
+
+        Section(String name, int priority, BooleanSupplier work) {
+            this.name = name;
+            this.priority = priority;
+            this.work = work;
+        }
+
+        void run() {
+            long t0 = System.nanoTime();
+            boolean done = true;
+            try {
+                dirty = false; // may be set again by the work itself
+                done = work.getAsBoolean();
+            } catch (Exception e) {
+                e.printStackTrace();
+            } finally {
+                long cost = System.nanoTime() - t0;
+                runs++;
+                totalNanos += cost;
+                if (cost > maxNanos) maxNanos = cost;
+                if (!done) dirty = true;
+            }
+        }
+    }
+}
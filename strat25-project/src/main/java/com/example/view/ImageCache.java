@@ -0,0 +1,116 @@
+package com.example.view;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+
+/**
+ * ImageCache
+ * ----------------
+ * Application-wide cache for decoded images (phase pictures, category icons).
+ *
+ * - Key: resolved URL + target size. The size is rounded UP to {@link #SIZE_STEP} px buckets,
+ *   so resizing a window does not decode a new image for every pixel. Sizes of 0 or less (view not laid
+ *   out yet) use the smallest bucket instead of decoding the original.
+ * - Images are decoded asynchronously by JavaFX (backgroundLoading) and downscaled while decoding
+ *   (requestedWidth/Height, preserveRatio) -> a 4000px phase photo costs only its display size.
+ * - LRU eviction with a memory budget (estimated as width * height * 4 bytes of the decoded image),
+ *   see {@link BudgetLru}.
+ * - Images that fail to load are not kept, so a fixed file is picked up on the next request.
+ *
+ * {@link #get} on the FX thread only (it attaches listeners to the image); {@link #preload} may be called
+ * from any thread and hops to the FX thread. {@link #stats()} and the budget setters from any thread.
+ */
+public final class ImageCache {
+
+    /** Size buckets in px (target sizes are rounded up). */
+    public static final int SIZE_STEP = 128;
+
+    private static final ImageCache SHARED = new ImageCache(96L * 1024 * 1024);
+
+    public static ImageCache shared() { return SHARED; }
+
+    private final BudgetLru<Key, Image> entries; // guarded by this
+    private long hits, misses;                   // guarded by this
+
+    public ImageCache(long budgetBytes) {
+        this.entries = new BudgetLru<>(budgetBytes);
+    }
+
+    /**
+     * Returns the (possibly still loading) image for the URL, downscaled to fit the bucket of
+     * width x height. Null URL -> null. FX thread only.
+     */
+    public Image get(String url, double width, double height) {
+        if (url == null) return null;
+        Key key = key(url, width, height);
+        synchronized (this) {
+            Image cached = entries.get(key);
+            if (cached != null && !cached.isError()) {
+                hits++;
+                return cached;
+            }
+            misses++;
+            if (cached != null) entries.remove(key, cached);
+        }
+
+        Image img = new Image(url, key.width, key.height, true, true, true);
+        synchronized (this) {
+            entries.put(key, img, estimateBytes(img, key));
+        }
+
+        // once decoded: real size instead of the estimate, drop broken images
+        img.progressProperty().addListener((obs, o, n) -> {
+            if (n.doubleValue() >= 1.0) onLoaded(key, img);
+        });
+        if (img.getProgress() >= 1.0) onLoaded(key, img);
+        return img;
+    }
+
+    /** Starts decoding in the background so a later {@link #get} is a hit (e.g. the next construction phase). */
+    public void preload(String url, double width, double height) {
+        if (Platform.isFxApplicationThread()) get(url, width, height);
+        else Platform.runLater(() -> get(url, width, height));
+    }
+
+    public synchronized void setBudgetBytes(long budgetBytes) {
+        entries.setBudgetBytes(budgetBytes);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(entries.size(), entries.usedBytes(), entries.budgetBytes(), hits, misses, entries.evictions());
+    }
+
+    public record Stats(int entries, long usedBytes, long budgetBytes, long hits, long misses, long evictions) { }
+
+    // ---------- internals ----------------------------------------------------
+
+    private synchronized void onLoaded(Key key, Image img) {
+        if (img.isError()) entries.remove(key, img);
+        else entries.resize(key, img, decodedBytes(img));
+    }
+
+    static Key key(String url, double width, double height) {
+        return new Key(url, bucket(width), bucket(height));
+    }
+
+    /** Rounds up to the next {@link #SIZE_STEP}; 0, negative and NaN sizes use the smallest bucket. */
+    static int bucket(double size) {
+        if (!(size > 0)) return SIZE_STEP;
+        return (int) Math.ceil(size / SIZE_STEP) * SIZE_STEP;
+    }
+
+    private static long estimateBytes(Image img, Key key) {
+        if (img.getProgress() >= 1.0) return decodedBytes(img);
+        return 4L * key.width * key.height;
+    }
+
+    private static long decodedBytes(Image img) {
+        return 4L * (long) Math.max(1, img.getWidth()) * (long) Math.max(1, img.getHeight());
+    }
+
+    record Key(String url, int width, int height) { }
+}
@@ -0,0 +1,63 @@
+package com.example.view;
+
+import javafx.scene.control.Labeled;
+
+/**
+ * LabelText
+ * ----------------
+ * Text of ONE label, updated only when the displayed text actually changes.
+ *
+ * - Numeric setters compare the displayed value ({@link TextFormat#key}) with the last one first:
+ *   unchanged -> no formatting, no allocation, no setText (no CSS/layout pass).
+ * - Otherwise the text is built in a reused StringBuilder and set only if it differs from the label.
+ *
+ * FX thread only (like the label).
+ */
+public final class LabelText {
+
+    private static final Object RATIO = new Object();
+    private static final Object PLAIN = new Object();
+
+    private final Labeled label;
+    private final StringBuilder buf = new StringBuilder(24);
+
+    private Object lastFormat; // TextFormat, RATIO or PLAIN
+    private long lastKey;
+
+    public LabelText(Labeled label) {
+        this.label = label;
+    }
+
+    public Labeled label() { return label; }
+
+    public void set(TextFormat format, double value) {
+        long key = format.key(value);
+        if (lastFormat == format && lastKey == key) return;
+        lastFormat = format;
+        lastKey = key;
+        buf.setLength(0);
+        apply(format.append(buf, value));
+    }
+
+    /** {@code "payed/needed -> free"} (build ledger rows). */
+    public void ratio(int payed, int needed, int free) {
+        long key = ((long) payed << 42) ^ ((long) needed << 21) ^ free;
+        if (lastFormat == RATIO && lastKey == key) return;
+        lastFormat = RATIO;
+        lastKey = key;
+        buf.setLength(0);
+        buf.append(payed).append('/').append(needed).append(" -> ").append(free);
+        apply(buf);
+    }
+
+    public void text(String text) {
+        lastFormat = PLAIN;
+        if (!text.equals(label.getText())) label.setText(text);
+    }
+
+    private void apply(CharSequence text) {
+        String current = label.getText();
+        if (current != null && current.contentEquals(text)) return;
+        label.setText(text.toString());
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.view;
+
+import com.example.model.GameView;
+import com.example.model.GameView.TeamView;
+import javafx.scene.Node;
+import javafx.scene.chart.PieChart;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * PieChartBinding
+ * ----------------
+ * Keeps ONE {@link PieChart.Data} per team and mutates it in place from influence snapshots.
+ *
+ * - Slices are (re)created only when the set of teams changes (game loaded), never on value updates.
+ * - Values are written only if they moved by more than {@link #EPSILON} (relative),
+ *   names and colors only if they actually changed -> no CSS re-apply, no node churn.
+ * - Teams without influence keep their slice with value 0 (invisible, no layout change).
+ *
+ * FX thread only.
+ */
+public final class PieChartBinding {
+
+    /** Relative change below which a slice value is not touched. */
+    public static final double EPSILON = 1e-6;
+
+    private final PieChart chart;
+    private final BiFunction<GameView, TeamView, String> cssColorOf;
+    private final Map<Integer, Slice> slices = new LinkedHashMap<>();
+
+    /**
+     * @param cssColorOf CSS color for a team of the snapshot (null = chart default color)
+     */
+    public PieChartBinding(PieChart chart, BiFunction<GameView, TeamView, String> cssColorOf) {
+        this.chart = chart;
+        this.cssColorOf = cssColorOf;
+    }
+
+    /**
+     * Applies the influence per team id of the given snapshot.
+     *
+     * @return true if there is anything to show (sum of influence > 0)
+     */
+    public boolean update(GameView view, Map<Integer, Double> influence) {
+        if (influence == null) influence = Map.of();
+        List<TeamView> teams = view.teams();
+
+        if (!sameTeams(teams)) rebuildSlices(teams);
+
+        double sum = 0.0;
+        for (TeamView t : teams) {
+            Slice s = slices.get(t.id());
+            Double raw = influence.get(t.id());
+            double v = (raw == null || raw <= 0) ? 0.0 : raw;
+            sum += v;
+
+            if (Math.abs(v - s.value) > EPSILON * Math.max(1.0, Math.abs(s.value))) {
+                s.data.setPieValue(v);
+                s.value = v;
+            }
+            String label = labelOf(t);
+            if (!Objects.equals(label, s.data.getName())) s.data.setName(label);
+            // CSS only recomputed/applied when the team color (or its family) changed
+            Object colorKey = t.color() != null ? t.color() : t.familyName();
+            if (!s.colored || !Objects.equals(colorKey, s.colorKey)) {
+                s.colorKey = colorKey;
+                s.colored = true;
+                s.setColor(cssColorOf.apply(view, t));
+            }
+        }
+        return sum > 0.0;
+    }
+
+    /** Drops all slices: the next {@link #update} rebuilds and recolors everything. */
+    public void reset() {
+        slices.clear();
+        chart.getData().clear();
+    }
+
+    private boolean sameTeams(List<TeamView> teams) {
+        if (teams.size() != slices.size()) return false;
+        int i = 0;
+        for (Integer id : slices.keySet()) {
+            if (teams.get(i++).id() != id) return false;
+        }
+        return true;
+    }
+
+    private void rebuildSlices(List<TeamView> teams) {
+        slices.clear();
+        List<PieChart.Data> data = new ArrayList<>(teams.size());
+        for (TeamView t : teams) {
+            Slice s = new Slice(new PieChart.Data(labelOf(t), 0.0));
+            slices.put(t.id(), s);
+            data.add(s.data);
+        }
+        chart.getData().setAll(data);
+    }
+
+    private static String labelOf(TeamView t) {
+        return t.name() != null ? t.name() : ("Team " + t.id());
+    }
+
+    private static final class Slice {
+        final PieChart.Data data;
+        double value;
+        String css;
+        Object colorKey;
+        boolean colored;
+
+        Slice(PieChart.Data data) {
+            this.data = data;
+            // the chart may (re)create the node later: apply the current color then
+            data.nodeProperty().addListener((obs, oldNode, node) -> style(node));
+        }
+
+        void setColor(String cssColor) {
+            if (Objects.equals(cssColor, css)) return;
+            css = cssColor;
+            style(data.getNode());
+        }
+
+        private void style(Node node) {
+            if (node != null) node.setStyle(css == null ? "" : "-fx-pie-color: " + css + ";");
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.view;
+
+import com.example.model.GameView;
+import com.example.model.GameView.FamilyView;
+import com.example.model.GameView.TeamView;
+import javafx.collections.FXCollections;
+import javafx.scene.Node;
+import javafx.scene.chart.CategoryAxis;
+import javafx.scene.chart.StackedBarChart;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * PrestigeChartBinding
+ * ----------------
+ * Persistent model for the family prestige chart: ONE series per team (indexed by team id)
+ * with ONE bar segment in the row of its family.
+ *
+ * - Series, segments and the family axis are built once per game structure (game load,
+ *   teams/families changed); the prestige tick only moves the segment values in place.
+ * - Values are written only if they moved by more than {@link PieChartBinding#EPSILON} (relative),
+ *   colors only when the team color changed.
+ *
+ * FX thread only.
+ */
+public final class PrestigeChartBinding {
+
+    private static final String NO_FAMILY = "—";
+
+    private final StackedBarChart<Number, String> chart;
+    private final CategoryAxis familyAxis;
+    private final BiFunction<GameView, TeamView, String> cssColorOf;
+
+    // Index maps (rebuilt only when the structure changes)
+    private final Map<Integer, Bar> barsByTeam = new HashMap<>();
+    private List<Object> structure = List.of();
+
+    /**
+     * @param familyAxis category axis of the chart (may be null)
+     * @param cssColorOf CSS color for a team of the snapshot (null = chart default color)
+     */
+    public PrestigeChartBinding(StackedBarChart<Number, String> chart, CategoryAxis familyAxis,
+                                BiFunction<GameView, TeamView, String> cssColorOf) {
+        this.chart = chart;
+        this.familyAxis = familyAxis;
+        this.cssColorOf = cssColorOf;
+    }
+
+    /** Applies the team prestige of the snapshot. */
+    public void update(GameView view) {
+        if (!view.hasGame()) {
+            reset();
+            return;
+        }
+        List<Object> s = structureOf(view);
+        if (!s.equals(structure)) rebuild(view, s);
+
+        for (TeamView t : view.teams()) {
+            Bar bar = barsByTeam.get(t.id());
+            if (bar == null) continue;
+            bar.setValue(Math.max(0.0, t.prestige()));
+
+            String label = labelOf(t);
+            if (!Objects.equals(label, bar.series.getName())) bar.series.setName(label);
+
+            Object colorKey = t.color() != null ? t.color() : t.familyName();
+            if (!bar.colored || !Objects.equals(colorKey, bar.colorKey)) {
+                bar.colorKey = colorKey;
+                bar.colored = true;
+                bar.setColor(cssColorOf.apply(view, t));
+            }
+        }
+    }
+
+    /** Drops all series: the next {@link #update} rebuilds and recolors everything. */
+    public void reset() {
+        barsByTeam.clear();
+        structure = List.of();
+        chart.getData().clear();
+    }
+
+    // ---------- structure ----------------------------------------------------
+
+    /** Family names + team ids in order: changes only when a game is loaded / teams are edited. */
+    private static List<Object> structureOf(GameView view) {
+        List<Object> s = new ArrayList<>();
+        for (FamilyView f : view.families()) {
+            s.add(familyCategory(f.name()));
+            for (TeamView t : f.teams()) s.add(t.id());
+        }
+        return s;
+    }
+
+    private void rebuild(GameView view, List<Object> newStructure) {
+        barsByTeam.clear();
+        structure = newStructure;
+
+        List<String> families = new ArrayList<>();
+        List<StackedBarChart.Series<Number, String>> series = new ArrayList<>();
+        for (FamilyView f : view.families()) {
+            String category = familyCategory(f.name());
+            families.add(category);
+            for (TeamView t : f.teams()) {
+                Bar bar = new Bar(labelOf(t), category);
+                barsByTeam.put(t.id(), bar);
+                series.add(bar.series);
+            }
+        }
+
+        if (familyAxis != null) familyAxis.setCategories(FXCollections.observableArrayList(families));
+        chart.getData().setAll(series);
+    }
+
+    private static String familyCategory(String familyName) {
+        return familyName == null ? NO_FAMILY : familyName;
+    }
+
+    private static String labelOf(TeamView t) {
+        return t.name() != null ? t.name() : ("Team " + t.id());
+    }
+
+    private static final class Bar {
+        final StackedBarChart.Series<Number, String> series = new StackedBarChart.Series<>();
+        final StackedBarChart.Data<Number, String> data;
+        double value;
+        String css;
+        Object colorKey;
+        boolean colored;
+
+        Bar(String name, String familyCategory) {
+            series.setName(name);
+            data = new StackedBarChart.Data<>(0.0, familyCategory);
+            series.getData().add(data);
+            // the chart creates the node when the series is added: apply the current color then
+            data.nodeProperty().addListener((obs, oldNode, node) -> style(node));
+        }
+
+        void setValue(double v) {
+            if (Math.abs(v - value) <= PieChartBinding.EPSILON * Math.max(1.0, Math.abs(value))) return;
+            value = v;
+            data.setXValue(v);
+        }
+
+        void setColor(String cssColor) {
+            if (Objects.equals(cssColor, css)) return;
+            css = cssColor;
+            style(data.getNode());
+        }
+
+        private void style(Node node) {
+            if (node != null) node.setStyle(css == null ? "" : "-fx-bar-fill: " + css + ";");
+        }
+    }
+}
@@ -4,8 +4,10 @@ import com.example.controller.ControlController;
 import com.example.controller.ResultController;
 import com.example.service.GameService;
 import javafx.fxml.FXMLLoader;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.stage.Screen;
 import javafx.stage.Stage;
 import javafx.util.Callback;
 import javafx.scene.input.KeyCode;
@@ -15,6 +17,9 @@ import javafx.scene.input.KeyEvent;
 import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 public class SceneManager {
 
@@ -24,11 +29,10 @@ public class SceneManager {
 
     // Zusatzfenster
     private Stage controlStage; // Steuerfenster
-    private Stage resultStage; // Result-/Leinwandfenster
+    private final List<ResultScreen> resultScreens = new ArrayList<>(); // Result-/Leinwandfenster
 
     // Referenzen auf Controller (für spätere Steuerung)
     private ControlController controlController;
-    private ResultController resultController;
 
     public SceneManager(Stage stage, GameService gameService) {
         this.stage = stage;
@@ -70,6 +74,9 @@ public class SceneManager {
                     controlStage.hide();
                     ev.consume();
                 });
+                // versteckt -> keine Sampler/Abos im Hintergrund
+                controlStage.setOnHidden(ev -> controlController.shutdown());
+                controlStage.setOnShowing(ev -> controlController.resume());
             } catch (IOException e) {
                 throw new RuntimeException("Failed to load ControlView.fxml", e);
             }
@@ -80,63 +87,109 @@ public class SceneManager {
         controlStage.requestFocus();
     }
 
+    // --------- Result-Wand: beliebig viele Leinwände (Index 0 = Hauptleinwand) ---------
+
     /** Öffnet (oder fokussiert) das Result-/Leinwandfenster. */
     public void showResultWindow() {
-        if (resultStage == null) {
-            try {
-                FXMLLoader loader = makeLoader("/com/example/view/ResultView.fxml");
-                Parent root = loader.load();
-                resultController = loader.getController();
+        showResultWindow(0);
+    }
 
-                resultStage = new Stage();
-                resultStage.initOwner(stage);
-                resultStage.setTitle("Resultfenster");
-                resultStage.setScene(new Scene(root));
+    /** Öffnet (oder fokussiert) die Leinwand {@code index}; fehlende Leinwände werden angelegt. */
+    public void showResultWindow(int index) {
+        Stage st = resultScreen(index).stage;
+        if (!st.isShowing())
+            st.show();
+        st.toFront();
+        st.requestFocus();
+    }
 
-                resultStage.setWidth(900);   // Anfangsbreite
-                resultStage.setHeight(600);  // Anfangshöhe
+    /**
+     * Legt eine weitere Leinwand an (eigene Stage, eigener Controller, eigene Auswahl) und
+     * platziert sie auf dem nächsten Monitor. Alle Leinwände hängen am selben Änderungs-Feed
+     * (ein gebündelter FX-Aufruf pro Pulse) und am selben Bild-Cache.
+     *
+     * @return Index der neuen Leinwand
+     */
+    public int addResultScreen() {
+        int index = resultScreens.size();
+        ResultScreen rs = resultScreen(index);
+        // Start mit der Auswahl der Hauptleinwand
+        ResultScreen primary = resultScreens.get(0);
+        if (primary.categories != null) {
+            rs.categories = new LinkedHashSet<>(primary.categories);
+            rs.showEndscore = primary.showEndscore;
+        }
+        moveResultToMonitor(index, index);
+        showResultWindow(index);
+        if (rs.categories != null)
+            rs.controller.applyVisibility(rs.categories, rs.showEndscore);
+        return index;
+    }
 
-                // Vollbild-Exit per ESC erlauben + Hinweistext
-                resultStage.setFullScreenExitHint("ESC zum Vollbild verlassen");
-                resultStage.setFullScreenExitKeyCombination(new KeyCodeCombination(KeyCode.ESCAPE));
+    /** Schließt Leinwand {@code index} endgültig (die Hauptleinwand bleibt immer bestehen). */
+    public void removeResultScreen(int index) {
+        if (index <= 0 || index >= resultScreens.size())
+            return;
+        ResultScreen rs = resultScreens.remove(index);
+        rs.controller.shutdown();
+        rs.stage.close();
+        for (int i = index; i < resultScreens.size(); i++)
+            resultScreens.get(i).stage.setTitle(resultTitle(i));
+    }
 
-                // Zusätzliche Absicherung per Event-Filter:
-                resultStage.getScene().addEventFilter(KeyEvent.KEY_PRESSED, ev -> {
-                    if (ev.getCode() == KeyCode.ESCAPE && resultStage.isFullScreen()) {
-                        resultStage.setFullScreen(false);
-                        ev.consume();
-                    }
-                });
+    public int getResultScreenCount() {
+        return Math.max(1, resultScreens.size());
+    }
 
-                resultStage.setOnCloseRequest(ev -> {
-                    resultStage.hide();
-                    ev.consume();
-                });
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to load ResultView.fxml", e);
-            }
-        }
-        if (!resultStage.isShowing())
-            resultStage.show();
-        resultStage.toFront();
-        resultStage.requestFocus();
+    /** Verschiebt Leinwand {@code index} auf Monitor {@code monitor} (modulo Anzahl Monitore). */
+    public void moveResultToMonitor(int index, int monitor) {
+        Stage st = resultScreen(index).stage;
+        List<Screen> screens = Screen.getScreens();
+        Rectangle2D b = screens.get(Math.floorMod(monitor, screens.size())).getVisualBounds();
+        boolean full = st.isFullScreen();
+        if (full)
+            st.setFullScreen(false);
+        st.setX(b.getMinX() + 40);
+        st.setY(b.getMinY() + 40);
+        if (full)
+            st.setFullScreen(true); // Vollbild auf dem Monitor, auf dem die Stage jetzt liegt
+    }
+
+    /** Monitor, auf dem Leinwand {@code index} gerade (überwiegend) liegt. */
+    public int getResultMonitor(int index) {
+        if (index >= resultScreens.size())
+            return 0;
+        Stage st = resultScreens.get(index).stage;
+        List<Screen> all = Screen.getScreens();
+        List<Screen> hit = Screen.getScreensForRectangle(st.getX(), st.getY(),
+                Math.max(1, st.getWidth()), Math.max(1, st.getHeight()));
+        return hit.isEmpty() ? 0 : Math.max(0, all.indexOf(hit.get(0)));
     }
 
     /** Vollbild für das Resultfenster umschalten (öffnet es bei Bedarf). */
     public void toggleResultFullscreen() {
-        showResultWindow();
-        resultStage.setFullScreen(!resultStage.isFullScreen());
+        toggleResultFullscreen(0);
+    }
+
+    public void toggleResultFullscreen(int index) {
+        showResultWindow(index);
+        Stage st = resultScreens.get(index).stage;
+        st.setFullScreen(!st.isFullScreen());
     }
 
     /** Resultfenster ausblenden (falls sichtbar). */
     public void hideResultWindow() {
-        if (resultStage != null && resultStage.isShowing()) {
-            resultStage.hide();
+        hideResultWindow(0);
+    }
+
+    public void hideResultWindow(int index) {
+        if (index < resultScreens.size() && resultScreens.get(index).stage.isShowing()) {
+            resultScreens.get(index).stage.hide();
         }
     }
 
     public boolean isResultShowing() {
-        return resultStage != null && resultStage.isShowing();
+        return !resultScreens.isEmpty() && resultScreens.get(0).stage.isShowing();
     }
 
     public ControlController getControlController() {
@@ -144,17 +197,107 @@ public class SceneManager {
     }
 
     public ResultController getResultController() {
-        return resultController;
+        return getResultController(0);
+    }
+
+    public ResultController getResultController(int index) {
+        return index < resultScreens.size() ? resultScreens.get(index).controller : null;
+    }
+
+    /** Alle angelegten Leinwand-Controller (z. B. für Render-Statistiken). */
+    public List<ResultController> getResultControllers() {
+        List<ResultController> out = new ArrayList<>(resultScreens.size());
+        for (ResultScreen rs : resultScreens)
+            out.add(rs.controller);
+        return out;
     }
 
     /** Vom Steuerfenster aufgerufen: Auswahl an das Resultfenster pushen. */
     public void updateResultVisibility(java.util.Set<String> categoryNames, boolean showEndscore) {
+        updateResultVisibility(0, categoryNames, showEndscore);
+    }
+
+    /** Auswahl nur für Leinwand {@code index}; die anderen Leinwände behalten ihre eigene. */
+    public void updateResultVisibility(int index, java.util.Set<String> categoryNames, boolean showEndscore) {
         // Fenster bei Bedarf öffnen
-        if (resultStage == null || !resultStage.isShowing()) {
-            showResultWindow();
+        ResultScreen rs = resultScreen(index);
+        if (!rs.stage.isShowing()) {
+            showResultWindow(index);
+        }
+        rs.categories = categoryNames == null ? null : new LinkedHashSet<>(categoryNames);
+        rs.showEndscore = showEndscore;
+        rs.controller.applyVisibility(categoryNames, showEndscore);
+    }
+
+    /** Zuletzt übernommene Auswahl der Leinwand (null = noch keine). */
+    public java.util.Set<String> getResultVisibility(int index) {
+        return index < resultScreens.size() ? resultScreens.get(index).categories : null;
+    }
+
+    public boolean isResultEndscoreShown(int index) {
+        return index >= resultScreens.size() || resultScreens.get(index).showEndscore;
+    }
+
+    private ResultScreen resultScreen(int index) {
+        while (resultScreens.size() <= index) {
+            resultScreens.add(createResultScreen(resultScreens.size()));
+        }
+        return resultScreens.get(index);
+    }
+
+    private ResultScreen createResultScreen(int index) {
+        try {
+            FXMLLoader loader = makeLoader("/com/example/view/ResultView.fxml");
+            Parent root = loader.load();
+            ResultScreen rs = new ResultScreen(new Stage(), loader.getController());
+            Stage st = rs.stage;
+
+            st.initOwner(stage);
+            st.setTitle(resultTitle(index));
+            st.setScene(new Scene(root));
+
+            st.setWidth(900);   // Anfangsbreite
+            st.setHeight(600);  // Anfangshöhe
+
+            // Vollbild-Exit per ESC erlauben + Hinweistext
+            st.setFullScreenExitHint("ESC zum Vollbild verlassen");
+            st.setFullScreenExitKeyCombination(new KeyCodeCombination(KeyCode.ESCAPE));
+
+            // Zusätzliche Absicherung per Event-Filter:
+            st.getScene().addEventFilter(KeyEvent.KEY_PRESSED, ev -> {
+                if (ev.getCode() == KeyCode.ESCAPE && st.isFullScreen()) {
+                    st.setFullScreen(false);
+                    ev.consume();
+                }
+            });
+
+            st.setOnCloseRequest(ev -> {
+                st.hide();
+                ev.consume();
+            });
+            // Versteckt: kein Änderungs-Abo, kein Render-Timer; beim Anzeigen wieder anmelden
+            st.setOnHidden(ev -> rs.controller.shutdown());
+            st.setOnShowing(ev -> rs.controller.resume());
+            return rs;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load ResultView.fxml", e);
         }
-        if (resultController != null) {
-            resultController.applyVisibility(categoryNames, showEndscore);
+    }
+
+    private static String resultTitle(int index) {
+        return index == 0 ? "Resultfenster" : "Resultfenster " + (index + 1);
+    }
+
+    // eine Leinwand: Stage + Controller + zuletzt übernommene Auswahl
+    private static final class ResultScreen {
+        final Stage stage;
+        final ResultController controller;
+        java.util.Set<String> categories;
+        boolean showEndscore = true;
+
+        ResultScreen(Stage stage, ResultController controller) {
+            this.stage = stage;
+            this.controller = controller;
         }
     }
 
@@ -206,6 +349,14 @@ public class SceneManager {
         };
     }
 
+    /** Beim App-Ende: Steuerfenster- und alle Leinwand-Controller freigeben (Sampler, Abos, Render-Timer). */
+    public void shutdown() {
+        if (controlController != null)
+            controlController.shutdown();
+        for (ResultScreen rs : resultScreens)
+            rs.controller.shutdown();
+    }
+
     public void minimizeControlWindow() {
         if (controlStage == null)
             showControlWindow();
@@ -214,13 +365,14 @@ public class SceneManager {
     }
 
     public void minimizeResultWindow() {
-        if (resultStage == null)
-            showResultWindow();
-        if (resultStage != null) {
-            // aus dem Vollbild raus, bevor wir minimieren
-            if (resultStage.isFullScreen())
-                resultStage.setFullScreen(false);
-            resultStage.setIconified(true);
-        }
+        minimizeResultWindow(0);
+    }
+
+    public void minimizeResultWindow(int index) {
+        Stage st = resultScreen(index).stage;
+        // aus dem Vollbild raus, bevor wir minimieren
+        if (st.isFullScreen())
+            st.setFullScreen(false);
+        st.setIconified(true);
     }
 }
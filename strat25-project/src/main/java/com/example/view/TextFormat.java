@@ -0,0 +1,116 @@
+package com.example.view;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * TextFormat
+ * ----------------
+ * Allocation-free replacements for the {@code String.format} patterns of the hot UI labels
+ * ({@code "%.2f"}, {@code "(%.2fx)"}, {@code "%.1f%%"}, {@code "%02d:%02d:%02d"}).
+ *
+ * - Appends into a caller-owned StringBuilder (no Formatter, no varargs boxing).
+ * - {@link #key(double)} is the value as it is displayed (rounded fixed-point long):
+ *   equal keys mean equal text, so callers can skip the formatting altogether.
+ * - Uses the decimal separator of the default FORMAT locale, like String.format did.
+ *
+ * Instances are immutable and can be shared as constants.
+ */
+public final class TextFormat {
+
+    private static final char DECIMAL_SEPARATOR =
+            DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT)).getDecimalSeparator();
+    private static final long[] POW10 = { 1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L };
+    /** Above this the scaled long would lose precision: fall back to String.format. */
+    private static final double MAX_FIXED = 1e15;
+
+    /** {@code "hh:mm:ss"} of (floored) seconds. */
+    public static final TextFormat CLOCK = new TextFormat("", -1, "");
+
+    private final String prefix;
+    private final int decimals; // -1 = clock
+    private final String suffix;
+
+    private TextFormat(String prefix, int decimals, String suffix) {
+        this.prefix = prefix;
+        this.decimals = decimals;
+        this.suffix = suffix;
+    }
+
+    /** {@code prefix + "%.{decimals}f" + suffix}; decimals 0..6. */
+    public static TextFormat fixed(String prefix, int decimals, String suffix) {
+        if (decimals < 0 || decimals >= POW10.length) throw new IllegalArgumentException("decimals: " + decimals);
+        return new TextFormat(prefix == null ? "" : prefix, decimals, suffix == null ? "" : suffix);
+    }
+
+    /** The value as displayed: equal keys produce equal text. */
+    public long key(double v) {
+        if (decimals < 0) return (long) Math.floor(v);
+        if (!Double.isFinite(v) || Math.abs(v) >= MAX_FIXED) return Double.doubleToLongBits(v);
+        return scaled(v, decimals);
+    }
+
+    public StringBuilder append(StringBuilder sb, double v) {
+        sb.append(prefix);
+        if (decimals < 0) appendClock(sb, (long) Math.floor(v));
+        else if (!Double.isFinite(v) || Math.abs(v) >= MAX_FIXED) sb.append(String.format("%." + decimals + "f", v));
+        else appendScaled(sb, scaled(v, decimals), decimals);
+        return sb.append(suffix);
+    }
+
+    /** One-shot convenience (allocates the result string only). */
+    public String format(double v) {
+        return append(new StringBuilder(prefix.length() + suffix.length() + 16), v).toString();
+    }
+
+    // ---------- primitives ---------------------------------------------------
+
+    /**
+     * Rounded half away from zero on the decimal value, like String.format (HALF_UP of
+     * {@code Double.toString}). The binary product {@code |v| * 10^d} can land just below .5 (1.005 * 100
+     * = 100.49999999999999), so values within a few ulps of a tie are rounded through BigDecimal;
+     * everything else stays allocation-free.
+     */
+    private static long scaled(double v, int decimals) {
+        double x = Math.abs(v) * POW10[decimals];
+        double frac = x - Math.floor(x);
+        long r;
+        if (Math.abs(frac - 0.5) <= 8 * Math.ulp(x)) {
+            r = BigDecimal.valueOf(Math.abs(v)).setScale(decimals, RoundingMode.HALF_UP).unscaledValue().longValue();
+        } else {
+            r = Math.round(x);
+        }
+        return v < 0 ? -r : r;
+    }
+
+    /** Appends {@code scaled / 10^decimals} with exactly {@code decimals} fraction digits. */
+    static void appendScaled(StringBuilder sb, long scaled, int decimals) {
+        if (scaled < 0) {
+            sb.append('-');
+            scaled = -scaled;
+        }
+        long p = POW10[decimals];
+        sb.append(scaled / p);
+        if (decimals == 0) return;
+        sb.append(DECIMAL_SEPARATOR);
+        long frac = scaled % p;
+        for (long d = p / 10; d > 1 && frac < d; d /= 10) sb.append('0');
+        sb.append(frac);
+    }
+
+    static void appendClock(StringBuilder sb, long seconds) {
+        long h = seconds / 3600;
+        long m = (seconds % 3600) / 60;
+        long s = seconds % 60;
+        append2(sb, h).append(':');
+        append2(sb, m).append(':');
+        append2(sb, s);
+    }
+
+    private static StringBuilder append2(StringBuilder sb, long v) {
+        if (v >= 0 && v < 10) sb.append('0');
+        return sb.append(v);
+    }
+}
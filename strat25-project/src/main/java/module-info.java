@@ -0,0 +1,16 @@
+/**
+ * Strat25 als Modul: Grundlage für das jlink-Laufzeitabbild (-Pjlink), das nur die benötigten
+ * JDK-/JavaFX-Module enthält. Tests laufen weiterhin auf dem Classpath (Surefire useModulePath=false).
+ */
+module com.example.strat {
+    requires javafx.controls;
+    requires javafx.fxml;
+    requires java.desktop;      // ImageIO/AWT (Offscreen-Aufzeichnung)
+    requires java.management;   // Thread-CPU-Zeit, Heap/GC im Performance-Panel
+    requires jdk.httpserver;    // Zuschauer-Board
+    requires jdk.jfr;           // eigene JFR-Events
+
+    exports com.example to javafx.graphics;              // Application-Start
+    opens com.example.controller to javafx.fxml;         // @FXML-Felder/-Methoden
+    exports com.example.metrics.jfr to jdk.jfr;
+}
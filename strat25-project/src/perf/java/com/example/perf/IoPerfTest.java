@@ -0,0 +1,47 @@
+package com.example.perf;
+
+import com.example.bench.BenchGames;
+import com.example.model.Game;
+import com.example.net.InputMessage;
+import com.example.net.InputType;
+import com.example.repository.RepositoryService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+/**
+ * Budgets of the I/O paths: save and load of a large game (300 teams, 24 categories) in a temp directory
+ * and decoding one input line of the NetInputServer. Run with {@code mvn -Pperf verify}.
+ */
+class IoPerfTest {
+
+    private static PerfBaseline baseline;
+
+    @BeforeAll
+    static void setUp() {
+        baseline = new PerfBaseline();
+    }
+
+    @AfterAll
+    static void check() throws Exception {
+        baseline.verify();
+    }
+
+    @Test
+    void saveAndLoadLargeGame(@TempDir Path dir) throws Exception {
+        Game game = BenchGames.synthetic(300, 24);
+        RepositoryService<Game> repo = new RepositoryService<>(dir);
+        baseline.add(PerfHarness.measure("save.large", 10, 10, i -> repo.save(game)));
+        baseline.add(PerfHarness.measure("load.large", 10, 10, i -> repo.load(game.getName())));
+    }
+
+    @Test
+    void decodeInputLine() throws Exception {
+        String line = new InputMessage(InputType.MATERIAL_ADD).put("teamId", 9).put("build", "Versailles")
+                .put("material", "STEINZIEGEL").put("amount", 12).encodeLine();
+        baseline.add(PerfHarness.measure("input.decode", 200_000, 50_000, i -> InputMessage.decodeLine(line)));
+    }
+}
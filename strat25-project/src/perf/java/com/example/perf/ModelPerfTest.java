@@ -0,0 +1,65 @@
+package com.example.perf;
+
+import com.example.bench.BenchGames;
+import com.example.event.GameChangeBus;
+import com.example.event.GameChangeSet;
+import com.example.model.BuildCategory;
+import com.example.model.Game;
+import com.example.model.GameView;
+import com.example.model.Material;
+import com.example.model.Team;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Budgets of the logic-thread hot paths: the prestige event over 100 teams, one material input and
+ * one snapshot publish (capture + delivery to a logic-thread listener). Run with {@code mvn -Pperf verify}.
+ */
+class ModelPerfTest {
+
+    private static PerfBaseline baseline;
+
+    @BeforeAll
+    static void setUp() {
+        baseline = new PerfBaseline();
+    }
+
+    @AfterAll
+    static void check() throws Exception {
+        baseline.verify();
+    }
+
+    @Test
+    void prestigeDistribution100Teams() throws Exception {
+        Game game = BenchGames.synthetic(100, 4);
+        baseline.add(PerfHarness.measure("prestige.100teams", 10_000, 1_000, i -> game.addTimedPrestige()));
+    }
+
+    @Test
+    void materialAdd() throws Exception {
+        Game game = BenchGames.synthetic(100, 4);
+        BuildCategory build = BenchGames.firstBuild(game);
+        build.nextConstructionPhase();
+        List<Team> teams = BenchGames.teams(game);
+        Material[] materials = Material.values();
+        baseline.add(PerfHarness.measure("material.add", 200_000, 50_000,
+                i -> build.addMaterial(teams.get(i % teams.size()), materials[i % materials.length], 1 + (i & 3))));
+    }
+
+    @Test
+    void snapshotPublish() throws Exception {
+        Game game = BenchGames.synthetic(100, 4);
+        GameChangeBus bus = new GameChangeBus();
+        long[] delivered = new long[1];
+        bus.subscribe((view, changes) -> delivered[0] += view.version());
+        baseline.add(PerfHarness.measure("snapshot.publish", 20_000, 2_000, i -> {
+            bus.changes().markAllTeamsPrestige();
+            GameChangeSet changes = bus.drain();
+            bus.publish(GameView.capture(game, i + 1L), changes);
+        }));
+        if (delivered[0] == 0) throw new AssertionError("listener not called");
+    }
+}
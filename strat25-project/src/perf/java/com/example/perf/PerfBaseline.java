@@ -0,0 +1,112 @@
+package com.example.perf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Committed budgets ({@code perf-baseline.properties}: {@code <name>.nanos}, {@code <name>.bytes}) and the
+ * check against them.
+ *
+ * System properties (set by the {@code perf} profile):
+ * - {@code perf.tolerance.time} (default 1.0): allowed slowdown, 1.0 = +100 % (machines and load differ, keep it wide).
+ * - {@code perf.tolerance.alloc} (default 0.1): allowed extra allocation (deterministic, keep it tight).
+ * - {@code perf.updateBaseline=true}: write the measured values to {@code perf.baselineFile} instead of
+ *   checking (commit the file after a deliberate change).
+ */
+final class PerfBaseline {
+
+    private static final String RESOURCE = "/perf-baseline.properties";
+    /** Absolute slack for tiny allocations (a few objects more is not a regression). */
+    private static final double ALLOC_SLACK_BYTES = 64;
+
+    private final Properties baseline = new Properties();
+    private final double timeTolerance = Double.parseDouble(System.getProperty("perf.tolerance.time", "1.0"));
+    private final double allocTolerance = Double.parseDouble(System.getProperty("perf.tolerance.alloc", "0.1"));
+    private final boolean update = Boolean.getBoolean("perf.updateBaseline");
+    private final List<PerfHarness.Result> results = new ArrayList<>();
+
+    PerfBaseline() {
+        try (InputStream in = PerfBaseline.class.getResourceAsStream(RESOURCE)) {
+            if (in != null) {
+                try (Reader r = new java.io.InputStreamReader(in, StandardCharsets.UTF_8)) {
+                    baseline.load(r);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read " + RESOURCE, e);
+        }
+    }
+
+    void add(PerfHarness.Result r) {
+        results.add(r);
+        System.out.println(format(r));
+    }
+
+    /** Fails with all regressions at once (or writes the baseline in update mode). */
+    void verify() throws IOException {
+        if (update) {
+            writeBaseline();
+            return;
+        }
+        List<String> problems = new ArrayList<>();
+        for (PerfHarness.Result r : results) {
+            String nanos = baseline.getProperty(r.name() + ".nanos");
+            String bytes = baseline.getProperty(r.name() + ".bytes");
+            if (nanos == null || bytes == null) {
+                problems.add(r.name() + ": no baseline (run with -Dperf.updateBaseline=true and commit the file)");
+                continue;
+            }
+            double timeBudget = Double.parseDouble(nanos) * (1 + timeTolerance);
+            double allocBudget = Double.parseDouble(bytes) * (1 + allocTolerance) + ALLOC_SLACK_BYTES;
+            if (r.nanosPerOp() > timeBudget) {
+                problems.add(String.format(Locale.ROOT, "%s: %.0f ns/op > budget %.0f ns/op (baseline %s, +%.0f %%)",
+                        r.name(), r.nanosPerOp(), timeBudget, nanos, timeTolerance * 100));
+            }
+            if (r.bytesPerOp() > allocBudget) {
+                problems.add(String.format(Locale.ROOT, "%s: %.0f B/op > budget %.0f B/op (baseline %s, +%.0f %%)",
+                        r.name(), r.bytesPerOp(), allocBudget, bytes, allocTolerance * 100));
+            }
+        }
+        if (!problems.isEmpty()) fail("Performance regression:\n  " + String.join("\n  ", problems));
+    }
+
+    private void writeBaseline() throws IOException {
+        Path file = Path.of(System.getProperty("perf.baselineFile", "src/perf/resources/perf-baseline.properties"));
+        TreeMap<String, String> merged = new TreeMap<>();
+        if (Files.exists(file)) {
+            Properties existing = new Properties();
+            try (Reader r = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                existing.load(r);
+            }
+            existing.forEach((k, v) -> merged.put((String) k, (String) v));
+        }
+        for (PerfHarness.Result r : results) {
+            merged.put(r.name() + ".nanos", String.format(Locale.ROOT, "%.0f", r.nanosPerOp()));
+            merged.put(r.name() + ".bytes", String.format(Locale.ROOT, "%.0f", r.bytesPerOp()));
+        }
+        try (Writer w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            w.write("# Budgets of the perf regression suite (mvn -Pperf verify), per operation.\n");
+            w.write("# Regenerate: mvn -Pperf verify -Dperf.updateBaseline=true\n");
+            for (var e : merged.entrySet()) w.write(e.getKey() + "=" + e.getValue() + "\n");
+        }
+        System.out.println("perf baseline written: " + file.toAbsolutePath());
+    }
+
+    private String format(PerfHarness.Result r) {
+        return String.format(Locale.ROOT, "perf %-28s %12.0f ns/op %12.0f B/op   (baseline %s ns, %s B)",
+                r.name(), r.nanosPerOp(), r.bytesPerOp(),
+                baseline.getProperty(r.name() + ".nanos", "-"), baseline.getProperty(r.name() + ".bytes", "-"));
+    }
+}
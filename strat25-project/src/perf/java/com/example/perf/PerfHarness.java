@@ -0,0 +1,53 @@
+package com.example.perf;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Minimal measuring loop for the regression suite (not a JMH replacement, see {@code -Pjmh} for that):
+ * warm up, then several rounds on the calling thread.
+ *
+ * - Time per operation: best round (noise from GC, other processes or the scheduler only ever adds time,
+ *   so the minimum is the most repeatable number on a shared machine).
+ * - Allocation per operation: also the best round, from the thread's allocation counter
+ *   ({@code com.sun.management.ThreadMXBean}), i.e. exact bytes, independent of GC timing. Rounds that ran
+ *   before C2 finished (escape analysis not yet applied) allocate more and are dropped that way.
+ */
+final class PerfHarness {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final int ROUNDS = 10;
+
+    private PerfHarness() { }
+
+    /** One measured operation (the op index lets callers rotate inputs without allocating). */
+    @FunctionalInterface
+    interface Op {
+        void run(int i) throws Exception;
+    }
+
+    record Result(String name, double nanosPerOp, double bytesPerOp) { }
+
+    /**
+     * @param warmupOps operations before measuring (JIT)
+     * @param opsPerRound operations per measured round
+     */
+    static Result measure(String name, int warmupOps, int opsPerRound, Op op) throws Exception {
+        for (int i = 0; i < warmupOps; i++) op.run(i);
+
+        long tid = Thread.currentThread().threadId();
+        double minNanos = Double.MAX_VALUE;
+        double minBytes = Double.MAX_VALUE;
+        int i = warmupOps;
+        for (int r = 0; r < ROUNDS; r++) {
+            long a0 = THREADS.getThreadAllocatedBytes(tid);
+            long t0 = System.nanoTime();
+            for (int k = 0; k < opsPerRound; k++) op.run(i++);
+            long t1 = System.nanoTime();
+            long a1 = THREADS.getThreadAllocatedBytes(tid);
+            minNanos = Math.min(minNanos, (t1 - t0) / (double) opsPerRound);
+            minBytes = Math.min(minBytes, (a1 - a0) / (double) opsPerRound);
+        }
+        return new Result(name, minNanos, minBytes);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.model.GameView;
+
+/** Runs FX deliveries through a queue that stands in for the FX pulses (no toolkit needed). */
+public class GameChangeBusTest {
+
+    private final ArrayDeque<Runnable> pulse = new ArrayDeque<>();
+    private final GameChangeBus bus = new GameChangeBus(pulse::add);
+
+    private void runPulse() {
+        for (int n = pulse.size(); n > 0; n--) pulse.poll().run();
+    }
+
+    @Test
+    void pendingChangesAreDrainedOnce() {
+        assertThat(bus.hasPendingChanges()).isFalse();
+
+        bus.changes().markTeamPrestige(3);
+        assertThat(bus.hasPendingChanges()).isTrue();
+
+        GameChangeSet batch = bus.drain();
+        assertThat(batch.teamPrestige(3)).isTrue();
+        assertThat(bus.hasPendingChanges()).isFalse();
+        assertThat(bus.drain().isEmpty()).isTrue();
+    }
+
+    @Test
+    void logicListenersGetEveryNonEmptyPublish() {
+        List<GameChangeSet> seen = new ArrayList<>();
+        bus.subscribe((view, changes) -> seen.add(changes));
+
+        bus.publish(GameView.EMPTY, new GameChangeSet.Builder().markTime().build());
+        bus.publish(GameView.EMPTY, GameChangeSet.NONE); // nothing changed: snapshot only
+        bus.publish(GameView.EMPTY, new GameChangeSet.Builder().markSettings().build());
+
+        assertThat(seen).hasSize(2);
+        assertThat(bus.current()).isSameAs(GameView.EMPTY);
+    }
+
+    @Test
+    void fxListenersGetOneMergedDeliveryPerPulse() {
+        List<GameChangeSet> seen = new ArrayList<>();
+        bus.subscribeFx((view, changes) -> seen.add(changes));
+        runPulse(); // initial delivery of the current snapshot
+        assertThat(seen).containsExactly(GameChangeSet.ALL);
+        seen.clear();
+
+        // three publishes between two pulses -> one runLater, one merged delivery
+        bus.publish(GameView.EMPTY, new GameChangeSet.Builder().markTeamPrestige(1).build());
+        bus.publish(GameView.EMPTY, new GameChangeSet.Builder().markTeamPrestige(2).build());
+        bus.publish(GameView.EMPTY, new GameChangeSet.Builder().markCategoryInfluence("Unruhe").build());
+        assertThat(pulse).hasSize(1);
+        runPulse();
+
+        assertThat(seen).hasSize(1);
+        assertThat(seen.get(0).teamPrestige(1)).isTrue();
+        assertThat(seen.get(0).teamPrestige(2)).isTrue();
+        assertThat(seen.get(0).categoryInfluence("Unruhe")).isTrue();
+
+        // next pulse: nothing new, nothing delivered
+        runPulse();
+        assertThat(seen).hasSize(1);
+    }
+
+    /** Changeset whose team marker names the version it belongs to. */
+    private static GameChangeSet changesOf(int version) {
+        return new GameChangeSet.Builder().markTeamPrestige(version).build();
+    }
+
+    @Test
+    void fxDeliveryPairsTheViewWithTheChangesThatLedToIt() {
+        List<GameView> views = new ArrayList<>();
+        List<GameChangeSet> seen = new ArrayList<>();
+        bus.subscribeFx((view, changes) -> { views.add(view); seen.add(changes); });
+        runPulse();
+        views.clear();
+        seen.clear();
+
+        bus.publish(GameView.capture(null, 1), changesOf(1));
+        runPulse();
+        bus.publish(GameView.capture(null, 2), changesOf(2));
+        bus.publish(GameView.capture(null, 3), changesOf(3));
+        runPulse();
+
+        assertThat(views).extracting(GameView::version).containsExactly(1L, 3L);
+        assertThat(seen.get(0).teamPrestige(1)).isTrue();
+        assertThat(seen.get(0).teamPrestige(2)).isFalse();
+        assertThat(seen.get(1).teamPrestige(2)).isTrue();
+        assertThat(seen.get(1).teamPrestige(3)).isTrue();
+    }
+
+    @Test
+    void concurrentFlushNeverSeesANewerViewThanItsChanges() throws Exception {
+        ExecutorService fxThread = Executors.newSingleThreadExecutor();
+        GameChangeBus racing = new GameChangeBus(fxThread);
+        List<String> mismatches = new ArrayList<>(); // only touched on fxThread
+        long[] lastVersion = { 0L };
+        racing.subscribeFx((view, changes) -> {
+            if (view.version() == 0L) return; // initial snapshot
+            if (!changes.teamPrestige((int) view.version()))
+                mismatches.add("view " + view.version() + " with " + changes);
+            lastVersion[0] = view.version();
+        });
+
+        int publishes = 20_000;
+        for (int v = 1; v <= publishes; v++) {
+            racing.publish(GameView.capture(null, v), changesOf(v));
+        }
+        fxThread.shutdown();
+        assertThat(fxThread.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(mismatches).isEmpty();
+        assertThat(lastVersion[0]).isEqualTo(publishes);
+    }
+
+    @Test
+    void closedFxSubscriptionGetsNothing() throws Exception {
+        List<GameChangeSet> seen = new ArrayList<>();
+        AutoCloseable sub = bus.subscribeFx((view, changes) -> seen.add(changes));
+        sub.close();
+
+        bus.publish(GameView.EMPTY, new GameChangeSet.Builder().markTime().build());
+        runPulse();
+
+        assertThat(seen).isEmpty();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.event.GameChangeSet.Aspect;
+
+public class GameChangeSetTest {
+
+    @Test
+    void mergeIsTheUnionOfBothSets() {
+        GameChangeSet a = new GameChangeSet.Builder().markTeamPrestige(1).markCategoryInfluence("Unruhe").build();
+        GameChangeSet b = new GameChangeSet.Builder().markTeamPrestige(2).markBuildLedger("Versailles").build();
+
+        GameChangeSet merged = a.merge(b);
+
+        assertThat(merged.teamPrestige(1)).isTrue();
+        assertThat(merged.teamPrestige(2)).isTrue();
+        assertThat(merged.teamPrestige(3)).isFalse();
+        assertThat(merged.categoryInfluence("Unruhe")).isTrue();
+        assertThat(merged.categoryInfluence("Versailles")).isFalse();
+        assertThat(merged.buildLedger("Versailles")).isTrue();
+        assertThat(merged.has(Aspect.TIME)).isFalse();
+        assertThat(merged.isFullRefresh()).isFalse();
+        // inputs unchanged (immutable)
+        assertThat(a.teamPrestige(2)).isFalse();
+    }
+
+    @Test
+    void mergeWithAllTeamsOrFullRefreshWidens() {
+        GameChangeSet one = new GameChangeSet.Builder().markTeamPrestige(1).build();
+        GameChangeSet all = new GameChangeSet.Builder().markAllTeamsPrestige().build();
+
+        assertThat(one.merge(all).teamPrestige(42)).isTrue();
+        assertThat(one.merge(GameChangeSet.ALL).isFullRefresh()).isTrue();
+        assertThat(GameChangeSet.ALL.merge(one).categoryInfluence("any")).isTrue();
+    }
+
+    @Test
+    void mergeWithEmptyReturnsTheOtherSet() {
+        GameChangeSet time = new GameChangeSet.Builder().markTime().build();
+
+        assertThat(time.merge(GameChangeSet.NONE)).isSameAs(time);
+        assertThat(GameChangeSet.NONE.merge(time)).isSameAs(time);
+        assertThat(time.merge(null)).isSameAs(time);
+    }
+
+    @Test
+    void drainReturnsTheBatchAndStartsOver() {
+        GameChangeSet.Builder b = new GameChangeSet.Builder();
+        assertThat(b.isEmpty()).isTrue();
+
+        b.markSettings().markCategoryInfluence(null); // null names are ignored
+        GameChangeSet first = b.drain();
+
+        assertThat(first.has(Aspect.SETTINGS)).isTrue();
+        assertThat(first.has(Aspect.CATEGORY_INFLUENCE)).isFalse();
+        assertThat(b.isEmpty()).isTrue();
+        assertThat(b.drain().isEmpty()).isTrue();
+    }
+}
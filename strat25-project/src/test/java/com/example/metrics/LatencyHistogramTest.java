@@ -0,0 +1,54 @@
+package com.example.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class LatencyHistogramTest {
+
+    @Test
+    void percentilesOfUniformValuesAreWithinBucketPrecision() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (long v = 1; v <= 100_000; v++) h.record(v * 1_000L); // 1 us .. 100 ms
+
+        assertThat(h.count()).isEqualTo(100_000);
+        assertThat((double) h.valueAtPercentile(50)).isCloseTo(50_000_000.0, within(50_000.0));
+        assertThat((double) h.valueAtPercentile(99)).isCloseTo(99_000_000.0, within(99_000.0));
+        assertThat((double) h.valueAtPercentile(99.9)).isCloseTo(99_900_000.0, within(99_900.0));
+        assertThat(h.valueAtPercentile(100)).isEqualTo(100_000_000L);
+        assertThat(h.maxNanos()).isEqualTo(100_000_000L);
+        assertThat(h.meanNanos()).isCloseTo(50_000_500.0, within(1.0));
+    }
+
+    @Test
+    void smallValuesAreExactAndAddMergesCounts() {
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        a.record(7);
+        a.record(7);
+        b.record(1_500);
+        b.record(Long.MAX_VALUE); // clamped, not lost
+
+        a.add(b);
+        assertThat(a.count()).isEqualTo(4);
+        assertThat(a.valueAtPercentile(50)).isEqualTo(7);
+        assertThat(a.valueAtPercentile(75)).isEqualTo(1_500);
+        assertThat(a.valueAtPercentile(100)).isGreaterThan(3_600_000_000_000L); // > 1 h
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 7, 10 })
+    void bucketsAreContiguous(int subBucketBits) {
+        LatencyHistogram h = new LatencyHistogram(subBucketBits);
+        long previous = -1;
+        for (int i = 0; h.highestEquivalent(i) < (1L << 42); i++) {
+            long hi = h.highestEquivalent(i);
+            assertThat(h.index(previous + 1)).isEqualTo(i);
+            assertThat(h.index(hi)).isEqualTo(i);
+            previous = hi;
+        }
+    }
+}
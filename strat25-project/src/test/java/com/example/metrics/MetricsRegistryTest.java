@@ -0,0 +1,55 @@
+package com.example.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MetricsRegistryTest {
+
+    @Test
+    void timersMergeStripesFromManyThreads() throws Exception {
+        MetricsRegistry m = new MetricsRegistry();
+        MetricsRegistry.Timer t = m.timer("work");
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int k = 1; k <= 1_000; k++) t.record(k * 1_000L); // 1..1000 us
+            }));
+        }
+        for (Thread th : threads) th.join();
+
+        MetricsRegistry.TimerStats s = m.snapshot().timers().get("work");
+        assertThat(s.count()).isEqualTo(8_000);
+        assertThat(s.p50Micros()).isBetween(496.0, 504.0);
+        assertThat(s.maxMicros()).isEqualTo(1_000.0);
+        assertThat(m.timer("work")).isSameAs(t);
+    }
+
+    @Test
+    void dumpAppendsCountersGaugesAndTimers(@TempDir Path dir) throws Exception {
+        MetricsRegistry m = new MetricsRegistry();
+        AtomicLong depth = new AtomicLong(3);
+        m.counter("save.bytes").add(4096);
+        m.gauge("logic.queue.INPUT", depth::get);
+        m.timer("clock.tick").record(1_500_000);
+
+        Path file = dir.resolve("metrics.log");
+        try (AutoCloseable dump = m.startDump(file, Duration.ofMillis(20))) {
+            Thread.sleep(60);
+        } // schreibt beim Schließen einen letzten Block
+
+        String text = Files.readString(file);
+        assertThat(text).contains("counter save.bytes 4096")
+                .contains("gauge   logic.queue.INPUT 3.000")
+                .contains("timer   clock.tick count=1 mean=1500.0us");
+        assertThat(text.split("\n# ")).hasSizeGreaterThanOrEqualTo(2);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.metrics.jfr;
+
+import com.example.model.Game;
+import com.example.repository.RepositoryService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightRecordingTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void dumpContainsSaveEventsWithSizeAndKind() throws Exception {
+        RepositoryService<Game> repo = new RepositoryService<>(dir.resolve("repo"));
+        Path file;
+        try (FlightRecording rec = FlightRecording.start()) {
+            repo.saveSerialized("Abend 1", new byte[4096]);
+            repo.backupSerialized("Abend 1", new byte[4096]);
+            file = rec.dump(dir.resolve("recordings"));
+        }
+
+        assertThat(file).exists();
+        assertThat(Files.size(file)).isPositive();
+
+        List<RecordedEvent> saves = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("com.example.Save"))
+                .toList();
+        assertThat(saves).extracting(e -> e.getString("kind")).containsExactly("save", "backup");
+        assertThat(saves).allSatisfy(e -> assertThat(e.getLong("bytes")).isEqualTo(4096));
+    }
+}
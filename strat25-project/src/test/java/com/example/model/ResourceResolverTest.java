@@ -0,0 +1,69 @@
+package com.example.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ResourceResolverTest {
+
+    @Test
+    void negativeLookupIsCachedUntilTheFileIsDropped(@TempDir Path dir) throws Exception {
+        ResourceResolver resolver = new ResourceResolver();
+
+        assertThat(resolver.resolvePhaseImage(null, dir, 1)).isEmpty();
+        assertThat(resolver.size()).isEqualTo(1);
+
+        Files.write(dir.resolve("1.png"), new byte[] { 1 });
+
+        // picked up through the directory watch, without explicit invalidation
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> resolver.resolvePhaseImage(null, dir, 1).isPresent());
+        assertThat(resolver.resolvePhaseImage(null, dir, 1).get().getPath()).endsWith("/1.png");
+    }
+
+    @Test
+    void invalidateDropsLookupsOfThatDirectory(@TempDir Path dir) throws Exception {
+        ResourceResolver resolver = new ResourceResolver();
+        Path img = dir.resolve("icon.png");
+
+        assertThat(resolver.resolveImage(img.toString())).isEmpty();
+        assertThat(resolver.resolvePhaseImage(null, dir, 2)).isEmpty();
+
+        resolver.invalidate(dir);
+        assertThat(resolver.size()).isZero();
+    }
+
+    @Test
+    void lookupInAFolderCreatedLaterIsPickedUp(@TempDir Path root) throws Exception {
+        ResourceResolver resolver = new ResourceResolver();
+        Path phases = root.resolve("phases");
+
+        assertThat(resolver.resolvePhaseImage(null, phases, 1)).isEmpty();
+
+        // folder did not exist at the first lookup: watched through its parent
+        Files.createDirectories(phases);
+        Files.write(phases.resolve("1.png"), new byte[] { 1 });
+
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> resolver.resolvePhaseImage(null, phases, 1).isPresent());
+    }
+
+    @Test
+    void classpathHitIsWatchedInItsOwnFolderAndNeverAtTheRoot() throws Exception {
+        ResourceResolver resolver = new ResourceResolver();
+
+        URL hit = resolver.resolveImage("/com/example/images/Revolution/3.png").orElseThrow();
+        assertThat(hit.getProtocol()).isEqualTo("file"); // target/classes
+        assertThat(resolver.resolveImage("/com/example/images/no-such-folder/x.png")).isEmpty();
+
+        Path folder = Path.of(hit.toURI()).getParent().toAbsolutePath().normalize();
+        assertThat(resolver.watchedDirs()).containsExactly(folder);
+    }
+}
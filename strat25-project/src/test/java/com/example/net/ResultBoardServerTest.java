@@ -0,0 +1,70 @@
+package com.example.net;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.event.GameChangeSet;
+import com.example.model.Game;
+import com.example.model.GameView;
+import com.example.model.Team;
+import com.example.service.GameFactoryService;
+
+public class ResultBoardServerTest {
+
+    @Test
+    void streamStartsWithFullStateAndThenSendsOnlyChangedPrestige() throws Exception {
+        Game game = GameFactoryService.newGame("Board Test");
+        Team team = game.getFamilies().get(0).getTeams().get(0);
+
+        try (ResultBoardServer board = new ResultBoardServer(0, 10, 10)) {
+            board.start();
+            board.onGameChanged(GameView.capture(game, 1L), GameChangeSet.ALL);
+
+            HttpClient http = HttpClient.newHttpClient();
+            HttpRequest req = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + board.getPort() + "/events"))
+                    .timeout(Duration.ofSeconds(10)).build();
+            HttpResponse<InputStream> resp = http.send(req, HttpResponse.BodyHandlers.ofInputStream());
+            assertThat(resp.statusCode()).isEqualTo(200);
+
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(resp.body(), StandardCharsets.UTF_8))) {
+                String full = nextData(in);
+                assertThat(full).startsWith("{\"v\":1,\"full\":true").contains("\"teams\":[");
+
+                team.setPrestige(team.getPrestige() + 12.5);
+                board.onGameChanged(GameView.capture(game, 2L), GameChangeSet.ALL);
+
+                String delta = nextData(in);
+                assertThat(delta).startsWith("{\"v\":2").contains("\"p\":{\"" + team.getId() + "\":")
+                        .doesNotContain("\"full\"").doesNotContain("\"i\":");
+            }
+        }
+    }
+
+    @Test
+    void deltaOfUnchangedViewsIsOnlyTheVersion() {
+        Game game = GameFactoryService.newGame("Board Test");
+        GameView a = GameView.capture(game, 1L);
+        GameView b = GameView.capture(game, 2L);
+
+        assertThat(BoardJson.encode(a, b)).isEqualTo("{\"v\":2}");
+    }
+
+    private static String nextData(BufferedReader in) throws Exception {
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.startsWith("data: ")) return line.substring(6);
+        }
+        throw new AssertionError("stream ended");
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.net.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.example.net.InputType;
+
+public class InputLoadGeneratorTest {
+
+    @ParameterizedTest
+    @EnumSource(InputLoadGenerator.ConnectMode.class)
+    void shortRunAgainstLocalHostAcknowledgesAndAppliesEveryMessage(InputLoadGenerator.ConnectMode connect)
+            throws Exception {
+        InputLoadGenerator.Options o = new InputLoadGenerator.Options(null, 0, 4, 200,
+                Duration.ofMillis(800), Duration.ofMillis(200),
+                Map.of(InputType.TEAM_PRESTIGE_DELTA, 2, InputType.CATEGORY_INFLUENCE_DELTA, 1, InputType.MATERIAL_ADD, 1),
+                connect, false, 7L);
+
+        InputLoadGenerator.Report r = new InputLoadGenerator(o).run();
+
+        assertThat(r.sent()).isPositive();
+        assertThat(r.errors()).isZero();
+        assertThat(r.failed()).isZero();
+        assertThat(r.ok()).isEqualTo(r.sent());
+        assertThat(r.applied()).isEqualTo(r.ok());
+        assertThat(r.ack().count()).isEqualTo(r.ok());
+        assertThat(r.appliedLatency().valueAtPercentile(50)).isPositive();
+        assertThat(r.format()).contains("p999").contains("applied");
+    }
+
+    @Test
+    void parsesCommandLine() {
+        InputLoadGenerator.Options o = InputLoadGenerator.parse(new String[] {
+                "--clients", "12", "--rate", "1500", "--duration", "2.5", "--mix", "material_add=3,SET_SPEED",
+                "--connect", "per-message", "--host", "10.0.0.5" });
+
+        assertThat(o.clients()).isEqualTo(12);
+        assertThat(o.rate()).isEqualTo(1500.0);
+        assertThat(o.duration()).isEqualTo(Duration.ofMillis(2500));
+        assertThat(o.mix()).containsOnly(Map.entry(InputType.MATERIAL_ADD, 3), Map.entry(InputType.SET_SPEED, 1));
+        assertThat(o.connect()).isEqualTo(InputLoadGenerator.ConnectMode.PER_MESSAGE);
+        assertThat(o.port()).isEqualTo(53536);
+    }
+}
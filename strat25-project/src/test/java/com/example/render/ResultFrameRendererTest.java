@@ -0,0 +1,99 @@
+package com.example.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.model.GameView;
+import com.example.service.GameFactoryService;
+
+public class ResultFrameRendererTest {
+
+    @Test
+    void rendersPngFrameOfConfiguredSize() throws Exception {
+        GameView view = GameView.capture(GameFactoryService.newGame("Render Test"), 1L);
+        ResultFrameRenderer renderer = new ResultFrameRenderer(640, 360);
+
+        byte[] png = renderer.renderPng(view);
+
+        BufferedImage img = ImageIO.read(new ByteArrayInputStream(png));
+        assertThat(img.getWidth()).isEqualTo(640);
+        assertThat(img.getHeight()).isEqualTo(360);
+    }
+
+    @Test
+    void recorderWritesFramesAndReusesUnchangedViews(@TempDir Path dir) throws Exception {
+        GameView view = GameView.capture(GameFactoryService.newGame("Render Test"), 7L);
+
+        try (HeadlessResultRecorder rec = new HeadlessResultRecorder(() -> view,
+                new ResultFrameRenderer(320, 180), dir, 50.0, 2)) {
+            rec.start();
+            await().atMost(Duration.ofSeconds(20))
+                    .until(() -> rec.stats().written() >= 5 && rec.stats().reused() > 0);
+        }
+
+        List<String> names;
+        try (var files = Files.list(dir)) {
+            names = files.map(p -> p.getFileName().toString()).filter(n -> n.startsWith("frame_")).sorted().toList();
+        }
+        assertThat(names).hasSizeGreaterThanOrEqualTo(5);
+        // consecutive numbers from 1 (no gaps for dropped frames)
+        for (int i = 0; i < names.size(); i++) {
+            assertThat(names.get(i)).isEqualTo(String.format("frame_%06d.png", i + 1));
+        }
+    }
+
+    @Test
+    void recorderKeepsCaptureOrderAndFpsWhenRendersFinishOutOfOrderOrDrop(@TempDir Path dir) throws Exception {
+        // every capture gets a new version; odd versions render slowly, so later frames finish first
+        AtomicLong captures = new AtomicLong();
+        HeadlessResultRecorder rec = new HeadlessResultRecorder(
+                () -> GameView.capture(null, captures.incrementAndGet()),
+                view -> {
+                    try {
+                        Thread.sleep(view.version() % 2 == 1 ? 60 : 1);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    BufferedImage img = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+                    img.setRGB(0, 0, (int) view.version()); // version readable from the file
+                    return img;
+                }, dir, 100.0, 2);
+        rec.start();
+        await().atMost(Duration.ofSeconds(20))
+                .until(() -> rec.stats().dropped() > 3 && rec.stats().written() >= 20);
+        rec.close();
+        HeadlessResultRecorder.Stats stats = rec.stats();
+
+        List<Path> files;
+        try (var list = Files.list(dir)) {
+            files = list.filter(p -> p.getFileName().toString().startsWith("frame_")).sorted().toList();
+        }
+        List<Integer> versions = new ArrayList<>();
+        for (Path f : files) {
+            versions.add(ImageIO.read(f.toFile()).getRGB(0, 0) & 0xFFFFFF);
+        }
+
+        // timing: one file per tick, dropped ticks repeat the previous frame
+        assertThat(files).hasSize((int) stats.frames());
+        assertThat(stats.repeated()).isEqualTo(stats.dropped());
+        // order: capture order on disk, every captured view exactly once before its repeats
+        assertThat(versions).isSorted();
+        assertThat(versions.stream().distinct().toList())
+                .isEqualTo(IntStream.rangeClosed(1, (int) captures.get()).boxed().toList());
+    }
+}
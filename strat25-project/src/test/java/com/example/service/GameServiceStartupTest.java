@@ -0,0 +1,40 @@
+package com.example.service;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.model.GameView;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/** The launcher constructs a GameService before anything is picked: it must not start threads or servers. */
+class GameServiceStartupTest {
+
+    @Test
+    void constructionStartsNoRuntimeAndNoNetwork() {
+        long logicThreads = countThreads("game-logic");
+
+        GameService gameService = new GameService();
+        try {
+            assertThat(countThreads("game-logic")).isEqualTo(logicThreads);
+            assertThat(gameService.getInputServerStats()).isNull();
+            assertThat(gameService.getResultBoardStats()).isNull();
+            assertThat(gameService.getGameView()).isSameAs(GameView.EMPTY);
+            gameService.stopGame(); // no-op without runtime (Starter.stop on an unused launcher)
+
+            gameService.buildNewGame("Startup");
+            assertThat(countThreads("game-logic")).isEqualTo(logicThreads + 1);
+        } finally {
+            gameService.shutdown(); // runtime threads must not outlive the test (shared surefire JVM)
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> countThreads("game-logic") == logicThreads);
+    }
+
+    private static long countThreads(String name) {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> t.isAlive() && t.getName().equals(name))
+                .count();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.service;
+
+import com.example.net.InputMessage;
+import com.example.net.InputType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class PerformanceMonitorTest {
+
+    @Test
+    void samplesInputRateLatencyAndHeapAsDeltas() throws Exception {
+        GameService gameService = new GameService();
+        gameService.buildNewGame("Perf");
+        try (PerformanceMonitor monitor = new PerformanceMonitor(gameService)) {
+            for (int i = 0; i < 50; i++) {
+                gameService.applyInputMessage(new InputMessage(InputType.SET_SPEED).put("speed", 1.0));
+            }
+            gameService.callOnLogic(() -> null); // all inputs applied
+            Thread.sleep(20);
+
+            PerformanceMonitor.Sample s = monitor.sample();
+            assertThat(s.inputsPerSecond()).isPositive();
+            assertThat(s.inputMeanMillis()).isPositive();
+            assertThat(s.logicUtilization()).isBetween(0.0, 1.0);
+            assertThat(s.heapUsedBytes()).isPositive();
+            assertThat(s.lastSaveMillis()).isEqualTo(-1.0);
+            assertThat(s.format()).contains("Eingaben", "Heap");
+
+            // nothing new since the last sample
+            assertThat(monitor.sample().inputsPerSecond()).isZero();
+        }
+    }
+
+    @Test
+    void backgroundSamplerDeliversAtTheConfiguredRate() throws Exception {
+        GameService gameService = new GameService();
+        CopyOnWriteArrayList<PerformanceMonitor.Sample> samples = new CopyOnWriteArrayList<>();
+        try (AutoCloseable handle = gameService.startPerformanceMonitor(Duration.ofMillis(100), samples::add)) {
+            await().atMost(Duration.ofSeconds(3)).until(() -> samples.size() >= 3);
+        }
+        int stopped = samples.size();
+        Thread.sleep(300);
+        assertThat(samples.size()).isLessThanOrEqualTo(stopped + 1);
+    }
+}
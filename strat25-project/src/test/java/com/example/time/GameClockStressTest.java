@@ -0,0 +1,155 @@
+package com.example.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.example.metrics.MetricsRegistry;
+import com.example.model.Game;
+import com.example.time.LogicExecutor.Lane;
+import com.example.time.LogicExecutor.LaneConfig;
+import com.example.time.LogicExecutor.OverloadPolicy;
+
+/**
+ * Drives the clock tick by tick (no scheduler) and checks that event counts only depend on
+ * game time, not on game speed.
+ */
+public class GameClockStressTest {
+
+    private static final int TICKS = 120;
+
+    @ParameterizedTest
+    @ValueSource(doubles = { 1, 2.5, 10, 100, 1000 })
+    void eventCountsMatchGameTimeAtAnySpeed(double speed) {
+        Game game = new Game("Stress", new ArrayList<>(), new ArrayList<>());
+        game.getGameTime().setGameSpeed(speed);
+        AtomicLong every10 = new AtomicLong();
+        AtomicLong every600 = new AtomicLong();
+        AtomicLong coalesced = new AtomicLong();
+
+        try (GameClock clock = new GameClock(() -> game, Runnable::run)) {
+            clock.registerPeriodicByGameTime("p10", every10::incrementAndGet, 10);
+            clock.registerPeriodicByGameTime("p600", every600::incrementAndGet, 600);
+            clock.registerPeriodicByGameTime("save", coalesced::incrementAndGet, 10, 10, true);
+
+            for (int i = 0; i < TICKS; i++) clock.tickOnceOnLogic();
+
+            long elapsed = clock.getElapsedSeconds();
+            GameClock.TickStats stats = clock.getTickStats();
+
+            assertThat(stats.backlogSeconds()).isZero();
+            assertThat(elapsed).isEqualTo((long) Math.floor(speed * TICKS));
+            assertThat(every10.get()).isEqualTo(elapsed / 10);
+            assertThat(every600.get()).isEqualTo(elapsed / 600);
+            // coalesced: never more than once per tick
+            assertThat(coalesced.get()).isEqualTo(Math.min(elapsed / 10, TICKS));
+        }
+    }
+
+    @Test
+    void overBudgetTicksCarryGameTimeOverWithoutLosingEvents() {
+        Game game = new Game("Stress", new ArrayList<>(), new ArrayList<>());
+        game.getGameTime().setGameSpeed(1000);
+        AtomicLong fired = new AtomicLong();
+
+        try (GameClock clock = new GameClock(() -> game, Runnable::run)) {
+            clock.setTickBudget(2, TimeUnit.MILLISECONDS);
+            clock.setMaxBacklogTicks(1000); // nothing dropped in this test
+            clock.registerPeriodicByGameTime("slow", () -> {
+                fired.incrementAndGet();
+                burnCpu(TimeUnit.MICROSECONDS.toNanos(500));
+            }, 10);
+
+            for (int i = 0; i < 5; i++) clock.tickOnceOnLogic();
+
+            GameClock.TickStats stats = clock.getTickStats();
+            long elapsed = clock.getElapsedSeconds();
+            // the clock fell behind (effective speed < 1000x) ...
+            assertThat(stats.overBudgetTicks()).isPositive();
+            assertThat(stats.backlogSeconds()).isPositive();
+            assertThat(elapsed + stats.backlogSeconds()).isEqualTo(5 * 1000.0);
+            // ... but every event that is due in game time did fire
+            assertThat(fired.get()).isEqualTo(elapsed / 10);
+        }
+    }
+
+    private static void burnCpu(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    void metricsRecordEveryTickAndEveryEventRun() {
+        Game game = new Game("Stress", new ArrayList<>(), new ArrayList<>());
+        MetricsRegistry metrics = new MetricsRegistry();
+
+        try (GameClock clock = new GameClock(() -> game, Runnable::run)) {
+            clock.setMetrics(metrics);
+            clock.registerPeriodicByGameTime("prestigeDistribution", () -> { }, 10);
+
+            for (int i = 0; i < 30; i++) clock.tickOnceOnLogic();
+        }
+
+        assertThat(metrics.timer("clock.tick").stats().count()).isEqualTo(30);
+        assertThat(metrics.timer("clock.event.prestigeDistribution").stats().count()).isEqualTo(3);
+    }
+
+    @Test
+    void lateTicksReportTheirLagBehindSchedule() {
+        Game game = new Game("Stress", new ArrayList<>(), new ArrayList<>());
+        MetricsRegistry metrics = new MetricsRegistry();
+
+        try (GameClock clock = new GameClock(() -> game, Runnable::run)) {
+            clock.setMetrics(metrics);
+            long now = System.nanoTime();
+            clock.tickOnceOnLogic(now - TimeUnit.MILLISECONDS.toNanos(40)); // 40 ms late
+            clock.tickOnceOnLogic(now + TimeUnit.SECONDS.toNanos(1));       // early: no lag
+
+            GameClock.TickStats stats = clock.getTickStats();
+            assertThat(stats.lastLagMicros()).isZero();
+            assertThat(stats.maxLagMicros()).isGreaterThanOrEqualTo(40_000);
+            assertThat(metrics.timer("clock.lag").stats().count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void clockKeepsTickingAfterTheTickLaneWasFull() throws Exception {
+        Game game = new Game("Stress", new ArrayList<>(), new ArrayList<>());
+        LogicExecutor logic = new LogicExecutor("test-logic",
+                Map.of(Lane.TICK, new LaneConfig(1, OverloadPolicy.BLOCK, 20)), 32);
+        CountDownLatch gate = new CountDownLatch(1);
+
+        try (GameClock clock = new GameClock(() -> game, logic.lane(Lane.TICK), TimeUnit.MILLISECONDS.toNanos(20))) {
+            logic.execute(Lane.INPUT, () -> {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            clock.start();
+
+            // logic thread blocked: the lane fills up and further ticks are rejected
+            await().atMost(Duration.ofSeconds(5)).until(() -> clock.getTickStats().droppedTicks() > 0);
+            gate.countDown();
+
+            long ticksAfterRelease = clock.getTickStats().ticks();
+            await().atMost(Duration.ofSeconds(5))
+                    .until(() -> clock.getTickStats().ticks() >= ticksAfterRelease + 5);
+        } finally {
+            logic.shutdownNow();
+        }
+    }
+}
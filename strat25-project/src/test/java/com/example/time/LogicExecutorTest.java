@@ -0,0 +1,84 @@
+package com.example.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.time.LogicExecutor.Lane;
+import com.example.time.LogicExecutor.LaneConfig;
+import com.example.time.LogicExecutor.OverloadPolicy;
+
+public class LogicExecutorTest {
+
+    @Test
+    void ticksOvertakeQueuedInputsButMaintenanceIsNotStarved() throws Exception {
+        LogicExecutor ex = new LogicExecutor("test-logic", null, 4);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch gate = new CountDownLatch(1);
+
+        // hold the worker so everything below queues up
+        ex.execute(Lane.INPUT, () -> awaitQuietly(gate));
+        ex.execute(Lane.MAINTENANCE, () -> order.add("save"));
+        for (int i = 0; i < 6; i++) {
+            int n = i;
+            ex.execute(Lane.INPUT, () -> order.add("in" + n));
+        }
+        ex.execute(Lane.TICK, () -> order.add("tick"));
+        gate.countDown();
+
+        ex.shutdown();
+        assertThat(ex.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(order.get(0)).isEqualTo("tick");
+        // maintenance gets its slot after at most 4 overtaking tasks, not after all inputs
+        assertThat(order.indexOf("save")).isLessThanOrEqualTo(4);
+        assertThat(order).hasSize(8);
+    }
+
+    @Test
+    void fullLaneAppliesOverloadPolicy() throws Exception {
+        Map<Lane, LaneConfig> cfg = new EnumMap<>(Lane.class);
+        cfg.put(Lane.INPUT, LaneConfig.of(2, OverloadPolicy.DROP_OLDEST));
+        cfg.put(Lane.MAINTENANCE, LaneConfig.of(1, OverloadPolicy.REJECT));
+        LogicExecutor ex = new LogicExecutor("test-logic", cfg, 32);
+        CountDownLatch gate = new CountDownLatch(1);
+        List<Integer> ran = Collections.synchronizedList(new ArrayList<>());
+
+        ex.execute(Lane.TICK, () -> awaitQuietly(gate));
+        for (int i = 0; i < 5; i++) {
+            int n = i;
+            ex.execute(Lane.INPUT, () -> ran.add(n));
+        }
+        ex.execute(Lane.MAINTENANCE, () -> { });
+        assertThatThrownBy(() -> ex.execute(Lane.MAINTENANCE, () -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+        gate.countDown();
+
+        ex.shutdown();
+        assertThat(ex.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ran).containsExactly(3, 4);
+        LogicExecutor.LaneMetrics input = ex.getLaneMetrics().get(Lane.INPUT.ordinal());
+        assertThat(input.dropped()).isEqualTo(3);
+        assertThat(input.maxDepth()).isEqualTo(2);
+        assertThat(ex.getLaneMetrics().get(Lane.MAINTENANCE.ordinal()).rejected()).isEqualTo(1);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
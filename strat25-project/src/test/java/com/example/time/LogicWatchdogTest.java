@@ -0,0 +1,99 @@
+package com.example.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.metrics.MetricsRegistry;
+
+/**
+ * Blocks a stand-in "logic thread" in a known method while a tick is overdue and checks that the
+ * watchdog samples it, reports the stall and charges the blocked time to that method.
+ */
+public class LogicWatchdogTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void overdueTickIsSampledReportedAndChargedToTheBlockingMethod() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        Thread logic = new Thread(() -> slowEventJob(blocked, release), "game-logic-test");
+        logic.start();
+        blocked.await();
+
+        AtomicReference<OptionalLong> pending = new AtomicReference<>(OptionalLong.empty());
+        MetricsRegistry metrics = new MetricsRegistry();
+        List<LogicWatchdog.Stall> seen = new CopyOnWriteArrayList<>();
+
+        try (LogicWatchdog watchdog = new LogicWatchdog(pending::get, logic, metrics,
+                Duration.ofMillis(250), Duration.ofMillis(20))) {
+            watchdog.subscribe(seen::add);
+            long due = System.nanoTime();
+            pending.set(OptionalLong.of(due));
+
+            watchdog.check(due + 100 * MS);   // late, but below the threshold
+            assertThat(seen).isEmpty();
+
+            watchdog.check(due + 300 * MS);   // stall begins
+            watchdog.check(due + 320 * MS);
+            watchdog.check(due + 340 * MS);
+            assertThat(seen).hasSize(1);
+            assertThat(seen.get(0).ongoing()).isTrue();
+            assertThat(seen.get(0).topFrame()).endsWith("LogicWatchdogTest.slowEventJob");
+
+            pending.set(OptionalLong.empty()); // the tick started
+            watchdog.check(due + 360 * MS);
+
+            assertThat(seen).hasSize(2);
+            LogicWatchdog.Stall stall = seen.get(1);
+            assertThat(stall.ongoing()).isFalse();
+            assertThat(stall.samples()).hasSize(3);
+            assertThat(stall.blockedNanos()).isEqualTo(360 * MS);
+            assertThat(watchdog.recentStalls()).containsExactly(stall);
+
+            List<LogicWatchdog.Offender> top = watchdog.topOffenders(5);
+            assertThat(top).hasSize(1);
+            assertThat(top.get(0).frame()).isEqualTo(LogicWatchdogTest.class.getName() + ".slowEventJob");
+            assertThat(top.get(0).blockedNanos()).isEqualTo(360 * MS);
+            assertThat(metrics.counter("watchdog.stalls").get()).isEqualTo(1);
+            assertThat(metrics.timer("watchdog.blocked").stats().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            logic.join();
+        }
+    }
+
+    @Test
+    void ringKeepsOnlyTheLastStalls() {
+        AtomicReference<OptionalLong> pending = new AtomicReference<>(OptionalLong.empty());
+        try (LogicWatchdog watchdog = new LogicWatchdog(pending::get, Thread.currentThread(), new MetricsRegistry())) {
+            long t = System.nanoTime();
+            for (int i = 0; i < LogicWatchdog.RING_SIZE + 5; i++) {
+                pending.set(OptionalLong.of(t));
+                watchdog.check(t + 400 * MS);
+                pending.set(OptionalLong.empty());
+                watchdog.check(t + 500 * MS);
+                t += 1_000 * MS;
+            }
+            assertThat(watchdog.recentStalls()).hasSize(LogicWatchdog.RING_SIZE);
+        }
+    }
+
+    private static void slowEventJob(CountDownLatch blocked, CountDownLatch release) {
+        blocked.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.time;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.model.Game;
+import com.example.time.LogicExecutor.Lane;
+
+public class SnapshotBarrierTest {
+
+    @Test
+    void waitingRequestsShareOneCaptureTakenBetweenTicks() throws Exception {
+        Game game = new Game("Snap", new ArrayList<>(), new ArrayList<>());
+        LogicExecutor logic = new LogicExecutor("test-logic");
+        ExecutorService io = Executors.newSingleThreadExecutor();
+        try (GameClock clock = new GameClock(() -> game, logic.lane(Lane.TICK))) {
+            SnapshotBarrier barrier = new SnapshotBarrier(() -> game, () -> clock.getTickStats().ticks(),
+                    logic.lane(Lane.TICK), io);
+            CountDownLatch gate = new CountDownLatch(1);
+
+            // a "tick" in progress: the capture must wait for it
+            logic.execute(Lane.TICK, () -> {
+                awaitQuietly(gate);
+                clock.tickOnceOnLogic();
+            });
+            CompletableFuture<GameSnapshot> a = barrier.request();
+            CompletableFuture<GameSnapshot> b = barrier.request();
+            gate.countDown();
+
+            GameSnapshot sa = a.get(5, TimeUnit.SECONDS);
+            GameSnapshot sb = b.get(5, TimeUnit.SECONDS);
+            assertThat(sa).isSameAs(sb);
+            assertThat(sa.epoch()).isEqualTo(1);
+            assertThat(sa.tick()).isEqualTo(1);
+            assertThat(sa.scaledSeconds()).isEqualTo(1.0);
+            assertThat(sa.restore().getGameTime().getScaledSeconds()).isEqualTo(1.0);
+
+            // a later request gets a new epoch
+            assertThat(barrier.request().get(5, TimeUnit.SECONDS).epoch()).isEqualTo(2);
+        } finally {
+            logic.shutdown();
+            io.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
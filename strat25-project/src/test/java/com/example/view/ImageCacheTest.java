@@ -0,0 +1,72 @@
+package com.example.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/** Key/bucket rounding of {@link ImageCache} and the budget LRU behind it (no JavaFX toolkit needed). */
+public class ImageCacheTest {
+
+    @Test
+    void sizesRoundUpToBucketsAndZeroUsesTheSmallest() {
+        assertThat(ImageCache.bucket(1)).isEqualTo(ImageCache.SIZE_STEP);
+        assertThat(ImageCache.bucket(128)).isEqualTo(128);
+        assertThat(ImageCache.bucket(128.5)).isEqualTo(256);
+        assertThat(ImageCache.bucket(0)).isEqualTo(ImageCache.SIZE_STEP);
+        assertThat(ImageCache.bucket(-5)).isEqualTo(ImageCache.SIZE_STEP);
+        assertThat(ImageCache.bucket(Double.NaN)).isEqualTo(ImageCache.SIZE_STEP);
+
+        // nearby sizes share one entry, the URL is part of the key
+        assertThat(ImageCache.key("a.png", 300, 200)).isEqualTo(ImageCache.key("a.png", 380, 129));
+        assertThat(ImageCache.key("a.png", 300, 200)).isNotEqualTo(ImageCache.key("a.png", 390, 200));
+        assertThat(ImageCache.key("a.png", 300, 200)).isNotEqualTo(ImageCache.key("b.png", 300, 200));
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesAreEvictedToFitTheBudget() {
+        BudgetLru<String, Object> lru = new BudgetLru<>(300);
+        Object a = new Object(), b = new Object(), c = new Object();
+        lru.put("a", a, 100);
+        lru.put("b", b, 100);
+        lru.put("c", c, 100);
+        lru.get("a"); // a is now more recent than b
+
+        lru.put("d", new Object(), 100);
+
+        assertThat(lru.get("b")).isNull();
+        assertThat(lru.get("a")).isSameAs(a);
+        assertThat(lru.usedBytes()).isEqualTo(300);
+        assertThat(lru.evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void resizeAccountsTheRealSizeAndKeepsTheNewestEntry() {
+        BudgetLru<String, Object> lru = new BudgetLru<>(1_000);
+        Object a = new Object(), b = new Object();
+        lru.put("a", a, 400);
+        lru.put("b", b, 400);
+
+        // decoded larger than estimated: the older entry goes, the newest stays even above budget
+        assertThat(lru.resize("b", b, 1_500)).isTrue();
+        assertThat(lru.size()).isEqualTo(1);
+        assertThat(lru.usedBytes()).isEqualTo(1_500);
+
+        // a stale callback for a replaced value changes nothing
+        assertThat(lru.resize("b", new Object(), 10)).isFalse();
+        assertThat(lru.remove("b", new Object())).isFalse();
+        assertThat(lru.remove("b", b)).isTrue();
+        assertThat(lru.usedBytes()).isZero();
+    }
+
+    @Test
+    void shrinkingTheBudgetEvictsImmediately() {
+        BudgetLru<String, Object> lru = new BudgetLru<>(1_000);
+        for (int i = 0; i < 5; i++) lru.put("k" + i, new Object(), 200);
+
+        lru.setBudgetBytes(450);
+
+        assertThat(lru.size()).isEqualTo(2);
+        assertThat(lru.get("k4")).isNotNull();
+        assertThat(lru.usedBytes()).isEqualTo(400);
+    }
+}
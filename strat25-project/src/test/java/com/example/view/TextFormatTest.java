@@ -0,0 +1,27 @@
+package com.example.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class TextFormatTest {
+
+    @ParameterizedTest
+    @ValueSource(doubles = { 0.0, 0.004, 0.05, 1.0, 1.5, 12.345, 99.999, 1234.5678, -3.25, 1e9 + 0.5,
+            1.005, 2.675, 0.125, -1.005, 0.045, 1.45 })
+    void fixedMatchesStringFormat(double v) {
+        assertThat(TextFormat.fixed("", 2, "").format(v)).isEqualTo(String.format("%.2f", v));
+        assertThat(TextFormat.fixed("(", 2, "x)").format(v)).isEqualTo(String.format("(%.2fx)", v));
+        assertThat(TextFormat.fixed("", 1, "%").format(v)).isEqualTo(String.format("%.1f%%", v));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = { 0.0, 59.9, 61.0, 3599.0, 3600.0, 86399.5, 360000.0 })
+    void clockMatchesStringFormat(double seconds) {
+        long s = (long) Math.floor(seconds);
+        String expected = String.format("%02d:%02d:%02d", s / 3600, (s % 3600) / 60, s % 60);
+
+        assertThat(TextFormat.CLOCK.format(seconds)).isEqualTo(expected);
+    }
+}